@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * {@link BenchmarkRunner} runs the benchmarks with the JMH command line options. If no profiler has been requested
+ * the {@link GCProfiler} is added, so the allocation per operation is reported next to the throughput.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Construct a new {@link BenchmarkRunner} object. This always fails, because the class is a static class. So it
+     * only contains static objects.
+     *
+     * @throws IllegalAccessException If the constructor is accessed.
+     * @since 1.7.0
+     */
+    @Contract(value = " -> fail",
+              pure = true)
+    @ApiStatus.Internal
+    private BenchmarkRunner() throws IllegalAccessException {
+        throw new IllegalAccessException("This class is an static class, so this class cannot be initialized.");
+    }
+
+    /**
+     * Run the benchmarks that are selected by the command line options.
+     *
+     * @param args The JMH command line options.
+     *
+     * @throws CommandLineOptionException If the command line options are not valid.
+     * @throws RunnerException            If a benchmark fails.
+     * @throws IOException                If the help or the list of benchmarks cannot be printed.
+     * @since 1.7.0
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        if (commandLineOptions.shouldHelp()
+                || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListWithParams()
+                || commandLineOptions.shouldListProfilers()
+                || commandLineOptions.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        if (!commandLineOptions.getProfilers().isEmpty()) {
+            new Runner(commandLineOptions).run();
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
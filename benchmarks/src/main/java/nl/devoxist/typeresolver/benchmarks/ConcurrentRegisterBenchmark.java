@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.register.ConcurrentRegister;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.register.RegisterPriority;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConcurrentRegisterBenchmark} measures the lookups in a shared {@link ConcurrentRegister}. The
+ * {@link #lookup()} benchmark shows the scaling with the amount of reader threads, run it with {@code -t 1},
+ * {@code -t 8}, {@code -t 32}. The {@code readWrite} group measures the lookups while another thread registers and
+ * unregisters a type.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class ConcurrentRegisterBenchmark {
+    /**
+     * The shared {@link ConcurrentRegister}, that has combined another {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    private Register register;
+
+    /**
+     * Construct the shared {@link ConcurrentRegister}.
+     *
+     * @since 1.7.0
+     */
+    @Setup
+    public void setup() {
+        Register combined = new ConcurrentRegister(RegisterPriority.HIGH);
+        combined.register(Dependency.class, new Dependency());
+
+        this.register = new ConcurrentRegister(combined);
+        this.register.register(Service.class, new Service());
+    }
+
+    /**
+     * Search a type through all the {@link Register}s.
+     *
+     * @return The found object.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Dependency lookup() {
+        return register.getInitProvider(Dependency.class, true);
+    }
+
+    /**
+     * Search a type through all the {@link Register}s, while {@link #write()} changes the {@link Register}.
+     *
+     * @return The found object.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(7)
+    public Service read() {
+        return register.getInitProvider(Service.class, true);
+    }
+
+    /**
+     * Register and unregister a plugin type, while {@link #read()} searches through the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void write() {
+        register.register(Plugin.class, new Plugin());
+        register.unregister(Plugin.class);
+    }
+
+    /**
+     * The type that is registered in the combined {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Dependency {
+    }
+
+    /**
+     * The type that is registered in the shared {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Service {
+    }
+
+    /**
+     * The type that is registered and unregistered at runtime.
+     *
+     * @since 1.7.0
+     */
+    public static final class Plugin {
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import nl.devoxist.typeresolver.constructor.Injector;
+import nl.devoxist.typeresolver.constructor.InstantiationStrategy;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.settings.ConstructionSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConstructorResolverBenchmark} compares the {@link InstantiationStrategy}s of the {@link ConstructorResolver}
+ * with each other, with an {@link Injector} and with a direct construction of the same class.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class ConstructorResolverBenchmark {
+    /**
+     * The strategy that is used to invoke the constructor.
+     *
+     * @since 1.7.0
+     */
+    @Param({"REFLECTION", "METHOD_HANDLE", "HIDDEN_CLASS"})
+    public InstantiationStrategy instantiationStrategy;
+
+    /**
+     * The {@link Register} that contains the parameters of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    private Register register;
+    /**
+     * The settings of the construction of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    private ConstructionSettings constructionSettings;
+    /**
+     * The {@link Injector} that is bound to the {@link #constructionSettings}.
+     *
+     * @since 1.7.0
+     */
+    private Injector injector;
+
+    /**
+     * Register the parameters of the {@link Handler}, and set the settings of the construction.
+     *
+     * @since 1.7.0
+     */
+    @Setup
+    public void setup() {
+        Register register = new Register();
+        register.register(Repository.class, new Repository());
+        register.registerScoped(Service.class, Service::new);
+
+        ConstructionSettings constructionSettings = new ConstructionSettings();
+        constructionSettings.setRegisters(register);
+        constructionSettings.setInstantiationStrategy(instantiationStrategy);
+
+        this.register = register;
+        this.constructionSettings = constructionSettings;
+        this.injector = new Injector(constructionSettings);
+    }
+
+    /**
+     * Construct the {@link Handler} with the {@link ConstructorResolver}.
+     *
+     * @return The constructed {@link Handler}.
+     *
+     * @throws Exception if the {@link Handler} cannot be constructed.
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Handler constructorResolver() throws Exception {
+        return ConstructorResolver.initClass(Handler.class, constructionSettings);
+    }
+
+    /**
+     * Construct the {@link Handler} with the {@link Injector}.
+     *
+     * @return The constructed {@link Handler}.
+     *
+     * @throws Exception if the {@link Handler} cannot be constructed.
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Handler injector() throws Exception {
+        return injector.create(Handler.class);
+    }
+
+    /**
+     * Construct the {@link Handler} directly, with the parameters from the {@link Register}.
+     *
+     * @return The constructed {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Handler direct() {
+        return new Handler(register.getInitProvider(Repository.class), register.getInitProvider(Service.class));
+    }
+
+    /**
+     * A singleton parameter of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Repository {
+    }
+
+    /**
+     * A scoped parameter of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Service {
+    }
+
+    /**
+     * The class that is constructed in the benchmarks.
+     *
+     * @param repository The singleton parameter.
+     * @param service    The scoped parameter.
+     *
+     * @since 1.7.0
+     */
+    public record Handler(Repository repository, Service service) {
+        @ConstructorResolving
+        public Handler {
+        }
+    }
+}
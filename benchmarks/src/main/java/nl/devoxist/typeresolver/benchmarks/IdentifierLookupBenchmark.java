@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.providers.builders.IdentifiersBuilder;
+import nl.devoxist.typeresolver.register.Register;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IdentifierLookupBenchmark} compares the resolution of an
+ * {@link nl.devoxist.typeresolver.providers.IdentifierProvider} through the
+ * {@link nl.devoxist.typeresolver.settings.InitProviderSettings} with the direct resolution through the identifiers.
+ * Run it with the {@code -prof gc} profiler to compare the allocation per resolution.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class IdentifierLookupBenchmark {
+    /**
+     * The {@link Register} that contains the {@link Tenant} linked to an
+     * {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @since 1.7.0
+     */
+    private Register register;
+    /**
+     * The identifiers of the searched {@link Tenant}.
+     *
+     * @since 1.7.0
+     */
+    private Object[] identifiers;
+
+    /**
+     * Register the {@link Tenant}s by their names.
+     *
+     * @since 1.7.0
+     */
+    @Setup
+    public void setup() {
+        Register register = new Register();
+
+        register.register(
+                Tenant.class,
+                (IdentifiersBuilder<Tenant, String> settings) -> settings
+                        .addIdentifier("north", new Tenant())
+                        .addIdentifier("south", new Tenant())
+                        .addIdentifier("west", new Tenant())
+        );
+
+        this.register = register;
+        this.identifiers = new Object[]{"south"};
+    }
+
+    /**
+     * Resolve the {@link Tenant} through the {@link nl.devoxist.typeresolver.settings.InitProviderSettings}.
+     *
+     * @return The resolved {@link Tenant}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Tenant settings() {
+        return register.getInitProvider(Tenant.class, settings -> settings.setIdentifiers(identifiers));
+    }
+
+    /**
+     * Resolve the {@link Tenant} directly through the identifiers.
+     *
+     * @return The resolved {@link Tenant}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Tenant identifiers() {
+        return register.getInitProvider(Tenant.class, identifiers);
+    }
+
+    /**
+     * The type that is resolved in the benchmarks.
+     *
+     * @since 1.7.0
+     */
+    public static final class Tenant {
+    }
+}
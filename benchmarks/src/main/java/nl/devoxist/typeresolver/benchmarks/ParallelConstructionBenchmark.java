@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.settings.ConstructionSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParallelConstructionBenchmark} compares the construction of a class with slow parameters, of which the
+ * parameters are resolved one after another, with a construction of which the parameters are resolved on a
+ * {@link ForkJoinPool}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class ParallelConstructionBenchmark {
+    /**
+     * The time in milliseconds that a parameter takes to be resolved.
+     *
+     * @since 1.7.0
+     */
+    private static final long PARAMETER_MILLIS = 2;
+
+    /**
+     * Whether the parameters are resolved on the {@link #executor}.
+     *
+     * @since 1.7.0
+     */
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    /**
+     * The {@link ForkJoinPool} that resolves the parameters.
+     *
+     * @since 1.7.0
+     */
+    private ForkJoinPool executor;
+    /**
+     * The settings of the construction of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    private ConstructionSettings constructionSettings;
+
+    /**
+     * Register the slow parameters of the {@link Handler}, and set the settings of the construction.
+     *
+     * @since 1.7.0
+     */
+    @Setup
+    public void setup() {
+        Register register = new Register();
+        register.registerScoped(Connection.class, () -> slow(new Connection()));
+        register.registerScoped(Config.class, () -> slow(new Config()));
+        register.registerScoped(Cache.class, () -> slow(new Cache()));
+
+        ConstructionSettings constructionSettings = new ConstructionSettings();
+        constructionSettings.setRegisters(register);
+
+        if (parallel) {
+            this.executor = new ForkJoinPool(3);
+            constructionSettings.setParameterExecutor(executor);
+        }
+
+        this.constructionSettings = constructionSettings;
+    }
+
+    /**
+     * Shut down the {@link #executor}.
+     *
+     * @since 1.7.0
+     */
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Construct the {@link Handler} with the {@link ConstructorResolver}.
+     *
+     * @return The constructed {@link Handler}.
+     *
+     * @throws Exception if the {@link Handler} cannot be constructed.
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Handler constructorResolver() throws Exception {
+        return ConstructorResolver.initClass(Handler.class, constructionSettings);
+    }
+
+    /**
+     * Wait {@link #PARAMETER_MILLIS} before the parameter is returned, like a parameter that opens a connection.
+     *
+     * @param parameter The parameter that is returned.
+     * @param <T>       type of the parameter.
+     *
+     * @return The parameter.
+     *
+     * @since 1.7.0
+     */
+    private static <T> T slow(T parameter) {
+        try {
+            Thread.sleep(PARAMETER_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return parameter;
+    }
+
+    /**
+     * A slow parameter of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Connection {
+    }
+
+    /**
+     * A slow parameter of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Config {
+    }
+
+    /**
+     * A slow parameter of the {@link Handler}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Cache {
+    }
+
+    /**
+     * The class that is constructed in the benchmarks.
+     *
+     * @param connection The first slow parameter.
+     * @param config     The second slow parameter.
+     * @param cache      The third slow parameter.
+     *
+     * @since 1.7.0
+     */
+    public record Handler(Connection connection, Config config, Cache cache) {
+        @ConstructorResolving
+        public Handler {
+        }
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import nl.devoxist.typeresolver.constructor.InstantiationStrategy;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.settings.ConstructionSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParameterCountBenchmark} measures the construction of classes with 0 up to 10 parameters through the
+ * {@link ConstructorResolver}, for every {@link InstantiationStrategy}. The {@code concurrentConstruction} group
+ * measures the construction while several threads share the construction plan of the class.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class ParameterCountBenchmark {
+    /**
+     * The constructed classes, the index is the amount of parameters of the class.
+     *
+     * @since 1.7.0
+     */
+    private static final Class<?>[] ARITIES = {
+            Arity0.class,
+            Arity1.class,
+            Arity2.class,
+            Arity3.class,
+            Arity4.class,
+            Arity5.class,
+            Arity6.class,
+            Arity7.class,
+            Arity8.class,
+            Arity9.class,
+            Arity10.class
+    };
+
+    /**
+     * The amount of parameters of the constructed class, from 0 up to 10.
+     *
+     * @since 1.7.0
+     */
+    @Param({"0", "1", "2", "5", "10"})
+    public int parameterCount;
+    /**
+     * The strategy that is used to invoke the constructor.
+     *
+     * @since 1.7.0
+     */
+    @Param({"REFLECTION", "METHOD_HANDLE", "HIDDEN_CLASS"})
+    public InstantiationStrategy instantiationStrategy;
+
+    /**
+     * The class that is constructed in the benchmarks.
+     *
+     * @since 1.7.0
+     */
+    private Class<?> constructedCls;
+    /**
+     * The settings of the construction of the {@link #constructedCls}.
+     *
+     * @since 1.7.0
+     */
+    private ConstructionSettings constructionSettings;
+
+    /**
+     * Register the parameters of the constructed classes, and set the settings of the construction.
+     *
+     * @since 1.7.0
+     */
+    @Setup
+    public void setup() {
+        Register register = new Register();
+        register.register(D0.class, new D0());
+        register.register(D1.class, new D1());
+        register.register(D2.class, new D2());
+        register.register(D3.class, new D3());
+        register.register(D4.class, new D4());
+        register.register(D5.class, new D5());
+        register.register(D6.class, new D6());
+        register.register(D7.class, new D7());
+        register.register(D8.class, new D8());
+        register.register(D9.class, new D9());
+
+        ConstructionSettings constructionSettings = new ConstructionSettings();
+        constructionSettings.setRegisters(register);
+        constructionSettings.setInstantiationStrategy(instantiationStrategy);
+
+        this.constructedCls = ARITIES[parameterCount];
+        this.constructionSettings = constructionSettings;
+    }
+
+    /**
+     * Construct the class with the {@link ConstructorResolver}.
+     *
+     * @return The constructed object.
+     *
+     * @throws Exception if the class cannot be constructed.
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Object construction() throws Exception {
+        return ConstructorResolver.initClass(constructedCls, constructionSettings);
+    }
+
+    /**
+     * Construct the class with the {@link ConstructorResolver}, while other threads construct the same class.
+     *
+     * @return The constructed object.
+     *
+     * @throws Exception if the class cannot be constructed.
+     * @since 1.7.0
+     */
+    @Benchmark
+    @Group("concurrentConstruction")
+    @GroupThreads(4)
+    public Object concurrentConstruction() throws Exception {
+        return ConstructorResolver.initClass(constructedCls, constructionSettings);
+    }
+
+    /**
+     * The parameter at index 0 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D0 {
+    }
+
+    /**
+     * The parameter at index 1 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D1 {
+    }
+
+    /**
+     * The parameter at index 2 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D2 {
+    }
+
+    /**
+     * The parameter at index 3 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D3 {
+    }
+
+    /**
+     * The parameter at index 4 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D4 {
+    }
+
+    /**
+     * The parameter at index 5 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D5 {
+    }
+
+    /**
+     * The parameter at index 6 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D6 {
+    }
+
+    /**
+     * The parameter at index 7 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D7 {
+    }
+
+    /**
+     * The parameter at index 8 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D8 {
+    }
+
+    /**
+     * The parameter at index 9 of the constructed classes.
+     *
+     * @since 1.7.0
+     */
+    public static final class D9 {
+    }
+
+    /**
+     * The constructed class without parameters.
+     *
+     * @since 1.7.0
+     */
+    public record Arity0() {
+    }
+
+    /**
+     * The constructed class with 1 parameter.
+     *
+     * @param d0 The parameter at index 0.
+     *
+     * @since 1.7.0
+     */
+    public record Arity1(D0 d0) {
+        @ConstructorResolving
+        public Arity1 {
+        }
+    }
+
+    /**
+     * The constructed class with 2 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     *
+     * @since 1.7.0
+     */
+    public record Arity2(D0 d0, D1 d1) {
+        @ConstructorResolving
+        public Arity2 {
+        }
+    }
+
+    /**
+     * The constructed class with 3 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     *
+     * @since 1.7.0
+     */
+    public record Arity3(D0 d0, D1 d1, D2 d2) {
+        @ConstructorResolving
+        public Arity3 {
+        }
+    }
+
+    /**
+     * The constructed class with 4 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     * @param d3 The parameter at index 3.
+     *
+     * @since 1.7.0
+     */
+    public record Arity4(D0 d0, D1 d1, D2 d2, D3 d3) {
+        @ConstructorResolving
+        public Arity4 {
+        }
+    }
+
+    /**
+     * The constructed class with 5 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     * @param d3 The parameter at index 3.
+     * @param d4 The parameter at index 4.
+     *
+     * @since 1.7.0
+     */
+    public record Arity5(D0 d0, D1 d1, D2 d2, D3 d3, D4 d4) {
+        @ConstructorResolving
+        public Arity5 {
+        }
+    }
+
+    /**
+     * The constructed class with 6 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     * @param d3 The parameter at index 3.
+     * @param d4 The parameter at index 4.
+     * @param d5 The parameter at index 5.
+     *
+     * @since 1.7.0
+     */
+    public record Arity6(D0 d0, D1 d1, D2 d2, D3 d3, D4 d4, D5 d5) {
+        @ConstructorResolving
+        public Arity6 {
+        }
+    }
+
+    /**
+     * The constructed class with 7 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     * @param d3 The parameter at index 3.
+     * @param d4 The parameter at index 4.
+     * @param d5 The parameter at index 5.
+     * @param d6 The parameter at index 6.
+     *
+     * @since 1.7.0
+     */
+    public record Arity7(D0 d0, D1 d1, D2 d2, D3 d3, D4 d4, D5 d5, D6 d6) {
+        @ConstructorResolving
+        public Arity7 {
+        }
+    }
+
+    /**
+     * The constructed class with 8 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     * @param d3 The parameter at index 3.
+     * @param d4 The parameter at index 4.
+     * @param d5 The parameter at index 5.
+     * @param d6 The parameter at index 6.
+     * @param d7 The parameter at index 7.
+     *
+     * @since 1.7.0
+     */
+    public record Arity8(D0 d0, D1 d1, D2 d2, D3 d3, D4 d4, D5 d5, D6 d6, D7 d7) {
+        @ConstructorResolving
+        public Arity8 {
+        }
+    }
+
+    /**
+     * The constructed class with 9 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     * @param d3 The parameter at index 3.
+     * @param d4 The parameter at index 4.
+     * @param d5 The parameter at index 5.
+     * @param d6 The parameter at index 6.
+     * @param d7 The parameter at index 7.
+     * @param d8 The parameter at index 8.
+     *
+     * @since 1.7.0
+     */
+    public record Arity9(D0 d0, D1 d1, D2 d2, D3 d3, D4 d4, D5 d5, D6 d6, D7 d7, D8 d8) {
+        @ConstructorResolving
+        public Arity9 {
+        }
+    }
+
+    /**
+     * The constructed class with 10 parameters.
+     *
+     * @param d0 The parameter at index 0.
+     * @param d1 The parameter at index 1.
+     * @param d2 The parameter at index 2.
+     * @param d3 The parameter at index 3.
+     * @param d4 The parameter at index 4.
+     * @param d5 The parameter at index 5.
+     * @param d6 The parameter at index 6.
+     * @param d7 The parameter at index 7.
+     * @param d8 The parameter at index 8.
+     * @param d9 The parameter at index 9.
+     *
+     * @since 1.7.0
+     */
+    public record Arity10(D0 d0, D1 d1, D2 d2, D3 d3, D4 d4, D5 d5, D6 d6, D7 d7, D8 d8, D9 d9) {
+        @ConstructorResolving
+        public Arity10 {
+        }
+    }
+}
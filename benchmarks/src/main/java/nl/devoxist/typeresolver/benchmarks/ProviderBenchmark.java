@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.metrics.ResolutionMetrics;
+import nl.devoxist.typeresolver.providers.ObjectProvider;
+import nl.devoxist.typeresolver.providers.ScopedProvider;
+import nl.devoxist.typeresolver.providers.SingletonProvider;
+import nl.devoxist.typeresolver.register.ProviderHandle;
+import nl.devoxist.typeresolver.register.Register;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProviderBenchmark} compares the lookups of types that are linked to an {@link ObjectProvider}, a
+ * {@link ScopedProvider} and a {@link SingletonProvider}. The groups measure the same lookups, while several threads
+ * share the {@link Register}. The {@link #objectProviderWithMetrics()} benchmark shows the cost of recording the lookups
+ * in a {@link ResolutionMetrics}, the {@link #objectProviderHandle()} benchmark the lookup through a
+ * {@link ProviderHandle}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class ProviderBenchmark {
+    /**
+     * The {@link Register} that contains the types of the benchmarks.
+     *
+     * @since 1.7.0
+     */
+    private Register register;
+    /**
+     * The {@link Register} that contains the {@link Repository} and records the lookups in a
+     * {@link ResolutionMetrics}.
+     *
+     * @since 1.7.0
+     */
+    private Register measuredRegister;
+    /**
+     * The {@link ProviderHandle} of the {@link Repository} in the {@link #register}.
+     *
+     * @since 1.7.0
+     */
+    private ProviderHandle<Repository> repositoryHandle;
+
+    /**
+     * Register the {@link Repository} to an {@link ObjectProvider}, the {@link Service} to a {@link ScopedProvider}
+     * and the {@link Cache} to a {@link SingletonProvider}.
+     *
+     * @since 1.7.0
+     */
+    @Setup
+    public void setup() {
+        Register register = new Register();
+        register.register(Repository.class, new Repository());
+        register.registerScoped(Service.class, Service::new);
+        register.registerLazy(Cache.class, Cache::new);
+
+        Register measuredRegister = new Register();
+        measuredRegister.register(Repository.class, new Repository());
+        measuredRegister.setMetrics(new ResolutionMetrics());
+
+        this.register = register;
+        this.measuredRegister = measuredRegister;
+        this.repositoryHandle = register.handle(Repository.class);
+    }
+
+    /**
+     * Get the {@link Repository}, which is linked to an {@link ObjectProvider}.
+     *
+     * @return The found {@link Repository}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Repository objectProvider() {
+        return register.getInitProvider(Repository.class);
+    }
+
+    /**
+     * Get the {@link Repository}, which is linked to an {@link ObjectProvider}, while the lookups are recorded in a
+     * {@link ResolutionMetrics}.
+     *
+     * @return The found {@link Repository}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Repository objectProviderWithMetrics() {
+        return measuredRegister.getInitProvider(Repository.class);
+    }
+
+    /**
+     * Get the {@link Repository}, which is linked to an {@link ObjectProvider}, through a {@link ProviderHandle}.
+     *
+     * @return The found {@link Repository}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Repository objectProviderHandle() {
+        return repositoryHandle.get();
+    }
+
+    /**
+     * Get a new {@link Service}, which is linked to a {@link ScopedProvider}.
+     *
+     * @return The constructed {@link Service}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Service scopedProvider() {
+        return register.getInitProvider(Service.class);
+    }
+
+    /**
+     * Get the {@link Cache}, which is linked to a {@link SingletonProvider}.
+     *
+     * @return The found {@link Cache}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Cache singletonProvider() {
+        return register.getInitProvider(Cache.class);
+    }
+
+    /**
+     * Get the {@link Repository} while other threads get it from the same {@link Register}.
+     *
+     * @return The found {@link Repository}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    @Group("sharedObjectProvider")
+    @GroupThreads(4)
+    public Repository sharedObjectProvider() {
+        return register.getInitProvider(Repository.class);
+    }
+
+    /**
+     * Get a new {@link Service} while other threads get it from the same {@link Register}.
+     *
+     * @return The constructed {@link Service}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    @Group("sharedScopedProvider")
+    @GroupThreads(4)
+    public Service sharedScopedProvider() {
+        return register.getInitProvider(Service.class);
+    }
+
+    /**
+     * Get the {@link Cache} while other threads get it from the same {@link Register}.
+     *
+     * @return The found {@link Cache}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    @Group("sharedSingletonProvider")
+    @GroupThreads(4)
+    public Cache sharedSingletonProvider() {
+        return register.getInitProvider(Cache.class);
+    }
+
+    /**
+     * The type that is linked to an {@link ObjectProvider}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Repository {
+    }
+
+    /**
+     * The type that is linked to a {@link ScopedProvider}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Service {
+    }
+
+    /**
+     * The type that is linked to a {@link SingletonProvider}.
+     *
+     * @since 1.7.0
+     */
+    public static final class Cache {
+    }
+}
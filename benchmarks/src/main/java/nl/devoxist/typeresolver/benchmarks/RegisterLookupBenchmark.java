@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.register.RegisterLookup;
+import nl.devoxist.typeresolver.register.RegisterPriority;
+import nl.devoxist.typeresolver.register.RegisterSearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RegisterLookupBenchmark} compares the {@link Thread} based {@link RegisterSearch} with the
+ * {@link RegisterLookup}, which searches through the {@link Register}s on the calling {@link Thread}, and with the
+ * lookups of a single {@link Register}. The {@code concurrentLookup} group measures the lookups of several threads
+ * that share the combined {@link Register}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+@SuppressWarnings("removal")
+public class RegisterLookupBenchmark {
+    /**
+     * The amount of combined {@link Register}s, the searched type is registered in the {@link Register} with the
+     * lowest priority.
+     *
+     * @since 1.7.0
+     */
+    @Param({"1", "10", "100"})
+    public int registerCount;
+
+    /**
+     * The ordered {@link Register}s to search through.
+     *
+     * @since 1.7.0
+     */
+    private Set<Register> registers;
+    /**
+     * The {@link Register} that has combined the other {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    private Register register;
+    /**
+     * The frozen snapshot of {@link #register}.
+     *
+     * @since 1.7.0
+     */
+    private Register frozenRegister;
+    /**
+     * The {@link Register} that contains the searched type itself, without any combined {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    private Register singleRegister;
+
+    /**
+     * Construct the combined {@link Register}s, only the last {@link Register} contains the searched type.
+     *
+     * @since 1.7.0
+     */
+    @Setup
+    public void setup() {
+        Register[] combined = new Register[registerCount];
+
+        for (int i = 0; i < registerCount; i++) {
+            combined[i] = new Register(RegisterPriority.HIGH);
+        }
+
+        Register register = new Register(RegisterPriority.LOWEST, combined);
+        register.register(Dependency.class, new Dependency());
+
+        this.registers = register.getRegistries();
+        this.register = register;
+        this.frozenRegister = register.freeze();
+
+        Register singleRegister = new Register();
+        singleRegister.register(Dependency.class, new Dependency());
+
+        this.singleRegister = singleRegister;
+    }
+
+    /**
+     * Search the type with the {@link RegisterSearch}, which starts a {@link Thread} per {@link Register}.
+     *
+     * @return The found {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public TypeProvider<Dependency, ?> registerSearch() {
+        return RegisterSearch.searchRegisters(registers, Dependency.class);
+    }
+
+    /**
+     * Search the type with the {@link RegisterLookup}, which searches on the calling {@link Thread}.
+     *
+     * @return The found {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public TypeProvider<Dependency, ?> registerLookup() {
+        return RegisterLookup.findTypeProvider(registers, Dependency.class);
+    }
+
+    /**
+     * Search the type through the flattened resolution index of the combined {@link Register}.
+     *
+     * @return The found object.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Dependency resolutionIndex() {
+        return register.getInitProvider(Dependency.class, true);
+    }
+
+    /**
+     * Search the type through the frozen snapshot of the combined {@link Register}.
+     *
+     * @return The found object.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Dependency frozenRegister() {
+        return frozenRegister.getInitProvider(Dependency.class, true);
+    }
+
+    /**
+     * Search the type in a single {@link Register}, which contains the type itself.
+     *
+     * @return The found object.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public Dependency singleRegister() {
+        return singleRegister.getInitProvider(Dependency.class);
+    }
+
+    /**
+     * Search the type through the resolution index of the combined {@link Register}, while other threads search the
+     * same {@link Register}.
+     *
+     * @return The found object.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    @Group("concurrentLookup")
+    @GroupThreads(4)
+    public Dependency concurrentResolutionIndex() {
+        return register.getInitProvider(Dependency.class, true);
+    }
+
+    /**
+     * The type that is searched in the benchmarks.
+     *
+     * @since 1.7.0
+     */
+    public static final class Dependency {
+    }
+}
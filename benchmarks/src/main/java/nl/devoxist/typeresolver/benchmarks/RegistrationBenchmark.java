@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.benchmarks;
+
+import nl.devoxist.typeresolver.providers.builders.IdentifiersBuilder;
+import nl.devoxist.typeresolver.register.Register;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RegistrationBenchmark} measures the registration of a type with a serializable lambda, of which the type is
+ * resolved from the lambda, and with the explicit overloads, which do not introspect the lambda. Every invocation
+ * registers and unregisters the type.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class RegistrationBenchmark {
+    /**
+     * The {@link Register} in which the {@link Plugin} is registered.
+     *
+     * @since 1.7.0
+     */
+    private final Register register = new Register();
+
+    /**
+     * Register the {@link Plugin} with a serializable supplier.
+     *
+     * @return If {@code true} the {@link Plugin} has been registered.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public boolean scoped() {
+        boolean registered = register.registerScoped(Plugin.class, Plugin::new);
+        register.unregister(Plugin.class);
+        return registered;
+    }
+
+    /**
+     * Register the {@link Plugin} with a supplier of which the type is given explicitly.
+     *
+     * @return If {@code true} the {@link Plugin} has been registered.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public boolean scopedExplicit() {
+        boolean registered = register.registerScoped(Plugin.class, Plugin.class, Plugin::new);
+        register.unregister(Plugin.class);
+        return registered;
+    }
+
+    /**
+     * Register the {@link Plugin} with a serializable consumer of an {@link IdentifiersBuilder}.
+     *
+     * @return If {@code true} the {@link Plugin} has been registered.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public boolean builder() {
+        boolean registered = register.register(
+                Plugin.class,
+                (IdentifiersBuilder<Plugin, String> settings) -> settings.addScopedIdentifier("plugin", Plugin::new)
+        );
+        register.unregister(Plugin.class);
+        return registered;
+    }
+
+    /**
+     * Register the {@link Plugin} with a consumer of an {@link IdentifiersBuilder}, that is created by its factory.
+     *
+     * @return If {@code true} the {@link Plugin} has been registered.
+     *
+     * @since 1.7.0
+     */
+    @Benchmark
+    public boolean builderExplicit() {
+        boolean registered = register.register(
+                Plugin.class,
+                IdentifiersBuilder::new,
+                (IdentifiersBuilder<Plugin, String> settings) -> settings
+                        .addScopedIdentifier("plugin", Plugin.class, Plugin::new)
+        );
+        register.unregister(Plugin.class);
+        return registered;
+    }
+
+    /**
+     * The type that is registered in the benchmarks.
+     *
+     * @since 1.7.0
+     */
+    public static final class Plugin {
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.processor;
+
+import nl.devoxist.typeresolver.constructor.ConstructorFactory;
+import nl.devoxist.typeresolver.constructor.ConstructorPriority;
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Generated;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * {@link ConstructorResolvingProcessor} is an annotation processor that generates a {@link ConstructorFactory} for
+ * every class with a constructor that has the {@link ConstructorResolving} annotation. The
+ * {@link ConstructorResolver} uses the generated factory instead of reflection to find and invoke the constructor.
+ * <p>
+ * The constructors of the generated factory are ordered like the {@link ConstructorResolver} checks them: first the
+ * public constructors, then the other constructors, both ordered from the highest to the lowest
+ * {@link ConstructorPriority}. No factory is generated for a class of which a constructor or a parameter type cannot
+ * be accessed from the package of the class, the {@link ConstructorResolver} keeps using reflection for such a class.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@SupportedAnnotationTypes("nl.devoxist.typeresolver.constructor.ConstructorResolving")
+public final class ConstructorResolvingProcessor extends AbstractProcessor {
+    /**
+     * The classes of which the factory already has been generated.
+     *
+     * @since 1.7.0
+     */
+    private final Set<String> generatedClasses = new HashSet<>();
+
+    /**
+     * Get the latest source version, the processor only reads the constructors of the classes.
+     *
+     * @return The latest supported source version.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Generate the {@link ConstructorFactory}s of the classes that have a constructor with the
+     * {@link ConstructorResolving} annotation.
+     *
+     * @param annotations The annotation types requested to be processed.
+     * @param roundEnv    The environment for information about the current and prior round.
+     *
+     * @return Always {@code false}, so other processors can also process the {@link ConstructorResolving} annotation.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, @NotNull RoundEnvironment roundEnv) {
+        Set<TypeElement> constructionClasses = new LinkedHashSet<>();
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(ConstructorResolving.class)) {
+            if (element.getKind() == ElementKind.CONSTRUCTOR) {
+                constructionClasses.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+
+        for (TypeElement constructionClass : constructionClasses) {
+            String binaryName = processingEnv.getElementUtils().getBinaryName(constructionClass).toString();
+
+            if (!generatedClasses.add(binaryName)) {
+                continue;
+            }
+
+            List<ExecutableElement> constructors = getConstructors(constructionClass);
+
+            if (constructors.isEmpty()) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.NOTE,
+                        "No constructor factory is generated, %s is constructed with reflection."
+                                .formatted(constructionClass.getSimpleName()),
+                        constructionClass
+                );
+                continue;
+            }
+
+            writeFactory(constructionClass, binaryName, constructors);
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the constructors of the factory of the class, in the order the {@link ConstructorResolver} checks them.
+     *
+     * @param constructionClass The class that is constructed by the factory.
+     *
+     * @return The ordered constructors, empty if no factory can be generated for the class.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull List<ExecutableElement> getConstructors(@NotNull TypeElement constructionClass) {
+        if (!isConstructable(constructionClass)) {
+            return List.of();
+        }
+
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(constructionClass.getEnclosedElements());
+
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                return List.of(constructor);
+            }
+        }
+
+        List<ExecutableElement> publicConstructors = new ArrayList<>();
+        List<ExecutableElement> otherConstructors = new ArrayList<>();
+
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getAnnotation(ConstructorResolving.class) == null) {
+                continue;
+            }
+
+            if (constructor.getModifiers().contains(Modifier.PRIVATE) || !hasAccessibleParameters(constructor)) {
+                return List.of();
+            }
+
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                publicConstructors.add(constructor);
+            } else {
+                otherConstructors.add(constructor);
+            }
+        }
+
+        Comparator<ExecutableElement> priorityComparator = Comparator.comparing(
+                (ExecutableElement constructor) -> constructor.getAnnotation(ConstructorResolving.class).value()
+        ).reversed();
+
+        publicConstructors.sort(priorityComparator);
+        otherConstructors.sort(priorityComparator);
+        publicConstructors.addAll(otherConstructors);
+
+        return publicConstructors;
+    }
+
+    /**
+     * Check if the class can be constructed from a class in the same package. The class needs to be a top level or a
+     * static member class, which is not abstract, and the class and its enclosing classes cannot be private.
+     *
+     * @param constructionClass The class to check.
+     *
+     * @return If {@code true} the class can be constructed from a class in the same package.
+     *
+     * @since 1.7.0
+     */
+    private static boolean isConstructable(@NotNull TypeElement constructionClass) {
+        if (constructionClass.getKind() != ElementKind.CLASS && constructionClass.getKind() != ElementKind.RECORD) {
+            return false;
+        }
+
+        if (constructionClass.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        if (constructionClass.getNestingKind() == NestingKind.MEMBER &&
+            !constructionClass.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+
+        return (constructionClass.getNestingKind() == NestingKind.TOP_LEVEL ||
+                constructionClass.getNestingKind() == NestingKind.MEMBER) && isAccessible(constructionClass);
+    }
+
+    /**
+     * Check if all the parameter types of the constructor can be referred to from the package of the class.
+     *
+     * @param constructor The constructor to check.
+     *
+     * @return If {@code true} all the parameter types can be referred to.
+     *
+     * @since 1.7.0
+     */
+    private boolean hasAccessibleParameters(@NotNull ExecutableElement constructor) {
+        for (VariableElement parameter : constructor.getParameters()) {
+            TypeMirror type = processingEnv.getTypeUtils().erasure(parameter.asType());
+
+            while (type.getKind() == TypeKind.ARRAY) {
+                type = ((ArrayType) type).getComponentType();
+            }
+
+            if (type instanceof DeclaredType declaredType &&
+                !isAccessible((TypeElement) declaredType.asElement())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if the class and its enclosing classes are not private, and not local or anonymous.
+     *
+     * @param type The class to check.
+     *
+     * @return If {@code true} the class can be referred to from its package.
+     *
+     * @since 1.7.0
+     */
+    private static boolean isAccessible(@NotNull TypeElement type) {
+        Element element = type;
+
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE) ||
+                typeElement.getNestingKind() == NestingKind.LOCAL ||
+                typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+
+            element = typeElement.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * Write the source file of the {@link ConstructorFactory} of the class.
+     *
+     * @param constructionClass The class that is constructed by the factory.
+     * @param binaryName        The binary name of the class.
+     * @param constructors      The ordered constructors of the factory.
+     *
+     * @since 1.7.0
+     */
+    private void writeFactory(
+            @NotNull TypeElement constructionClass,
+            @NotNull String binaryName,
+            @NotNull List<ExecutableElement> constructors
+    ) {
+        String factoryName = binaryName + ConstructorFactory.CLASS_NAME_SUFFIX;
+        int packageEnd = factoryName.lastIndexOf('.');
+        String packageName = packageEnd == -1 ? "" : factoryName.substring(0, packageEnd);
+        String simpleName = factoryName.substring(packageEnd + 1);
+        String className = constructionClass.getQualifiedName().toString();
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(factoryName, constructionClass);
+
+            try (PrintWriter out = new PrintWriter(sourceFile.openWriter())) {
+                if (!packageName.isEmpty()) {
+                    out.printf("package %s;%n%n", packageName);
+                }
+
+                out.printf("@%s(\"%s\")%n", Generated.class.getName(), getClass().getName());
+                out.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+                out.printf(
+                        "public final class %s implements %s<%s> {%n",
+                        simpleName,
+                        ConstructorFactory.class.getName(),
+                        className
+                );
+                out.println("    private static final Class<?>[][] PARAMETER_TYPES = {");
+                for (ExecutableElement constructor : constructors) {
+                    StringJoiner parameterTypes = new StringJoiner(", ", "{", "},");
+
+                    for (VariableElement parameter : constructor.getParameters()) {
+                        parameterTypes.add(erasure(parameter) + ".class");
+                    }
+
+                    out.printf("            %s%n", parameterTypes);
+                }
+                out.println("    };");
+                out.println();
+                out.println("    @Override");
+                out.printf("    public Class<%s> getConstructionClass() {%n", className);
+                out.printf("        return %s.class;%n", className);
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.println("    public int getConstructorCount() {");
+                out.println("        return PARAMETER_TYPES.length;");
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.println("    public Class<?>[] getParameterTypes(int constructor) {");
+                out.println("        return PARAMETER_TYPES[constructor].clone();");
+                out.println("    }");
+                out.println();
+                out.println("    @Override");
+                out.printf(
+                        "    public %s newInstance(int constructor, Object[] parameters) throws %s {%n",
+                        className,
+                        "java.lang.reflect.InvocationTargetException"
+                );
+                out.println("        java.util.Objects.checkIndex(constructor, PARAMETER_TYPES.length);");
+                out.println();
+                out.println("        try {");
+                out.println("            switch (constructor) {");
+                for (int i = 0; i < constructors.size(); i++) {
+                    out.printf(i == constructors.size() - 1 ? "                default:%n" : "                case %d:%n", i);
+                    out.printf("                    return new %s(%s);%n", className, arguments(constructors.get(i)));
+                }
+                out.println("            }");
+                out.println("        } catch (Throwable throwable) {");
+                out.println("            throw new java.lang.reflect.InvocationTargetException(throwable);");
+                out.println("        }");
+                out.println("    }");
+                out.println("}");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the arguments of the invocation of the constructor, which cast the parameters to their types.
+     *
+     * @param constructor The constructor to get the arguments of.
+     *
+     * @return The arguments of the invocation of the constructor.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull String arguments(@NotNull ExecutableElement constructor) {
+        StringJoiner arguments = new StringJoiner(", ");
+        List<? extends VariableElement> parameters = constructor.getParameters();
+
+        for (int i = 0; i < parameters.size(); i++) {
+            arguments.add("(%s) parameters[%d]".formatted(erasure(parameters.get(i)), i));
+        }
+
+        return arguments.toString();
+    }
+
+    /**
+     * Get the erasure of the type of the parameter, as it is written in the source code.
+     *
+     * @param parameter The parameter to get the erasure of.
+     *
+     * @return The erasure of the type of the parameter.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull String erasure(@NotNull VariableElement parameter) {
+        return typeName(processingEnv.getTypeUtils().erasure(parameter.asType()));
+    }
+
+    /**
+     * Get the name of an erased type, as it is written in the source code. The type annotations of the type are not
+     * part of the name.
+     *
+     * @param type The erased type to get the name of.
+     *
+     * @return The name of the type.
+     *
+     * @since 1.7.0
+     */
+    private static @NotNull String typeName(@NotNull TypeMirror type) {
+        if (type instanceof ArrayType arrayType) {
+            return typeName(arrayType.getComponentType()) + "[]";
+        }
+
+        if (type instanceof DeclaredType declaredType) {
+            return ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        }
+
+        return type.getKind().name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.processor;
+
+import nl.devoxist.typeresolver.constructor.ConstructorFactory;
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.register.Register;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ConstructorResolvingProcessorTests {
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void checkIfFactoryIsGenerated() throws Exception {
+        ClassLoader classLoader = compile("""
+                package sample;
+
+                import nl.devoxist.typeresolver.constructor.ConstructorPriority;
+                import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+
+                public class Handler {
+                    public final Dependency dependency;
+                    public final Service service;
+
+                    @ConstructorResolving(ConstructorPriority.LOW)
+                    public Handler(Dependency dependency) {
+                        this(dependency, null);
+                    }
+
+                    @ConstructorResolving(ConstructorPriority.HIGH)
+                    Handler(Dependency dependency, Service service) {
+                        this.dependency = dependency;
+                        this.service = service;
+                    }
+
+                    @ConstructorResolving(ConstructorPriority.HIGHEST)
+                    public Handler(Dependency dependency, Service service, int value) {
+                        this(dependency, service);
+                    }
+
+                    public static class Dependency {
+                    }
+
+                    public static class Service {
+                    }
+                }
+                """);
+
+        Class<?> factoryCls = classLoader.loadClass("sample.Handler" + ConstructorFactory.CLASS_NAME_SUFFIX);
+        ConstructorFactory<?> factory = (ConstructorFactory<?>) factoryCls.getConstructor().newInstance();
+        Class<?> dependencyCls = classLoader.loadClass("sample.Handler$Dependency");
+        Class<?> serviceCls = classLoader.loadClass("sample.Handler$Service");
+
+        Assertions.assertEquals(classLoader.loadClass("sample.Handler"), factory.getConstructionClass());
+        Assertions.assertEquals(3, factory.getConstructorCount());
+        Assertions.assertArrayEquals(
+                new Class<?>[]{dependencyCls, serviceCls, int.class},
+                factory.getParameterTypes(0)
+        );
+        Assertions.assertArrayEquals(new Class<?>[]{dependencyCls}, factory.getParameterTypes(1));
+        Assertions.assertArrayEquals(new Class<?>[]{dependencyCls, serviceCls}, factory.getParameterTypes(2));
+    }
+
+    @Test
+    public void checkIfFactoryIsUsedByConstructorResolver() throws Exception {
+        ClassLoader classLoader = compile("""
+                package sample;
+
+                import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+
+                public record Handler(Dependency dependency) {
+                    @ConstructorResolving
+                    public Handler {
+                        if (dependency.invalid) {
+                            throw new IllegalArgumentException();
+                        }
+                    }
+
+                    public static class Dependency {
+                        public boolean invalid;
+                    }
+                }
+                """);
+
+        Class<?> handlerCls = classLoader.loadClass("sample.Handler");
+        Class<?> dependencyCls = classLoader.loadClass("sample.Handler$Dependency");
+        Object dependency = dependencyCls.getConstructor().newInstance();
+
+        Register register = new Register();
+        register.register(uncheckedCast(dependencyCls), dependency);
+
+        Object handler = ConstructorResolver.initClass(handlerCls, register);
+        Assertions.assertEquals(dependency, handlerCls.getMethod("dependency").invoke(handler));
+
+        dependencyCls.getField("invalid").setBoolean(dependency, true);
+
+        InvocationTargetException exception = Assertions.assertThrowsExactly(
+                InvocationTargetException.class,
+                () -> ConstructorResolver.initClass(handlerCls, register)
+        );
+        Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        Assertions.assertEquals(
+                "sample.Handler" + ConstructorFactory.CLASS_NAME_SUFFIX,
+                exception.getStackTrace()[0].getClassName()
+        );
+    }
+
+    @Test
+    public void checkIfNoFactoryIsGeneratedForPrivateConstructor() throws Exception {
+        ClassLoader classLoader = compile("""
+                package sample;
+
+                import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+
+                public class Handler {
+                    @ConstructorResolving
+                    private Handler(Dependency dependency) {
+                    }
+
+                    public static class Dependency {
+                    }
+                }
+                """);
+
+        Assertions.assertThrowsExactly(
+                ClassNotFoundException.class,
+                () -> classLoader.loadClass("sample.Handler" + ConstructorFactory.CLASS_NAME_SUFFIX)
+        );
+    }
+
+    private ClassLoader compile(String source) throws IOException {
+        Path sourceFile = directory.resolve("sample/Handler.java");
+        Path classes = directory.resolve("classes");
+        Files.createDirectories(sourceFile.getParent());
+        Files.createDirectories(classes);
+        Files.writeString(sourceFile, source);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                    null,
+                    fileManager,
+                    null,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString()),
+                    null,
+                    fileManager.getJavaFileObjects(sourceFile)
+            );
+            task.setProcessors(List.of(new ConstructorResolvingProcessor()));
+
+            Assertions.assertTrue(task.call());
+        }
+
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> uncheckedCast(Class<?> cls) {
+        return (Class<T>) cls;
+    }
+}
@@ -28,22 +28,32 @@ import nl.devoxist.typeresolver.functions.SerializableConsumer;
 import nl.devoxist.typeresolver.functions.SerializableSupplier;
 import nl.devoxist.typeresolver.providers.TypeProvider;
 import nl.devoxist.typeresolver.providers.builders.TypeProviderBuilder;
+import nl.devoxist.typeresolver.register.ConcurrentRegister;
+import nl.devoxist.typeresolver.register.ProviderHandle;
 import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.register.RegisterBatch;
 import nl.devoxist.typeresolver.register.RegisterPriority;
 import nl.devoxist.typeresolver.settings.InitProviderSettings;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
  * {@link TypeRegister} is an object that registers the {@link TypeProvider}s. This can be used as the general registery
- * of these types. This {@link Register} uses the {@link RegisterPriority#NORMAL}.
+ * of these types. This {@link Register} uses the {@link RegisterPriority#NORMAL}, and it is a
+ * {@link ConcurrentRegister}, so it can be shared by multiple {@link Thread}s.
  *
  * @author Dev-Bjorn
- * @version 1.5.0
+ * @version 1.7.0
  * @since 1.0.0
  */
 public final class TypeRegister {
@@ -52,7 +62,7 @@ public final class TypeRegister {
      *
      * @since 1.3.0
      */
-    private static final Register REGISTER = new Register();
+    private static final Register REGISTER = new ConcurrentRegister();
 
     /**
      * Construct a new {@link TypeRegister} object. This always fails, because the class is a static class. So it
@@ -124,6 +134,79 @@ public final class TypeRegister {
         return REGISTER.registerScoped(typeCls, provider);
     }
 
+    /**
+     * Register a type with a {@link Supplier} provider, which is invoked only once on the first use of the type. The
+     * registering of a {@link TypeProvider} causes a link to appear in the {@link TypeRegister}.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The {@link Supplier} provider of the type which is going to be registered and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return if {@code true} the {@link TypeProvider} is registered.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @see nl.devoxist.typeresolver.providers.SingletonProvider
+     * @since 1.7.0
+     */
+    public static <T, P extends T> boolean registerLazy(
+            @NotNull Class<T> typeCls,
+            @NotNull SerializableSupplier<P> provider
+    ) {
+        return REGISTER.registerLazy(typeCls, provider);
+    }
+
+    /**
+     * Register a type with a {@link Supplier} provider of which the type is given explicitly, so the
+     * {@link Supplier} does not need to be serializable and is not introspected. The registering of a
+     * {@link TypeProvider} causes a link to appear in the {@link TypeRegister}.
+     *
+     * @param typeCls     The type which is going to be registered and linked to the provider.
+     * @param providerCls The type of the {@link Supplier} provider.
+     * @param provider    The {@link Supplier} provider of the type which is going to be registered and linked to the
+     *                    type.
+     * @param <T>         type of the type which is going to be registered.
+     * @param <P>         type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return if {@code true} the {@link TypeProvider} is registered.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @since 1.7.0
+     */
+    public static <T, P extends T> boolean registerScoped(
+            @NotNull Class<T> typeCls,
+            @NotNull Class<P> providerCls,
+            @NotNull Supplier<P> provider
+    ) {
+        return REGISTER.registerScoped(typeCls, providerCls, provider);
+    }
+
+    /**
+     * Register a type with a {@link Supplier} provider of which the type is given explicitly, which is invoked only
+     * once on the first use of the type. The {@link Supplier} does not need to be serializable and is not
+     * introspected. The registering of a {@link TypeProvider} causes a link to appear in the {@link TypeRegister}.
+     *
+     * @param typeCls     The type which is going to be registered and linked to the provider.
+     * @param providerCls The type of the {@link Supplier} provider.
+     * @param provider    The {@link Supplier} provider of the type which is going to be registered and linked to the
+     *                    type.
+     * @param <T>         type of the type which is going to be registered.
+     * @param <P>         type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return if {@code true} the {@link TypeProvider} is registered.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @see nl.devoxist.typeresolver.providers.SingletonProvider
+     * @since 1.7.0
+     */
+    public static <T, P extends T> boolean registerLazy(
+            @NotNull Class<T> typeCls,
+            @NotNull Class<P> providerCls,
+            @NotNull Supplier<P> provider
+    ) {
+        return REGISTER.registerLazy(typeCls, providerCls, provider);
+    }
+
     /**
      * Register a type with a provider. The registering of a {@link TypeProvider} causes a link to appear in the
      * {@link TypeRegister}.
@@ -187,6 +270,59 @@ public final class TypeRegister {
         return REGISTER.register(typeCls, builderConsumer);
     }
 
+    /**
+     * Register or update a type with a provider, that has been build by a {@link TypeProviderBuilder}. The builder is
+     * created by the given factory, so the {@link Consumer} does not need to be serializable, it is not introspected,
+     * and the builder is not constructed reflectively.
+     *
+     * @param typeCls         The type which is going to be registered and linked to the provider.
+     * @param builderFactory  The factory of the builder, e.g. the constructor reference of the builder.
+     * @param builderConsumer The {@link Consumer} of the builder.
+     * @param <T>             type of the type which is going to be registered.
+     * @param <X>             type of the builder which is going to build the {@link TypeProvider}.
+     *
+     * @return if {@code true} the type with the build provider is registered.
+     *
+     * @see TypeProviderBuilder
+     * @since 1.7.0
+     */
+    public static <T, X extends TypeProviderBuilder<T>> boolean register(
+            @NotNull Class<T> typeCls,
+            @NotNull Supplier<X> builderFactory,
+            @NotNull Consumer<X> builderConsumer
+    ) {
+        return REGISTER.register(typeCls, builderFactory, builderConsumer);
+    }
+
+    /**
+     * Register multiple types with their {@link TypeProvider}s at once. The types which are already registered are
+     * skipped, and the flattened indexes of the {@link TypeRegister} are updated once for all the types.
+     *
+     * @param typeProviders The {@link TypeProvider}s which are going to be registered.
+     *
+     * @return The types which have been registered, in the iteration order of the given {@link TypeProvider}s.
+     *
+     * @see RegisterBatch
+     * @since 1.7.0
+     */
+    public static @NotNull @Unmodifiable Set<Class<?>> registerAll(
+            @NotNull Collection<? extends TypeProvider<?, ?>> typeProviders
+    ) {
+        return REGISTER.registerAll(typeProviders);
+    }
+
+    /**
+     * Create a {@link RegisterBatch} to register many types in the {@link TypeRegister} at once. The
+     * {@link TypeProvider}s of the batch are only registered when {@link RegisterBatch#commit()} is called.
+     *
+     * @return The {@link RegisterBatch} that chain-edits the types that are going to be registered.
+     *
+     * @since 1.7.0
+     */
+    public static @NotNull RegisterBatch batch() {
+        return REGISTER.batch();
+    }
+
     /**
      * Unregister a type by its {@link TypeProvider}. Unregistering a {@link TypeProvider} causes the link to disappear
      * between the type and provider in the {@link TypeRegister}.
@@ -249,6 +385,91 @@ public final class TypeRegister {
         return REGISTER.getProviderByType(typeCls);
     }
 
+    /**
+     * Search and get the initialized providers of multiple types at once. All the types are searched before any
+     * provider is initialized, so if one of the types is not registered none of the providers are initialized.
+     *
+     * @param types The types to search the links from between the providers ({@link TypeProvider}).
+     *
+     * @return The initialized providers, at the same index as their type.
+     *
+     * @throws RegisterException If one of the providers is not registered.
+     * @since 1.7.0
+     */
+    public static Object @NotNull [] getInitProviders(Class<?> @NotNull ... types) {
+        return REGISTER.getInitProviders(types);
+    }
+
+    /**
+     * Search and get the initialized providers of multiple types at once. All the types are searched before any
+     * provider is initialized, so if one of the types is not registered none of the providers are initialized. If
+     * {@link InitProviderSettings#getExecutor()} is set, the providers are initialized concurrently on the
+     * {@link java.util.concurrent.Executor}.
+     *
+     * @param types                    The types to search the links from between the providers
+     *                                 ({@link TypeProvider}).
+     * @param providerSettingsConsumer The settings that will manipulate the search of the {@link TypeProvider}s.
+     *
+     * @return The initialized providers by their type, in the iteration order of the given types.
+     *
+     * @throws RegisterException If one of the providers is not registered.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    public static @NotNull @Unmodifiable Map<Class<?>, Object> getInitProviders(
+            @NotNull Collection<? extends Class<?>> types,
+            @NotNull Consumer<InitProviderSettings> providerSettingsConsumer
+    ) {
+        return REGISTER.getInitProviders(types, providerSettingsConsumer);
+    }
+
+    /**
+     * Search and get the initialized provider, without throwing an exception if the type is not registered. This can
+     * be used to probe optional types.
+     *
+     * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
+     * @param <T>     type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type, or {@code null} if the type is not
+     * registered.
+     *
+     * @since 1.7.0
+     */
+    public static <T> @Nullable T tryGetInitProvider(Class<T> typeCls) {
+        return REGISTER.tryGetInitProvider(typeCls);
+    }
+
+    /**
+     * Search and get the initialized provider as an {@link Optional}, without throwing an exception if the type is
+     * not registered.
+     *
+     * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
+     * @param <T>     type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type, or an empty {@link Optional} if the type
+     * is not registered.
+     *
+     * @since 1.7.0
+     */
+    public static <T> @NotNull Optional<T> findInitProvider(Class<T> typeCls) {
+        return REGISTER.findInitProvider(typeCls);
+    }
+
+    /**
+     * Get a {@link ProviderHandle} of the type, which keeps the {@link TypeProvider} of the type until the
+     * {@link TypeRegister} changes. The handle can be stored at the call site to resolve the type without searching.
+     *
+     * @param typeCls The type that is resolved by the handle.
+     * @param <T>     type of the type that is resolved by the handle.
+     *
+     * @return The {@link ProviderHandle} of the type.
+     *
+     * @since 1.7.0
+     */
+    public static <T> @NotNull ProviderHandle<T> handle(@NotNull Class<T> typeCls) {
+        return REGISTER.handle(typeCls);
+    }
+
     /**
      * Search and get the initialized provider. A way to create a custom implementation is to override the
      * {@link TypeProvider#getInitProvider()} in a custom {@link TypeProvider}.
@@ -288,4 +509,25 @@ public final class TypeRegister {
     ) {
         return REGISTER.getInitProvider(typeCls, providerSettingsConsumer);
     }
+
+    /**
+     * Search and get the initialized provider, the identifiers are used to choose the implementation of an
+     * {@link nl.devoxist.typeresolver.providers.IdentifierProvider}. This does not create any settings or copies of
+     * the {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @param typeCls     The type to search the link from between the provider ({@link TypeProvider}).
+     * @param identifiers The identifiers that are used to choose the implementation of an
+     *                    {@link nl.devoxist.typeresolver.providers.IdentifierProvider}. These are ignored if the type
+     *                    is not linked to an {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     * @param <T>         type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    public static <T> @NotNull T getInitProvider(Class<T> typeCls, @NotNull Object... identifiers) {
+        return REGISTER.getInitProvider(typeCls, identifiers);
+    }
 }
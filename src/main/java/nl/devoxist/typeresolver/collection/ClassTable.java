@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.collection;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * {@link ClassTable} is an immutable table that links a {@link Class} to a value. The table uses open addressing with
+ * linear probing, and the keys are compared on their identity. So a lookup is a few array reads, without allocating
+ * any objects.
+ *
+ * @param <V> The type of the values in the table.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class ClassTable<V> {
+    /**
+     * The keys of the table, an empty slot is {@code null}.
+     *
+     * @since 1.7.0
+     */
+    private final Class<?>[] keys;
+    /**
+     * The values of the table, the value of a key is at the same slot as the key in {@link #keys}.
+     *
+     * @since 1.7.0
+     */
+    private final Object[] values;
+    /**
+     * The mask to get the slot of a hash, the length of the table is a power of two.
+     *
+     * @since 1.7.0
+     */
+    private final int mask;
+    /**
+     * The amount of keys in the table.
+     *
+     * @since 1.7.0
+     */
+    private final int size;
+
+    /**
+     * Construct a {@link ClassTable} with the links of the given {@link Map}. The table is at most half full, so the
+     * probe sequences stay short.
+     *
+     * @param map The {@link Map} with the links of the table.
+     *
+     * @since 1.7.0
+     */
+    public ClassTable(@NotNull Map<Class<?>, ? extends V> map) {
+        int capacity = 2;
+
+        while (capacity < map.size() * 2) {
+            capacity <<= 1;
+        }
+
+        this.keys = new Class<?>[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.size = map.size();
+
+        for (Map.Entry<Class<?>, ? extends V> entry : map.entrySet()) {
+            int slot = slot(entry.getKey());
+
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+
+            this.keys[slot] = entry.getKey();
+            this.values[slot] = entry.getValue();
+        }
+    }
+
+    /**
+     * Get the value that is linked to the key.
+     *
+     * @param key The key of the value.
+     *
+     * @return The value of the key. If {@code null} the key is not present in the table.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(Class<?> key) {
+        int slot = slot(key);
+        Class<?> slotKey;
+
+        while ((slotKey = keys[slot]) != null) {
+            if (slotKey == key) {
+                return (V) values[slot];
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the amount of keys in the table.
+     *
+     * @return The amount of keys in the table.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the first slot of the key in the table.
+     *
+     * @param key The key to get the slot from.
+     *
+     * @return The first slot of the key.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    private int slot(Class<?> key) {
+        int hash = System.identityHashCode(key);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
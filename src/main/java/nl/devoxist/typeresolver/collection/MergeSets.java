@@ -22,151 +22,56 @@
 
 package nl.devoxist.typeresolver.collection;
 
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
+import java.io.Serial;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Merge multiple {@link Set} into each other.
- *
- * @param <T> The type of the {@link Set}.
+ * Merge multiple {@link Set} into each other. The sets are merged by the calling thread. Large amounts of sets can be
+ * merged in parallel on a {@link ForkJoinPool} of the caller with
+ * {@link #mergeSetsParallel(Collection, Supplier, ForkJoinPool)}, and {@link SortedSet}s with the same
+ * {@link Comparator} can be merged in sorted order with {@link #mergeSortedSets(Collection)}.
  *
  * @author Dev-Bjorn
- * @version 1.3.0
+ * @version 1.7.0
  * @since 1.3.0
  */
-public final class MergeSets<T> extends Thread {
-    /**
-     * The set that need to be merged. If this field is applied {@link #set} won't be applied.
-     *
-     * @since 1.3.0
-     */
-    private Collection<Set<T>> sets;
-    /**
-     * The set to get the function providers ({@link #setGetter}) from. This is only applied when the function is also
-     * applied. If this field is applied {@link #sets} won't be applied.
-     *
-     * @since 1.3.0
-     */
-    private Set<T> set;
-    /**
-     * Function provides the getter for the {@link Set}s, this only works when the {@link #set} is applied too.
-     *
-     * @since 1.3.0
-     */
-    private Function<T, Set<T>> setGetter;
-    /**
-     * The constructed or given set where the {@link Set}s are too.
-     *
-     * @since 1.3.0
-     */
-    private final Set<T> mergedSet;
-    /**
-     * The future callback of the merged {@link Set}s.
-     *
-     * @since 1.3.0
-     */
-    private final CompletableFuture<Set<T>> providerCompletableFuture = new CompletableFuture<>();
-
-    /**
-     * Constructs the {@link MergeSets} with the callback as a {@link HashSet}.
-     *
-     * @param setsToMerge The setsToMerge that need to be merged.
-     *
-     * @since 1.3.0
-     */
-    private MergeSets(Collection<Set<T>> setsToMerge) {
-        this.sets = setsToMerge;
-        this.mergedSet = new HashSet<>();
-    }
-
-
+public final class MergeSets {
     /**
-     * Constructs the {@link MergeSets} with the callback as a {@link TreeSet} and sorted on given the
-     * {@link Comparator}.
-     *
-     * @param setsToMerge The setsToMerge that need to be merged.
-     * @param comparator  The {@link Set} {@link Comparator} on which the {@link Set} gets sorted.
+     * The minimal amount of elements of the sets, from which
+     * {@link #mergeSetsParallel(Collection, Supplier, ForkJoinPool)} merges the sets in parallel. Fewer elements are merged by the calling thread, because the merge is faster than the
+     * hand-off to a {@link ForkJoinPool}.
      *
-     * @since 1.3.0
+     * @since 1.7.0
      */
-    private MergeSets(Collection<Set<T>> setsToMerge, Comparator<T> comparator) {
-        this.sets = setsToMerge;
-        this.mergedSet = new TreeSet<>(comparator);
-    }
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
 
     /**
-     * Constructs the {@link MergeSets} with the callback as a given provider {@link Set}.
+     * Construct a new {@link MergeSets} object. This always fails, because the class is a static class. So it only
+     * contains static objects. Thus, it throws an {@link IllegalAccessException}.
      *
-     * @param setsToMerge The setsToMerge that need to be merged.
-     * @param setProvider The provider for the merged {@link Set}.
-     *
-     * @since 1.3.0
+     * @throws IllegalAccessException If the {@link MergeSets} was try to construct the class. The construction of
+     *                                this class is not possible, because this is a static class.
+     * @since 1.7.0
      */
-    private MergeSets(Collection<Set<T>> setsToMerge, @NotNull Supplier<Set<T>> setProvider) {
-        this.sets = setsToMerge;
-        this.mergedSet = setProvider.get();
+    @Contract(value = " -> fail",
+              pure = true)
+    @ApiStatus.Internal
+    private MergeSets() throws IllegalAccessException {
+        throw new IllegalAccessException("This class is an static class, so this class cannot be initialized.");
     }
 
     /**
-     * Constructs the {@link MergeSets} with the callback as a {@link HashSet}. The merged {@link Set} will be formed on
-     * the callback of the {@link Function}.
-     *
-     * @param setToMerge The setToMerge that need to be merged.
-     * @param setGetter  The method in the {@link Set}toMerge to retrieve the {@link Set}s to merge.
-     *
-     * @since 1.3.0
-     */
-    private MergeSets(Set<T> setToMerge, Function<T, Set<T>> setGetter) {
-        this.set = setToMerge;
-        this.setGetter = setGetter;
-        this.mergedSet = new HashSet<>();
-    }
-
-    /**
-     * Constructs the {@link MergeSets} with the callback as a {@link TreeSet} and sorted on given the
-     * {@link Comparator}. The merged {@link Set} will be formed on the callback of the {@link Function}.
-     *
-     * @param setToMerge The sets that contains objects that have the given {@link Function}, and the return of that
-     *                   function will be merged.
-     * @param setGetter  The method in the {@link Set}toMerge to retrieve the {@link Set}s to merge.
-     * @param comparator The {@link Set} {@link Comparator} on which the {@link Set} gets sorted.
-     *
-     * @since 1.3.0
-     */
-    private MergeSets(Set<T> setToMerge, Function<T, Set<T>> setGetter, Comparator<T> comparator) {
-        this.set = setToMerge;
-        this.setGetter = setGetter;
-        this.mergedSet = new TreeSet<>(comparator);
-    }
-
-    /**
-     * Constructs the {@link MergeSets} with the callback as a given provider {@link Set}. The merged {@link Set} will
-     * be formed on the callback of the {@link Function}.
-     *
-     * @param setToMerge  The sets that contains objects that have the given {@link Function}, and the return of that
-     *                    function will be merged.
-     * @param setGetter   The method in the {@link Set}toMerge to retrieve the {@link Set}s to merge.
-     * @param setProvider The provider for the merged {@link Set}
-     *
-     * @since 1.3.0
-     */
-    private MergeSets(Set<T> setToMerge, Function<T, Set<T>> setGetter, @NotNull Supplier<Set<T>> setProvider) {
-        this.set = setToMerge;
-        this.setGetter = setGetter;
-        this.mergedSet = setProvider.get();
-    }
-
-    /**
-     * Constructs the {@link MergeSets} and merges multiple {@link Set}s into one {@link Set}. The callback is
-     * a {@link HashSet}. If it needs to be a sorted {@link Set} use this method with a {@link Comparator} as argument
-     * or use this method with a setProvider to provide the {@link Set}. This provided set will be the merged
-     * {@link Set}.
+     * Merges multiple {@link Set}s into one {@link Set}. The callback is a {@link HashSet}. If it needs to be a sorted
+     * {@link Set} use this method with a {@link Comparator} as argument or use this method with a setProvider to
+     * provide the {@link Set}. This provided set will be the merged {@link Set}.
      *
      * @param setsToMerge The sets that need to be merged.
      * @param <T>         The type of the set that is going to be merged.
@@ -176,17 +81,14 @@ public final class MergeSets<T> extends Thread {
      * @since 1.3.0
      */
     public static <T> Set<T> mergeSets(Collection<Set<T>> setsToMerge) {
-        MergeSets<T> setsMerger = new MergeSets<>(setsToMerge);
-        setsMerger.start();
-        return setsMerger.getSet();
+        Supplier<Set<T>> setProvider = HashSet::new;
+        return mergeSets(setsToMerge, setProvider);
     }
 
-
     /**
-     * Constructs the {@link MergeSets} and merges multiple {@link Set}s into one {@link Set}. The callback is
-     * a {@link TreeSet}. If it needs to be {@link Set} use this method without the {@link Comparator} as argument
-     * or use this method with a setProvider to provide the {@link Set}. This provided set will be the merged
-     * {@link Set}.
+     * Merges multiple {@link Set}s into one {@link Set}. The callback is a {@link TreeSet}. If it needs to be
+     * {@link Set} use this method without the {@link Comparator} as argument or use this method with a setProvider to
+     * provide the {@link Set}. This provided set will be the merged {@link Set}.
      *
      * @param setsToMerge The sets that need to be merged.
      * @param comparator  The {@link Set} {@link Comparator} on which the {@link Set} gets sorted.
@@ -197,14 +99,12 @@ public final class MergeSets<T> extends Thread {
      * @since 1.3.0
      */
     public static <T> Set<T> mergeSets(Collection<Set<T>> setsToMerge, Comparator<T> comparator) {
-        MergeSets<T> setsMerger = new MergeSets<>(setsToMerge, comparator);
-        setsMerger.start();
-        return setsMerger.getSet();
+        Supplier<Set<T>> setProvider = () -> new TreeSet<>(comparator);
+        return mergeSets(setsToMerge, setProvider);
     }
 
     /**
-     * Constructs the {@link MergeSets} and merges multiple {@link Set}s into one {@link Set}. The callback is
-     * a provided set type.
+     * Merges multiple {@link Set}s into one {@link Set}. The callback is a provided set type.
      *
      * @param setsToMerge The sets that need to be merged.
      * @param setProvider The provider for the merged {@link Set}.
@@ -215,17 +115,20 @@ public final class MergeSets<T> extends Thread {
      * @since 1.3.0
      */
     public static <T> Set<T> mergeSets(Collection<Set<T>> setsToMerge, Supplier<Set<T>> setProvider) {
-        MergeSets<T> setsMerger = new MergeSets<>(setsToMerge, setProvider);
-        setsMerger.start();
-        return setsMerger.getSet();
+        Set<T> mergedSet = setProvider.get();
+
+        for (Set<T> set : setsToMerge) {
+            mergedSet.addAll(set);
+        }
+
+        return mergedSet;
     }
 
     /**
-     * Constructs the {@link MergeSets} and merges multiple {@link Set}s into one {@link Set}. The merged set wil be
-     * formed by the callback of the {@link Function}. The callback is merged sets of the return of the
-     * {@link Function} as a {@link HashSet}. If it needs to be a sorted {@link Set} use this method with a
-     * {@link Comparator} as argument or use this method with a setProvider to provide the {@link Set}. This provided
-     * set will be the merged {@link Set}.
+     * Merges multiple {@link Set}s into one {@link Set}. The merged set wil be formed by the callback of the
+     * {@link Function}. The callback is merged sets of the return of the {@link Function} as a {@link HashSet}. If it
+     * needs to be a sorted {@link Set} use this method with a {@link Comparator} as argument or use this method with a
+     * setProvider to provide the {@link Set}. This provided set will be the merged {@link Set}.
      *
      * @param setToMerge The sets that contains objects that have the given {@link Function}, and the return of that
      *                   function will be merged.
@@ -237,17 +140,15 @@ public final class MergeSets<T> extends Thread {
      * @since 1.3.0
      */
     public static <T> Set<T> mergeSets(Set<T> setToMerge, Function<T, Set<T>> setGetter) {
-        MergeSets<T> setsMerger = new MergeSets<>(setToMerge, setGetter);
-        setsMerger.start();
-        return setsMerger.getSet();
+        Supplier<Set<T>> setProvider = HashSet::new;
+        return mergeSets(setToMerge, setGetter, setProvider);
     }
 
     /**
-     * Constructs the {@link MergeSets} and merges multiple {@link Set}s into one {@link Set}. The merged set wil be
-     * formed by the callback of the {@link Function}. The callback is merged sets of the return of the
-     * {@link Function} as a {@link TreeSet}. If it needs to be {@link Set} use this method without the
-     * {@link Comparator} as argument or use this method with a setProvider to provide the {@link Set}. This provided
-     * set will be the merged {@link Set}.
+     * Merges multiple {@link Set}s into one {@link Set}. The merged set wil be formed by the callback of the
+     * {@link Function}. The callback is merged sets of the return of the {@link Function} as a {@link TreeSet}. If it
+     * needs to be {@link Set} use this method without the {@link Comparator} as argument or use this method with a
+     * setProvider to provide the {@link Set}. This provided set will be the merged {@link Set}.
      *
      * @param setToMerge The sets that contains objects that have the given {@link Function}, and the return of that
      *                   function will be merged.
@@ -260,15 +161,13 @@ public final class MergeSets<T> extends Thread {
      * @since 1.3.0
      */
     public static <T> Set<T> mergeSets(Set<T> setToMerge, Function<T, Set<T>> setGetter, Comparator<T> comparator) {
-        MergeSets<T> setsMerger = new MergeSets<>(setToMerge, setGetter, comparator);
-        setsMerger.start();
-        return setsMerger.getSet();
+        Supplier<Set<T>> setProvider = () -> new TreeSet<>(comparator);
+        return mergeSets(setToMerge, setGetter, setProvider);
     }
 
     /**
-     * Constructs the {@link MergeSets} and merges multiple {@link Set}s into one {@link Set}. The merged set wil be
-     * formed by the callback of the {@link Function}. The callback is merged sets of the return of the
-     * {@link Function} as a provided set type.
+     * Merges multiple {@link Set}s into one {@link Set}. The merged set wil be formed by the callback of the
+     * {@link Function}. The callback is merged sets of the return of the {@link Function} as a provided set type.
      *
      * @param setToMerge  The sets that contains objects that have the given {@link Function}, and the return of that
      *                    function will be merged.
@@ -281,69 +180,474 @@ public final class MergeSets<T> extends Thread {
      * @since 1.3.0
      */
     public static <T> Set<T> mergeSets(Set<T> setToMerge, Function<T, Set<T>> setGetter, Supplier<Set<T>> setProvider) {
-        MergeSets<T> setsMerger = new MergeSets<>(setToMerge, setGetter, setProvider);
-        setsMerger.start();
-        return setsMerger.getSet();
+        Set<T> mergedSet = setProvider.get();
+
+        for (T t : setToMerge) {
+            mergedSet.addAll(setGetter.apply(t));
+        }
+
+        return mergedSet;
     }
 
+    /**
+     * Merges multiple {@link Set}s into one {@link Set} in parallel on the given {@link ForkJoinPool}. The pool is
+     * given by the caller, so the merge does not compete with other tasks on the
+     * {@link ForkJoinPool#commonPool()}. The sets are split in halves, until a half contains one set. The halves are merged into each other, so every element is added
+     * {@code log(k)} times for {@code k} sets. If the sets contain fewer than {@link #PARALLEL_THRESHOLD} elements,
+     * the sets are merged by the calling thread.
+     *
+     * @param setsToMerge The sets that need to be merged.
+     * @param setProvider The provider for the merged {@link Set}, and for the merged halves.
+     * @param pool        The {@link ForkJoinPool} that merges the sets.
+     * @param <T>         The type of the set that is going to be merged.
+     *
+     * @return The merged set that contains all the elements of given {@link Set}s.
+     *
+     * @since 1.7.0
+     */
+    public static <T> Set<T> mergeSetsParallel(
+            Collection<Set<T>> setsToMerge,
+            Supplier<Set<T>> setProvider,
+            @NotNull ForkJoinPool pool
+    ) {
+        List<Set<T>> sets = new ArrayList<>(setsToMerge);
+        long elements = 0;
+
+        for (Set<T> set : sets) {
+            elements += set.size();
+        }
+
+        if (sets.size() < 2 || elements < PARALLEL_THRESHOLD) {
+            return mergeSets(sets, setProvider);
+        }
+
+        return pool.invoke(new MergeTask<>(sets, 0, sets.size(), setProvider));
+    }
 
     /**
-     * If this thread was constructed using a separate
-     * {@code Runnable} run object, then that
-     * {@code Runnable} object's {@code run} method is called;
-     * otherwise, this method does nothing and returns.
-     * <p>
-     * Subclasses of {@code Thread} should override this method.
-     *
-     * @see #start()
-     * @since 1.3.0
+     * Merges multiple {@link SortedSet}s, that are sorted on the same {@link Comparator}, into one {@link TreeSet}. The
+     * sets are merged in sorted order by a k-way merge, and the {@link TreeSet} is built from the sorted elements at
+     * once. So the elements are compared {@code n log(k)} times for {@code n} elements and {@code k} sets, instead of
+     * {@code n log(n)} times when the elements are added one by one.
+     *
+     * @param setsToMerge The sorted sets that need to be merged, sorted on the same {@link Comparator}.
+     * @param <T>         The type of the set that is going to be merged.
+     *
+     * @return The merged set that contains all the elements of given {@link SortedSet}s, sorted on their
+     * {@link Comparator}.
+     *
+     * @throws IllegalArgumentException if the sets are not sorted on the same {@link Comparator}.
+     * @since 1.7.0
      */
-    @Override
-    public void run() {
-        if (sets != null) {
-            updateWhenSets();
-        } else if (this.set != null && this.setGetter != null) {
-            updateWhenSet();
+    public static <T> @NotNull TreeSet<T> mergeSortedSets(@NotNull Collection<? extends SortedSet<T>> setsToMerge) {
+        Iterator<? extends SortedSet<T>> setIterator = setsToMerge.iterator();
+
+        if (!setIterator.hasNext()) {
+            return new TreeSet<>();
+        }
+
+        Comparator<? super T> comparator = setIterator.next().comparator();
+        int size = 0;
+
+        for (SortedSet<T> set : setsToMerge) {
+            if (!Objects.equals(comparator, set.comparator())) {
+                throw new IllegalArgumentException("The sets to merge need to be sorted on the same comparator.");
+            }
+
+            size += set.size();
+        }
+
+        Comparator<? super T> order = comparator != null ? comparator : naturalOrder();
+        PriorityQueue<SortedCursor<T>> cursors =
+                new PriorityQueue<>(Math.max(1, setsToMerge.size()), (a, b) -> order.compare(a.head, b.head));
+
+        for (SortedSet<T> set : setsToMerge) {
+            Iterator<T> iterator = set.iterator();
+
+            if (iterator.hasNext()) {
+                cursors.add(new SortedCursor<>(iterator));
+            }
+        }
+
+        List<T> elements = new ArrayList<>(size);
+
+        while (!cursors.isEmpty()) {
+            SortedCursor<T> cursor = cursors.poll();
+
+            if (elements.isEmpty() || order.compare(elements.get(elements.size() - 1), cursor.head) != 0) {
+                elements.add(cursor.head);
+            }
+
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
         }
 
-        this.providerCompletableFuture.complete(mergedSet);
+        return new TreeSet<>(new SortedListView<>(elements, comparator, order));
     }
 
     /**
-     * Update the {@link #mergedSet} when the {@link #sets} is provided.
+     * Get the natural order of the elements, for sorted sets without a {@link Comparator}.
      *
-     * @since 1.3.0
+     * @param <T> The type of the elements.
+     *
+     * @return The natural order of the elements.
+     *
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> @NotNull Comparator<? super T> naturalOrder() {
+        return (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    /**
+     * {@link MergeTask} merges a range of the sets, by splitting the range in halves and merging the halves into each
+     * other.
+     *
+     * @param <T> The type of the set that is going to be merged.
+     *
+     * @author Dev-Bjorn
+     * @version 1.7.0
+     * @since 1.7.0
      */
-    private void updateWhenSets() {
-        for (Set<T> t : sets) {
-            this.mergedSet.addAll(t);
+    private static final class MergeTask<T> extends RecursiveTask<Set<T>> {
+        @Serial
+        private static final long serialVersionUID = -3794260383431853468L;
+
+        /**
+         * The sets that need to be merged.
+         *
+         * @since 1.7.0
+         */
+        private final List<Set<T>> sets;
+        /**
+         * The first index of the range of the sets, inclusive.
+         *
+         * @since 1.7.0
+         */
+        private final int from;
+        /**
+         * The last index of the range of the sets, exclusive.
+         *
+         * @since 1.7.0
+         */
+        private final int to;
+        /**
+         * The provider for the merged {@link Set}s.
+         *
+         * @since 1.7.0
+         */
+        private final Supplier<Set<T>> setProvider;
+
+        /**
+         * Construct a {@link MergeTask} of a range of the sets.
+         *
+         * @param sets        The sets that need to be merged.
+         * @param from        The first index of the range of the sets, inclusive.
+         * @param to          The last index of the range of the sets, exclusive.
+         * @param setProvider The provider for the merged {@link Set}s.
+         *
+         * @since 1.7.0
+         */
+        private MergeTask(List<Set<T>> sets, int from, int to, Supplier<Set<T>> setProvider) {
+            this.sets = sets;
+            this.from = from;
+            this.to = to;
+            this.setProvider = setProvider;
+        }
+
+        /**
+         * Merge the range of the sets. A range of one set is copied into a provided {@link Set}, a larger range is
+         * split in halves that are merged in parallel.
+         *
+         * @return The merged set of the range.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        protected Set<T> compute() {
+            if (to - from == 1) {
+                Set<T> mergedSet = setProvider.get();
+                mergedSet.addAll(sets.get(from));
+                return mergedSet;
+            }
+
+            int middle = (from + to) >>> 1;
+            MergeTask<T> left = new MergeTask<>(sets, from, middle, setProvider);
+            left.fork();
+
+            Set<T> right = new MergeTask<>(sets, middle, to, setProvider).compute();
+            Set<T> mergedSet = left.join();
+
+            mergedSet.addAll(right);
+            return mergedSet;
         }
     }
 
     /**
-     * Update the {@link #mergedSet} when the {@link #set} and {@link #setGetter} is provided.
+     * {@link SortedCursor} holds the current element of the iterator of a sorted set, during the k-way merge of
+     * {@link #mergeSortedSets(Collection)}.
      *
-     * @since 1.3.0
+     * @param <T> The type of the elements.
+     *
+     * @author Dev-Bjorn
+     * @version 1.7.0
+     * @since 1.7.0
      */
-    private void updateWhenSet() {
-        for (T t : this.set) {
-            Set<T> tSet = this.setGetter.apply(t);
-            this.mergedSet.addAll(tSet);
+    private static final class SortedCursor<T> {
+        /**
+         * The iterator of the sorted set.
+         *
+         * @since 1.7.0
+         */
+        private final Iterator<T> iterator;
+        /**
+         * The current element of the iterator.
+         *
+         * @since 1.7.0
+         */
+        private T head;
+
+        /**
+         * Construct a {@link SortedCursor} at the first element of the iterator.
+         *
+         * @param iterator The iterator of the sorted set, which has at least one element.
+         *
+         * @since 1.7.0
+         */
+        private SortedCursor(@NotNull Iterator<T> iterator) {
+            this.iterator = iterator;
+            this.head = iterator.next();
+        }
+
+        /**
+         * Move the cursor to the next element of the iterator.
+         *
+         * @return If {@code true} the cursor has moved, otherwise the iterator has no elements left.
+         *
+         * @since 1.7.0
+         */
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+
+            head = iterator.next();
+            return true;
         }
     }
 
     /**
-     * The callback of the search. This can take a while, because it comes from the {@link #providerCompletableFuture}.
+     * {@link SortedListView} is a read-only {@link SortedSet} view of a sorted list without duplicates. A
+     * {@link TreeSet} that is constructed from a {@link SortedSet} is built in linear time, without comparing the
+     * elements. The ranges of the view are views of a range of the list, which is found by a binary search.
      *
-     * @return The callback of the search.
+     * @param <T> The type of the elements.
      *
-     * @since 1.3.0
+     * @author Dev-Bjorn
+     * @version 1.7.0
+     * @since 1.7.0
      */
-    public @Nullable Set<T> getSet() {
-        try {
-            return providerCompletableFuture.get();
-        } catch (InterruptedException | ExecutionException ignored) {
-            return null;
+    private static final class SortedListView<T> extends AbstractSet<T> implements SortedSet<T> {
+        /**
+         * The sorted elements without duplicates.
+         *
+         * @since 1.7.0
+         */
+        private final List<T> elements;
+        /**
+         * The {@link Comparator} on which the elements are sorted, if {@code null} the elements are sorted on their
+         * natural order.
+         *
+         * @since 1.7.0
+         */
+        private final Comparator<? super T> comparator;
+        /**
+         * The order of the elements, which is the {@link #comparator} or the natural order.
+         *
+         * @since 1.7.0
+         */
+        private final Comparator<? super T> order;
+
+        /**
+         * Construct a {@link SortedListView} of the sorted elements.
+         *
+         * @param elements   The sorted elements without duplicates.
+         * @param comparator The {@link Comparator} on which the elements are sorted.
+         * @param order      The order of the elements, which is the {@link Comparator} or the natural order.
+         *
+         * @since 1.7.0
+         */
+        private SortedListView(List<T> elements, Comparator<? super T> comparator, Comparator<? super T> order) {
+            this.elements = elements;
+            this.comparator = comparator;
+            this.order = order;
+        }
+
+        /**
+         * Get the iterator over the sorted elements.
+         *
+         * @return The iterator over the sorted elements.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        public @NotNull Iterator<T> iterator() {
+            return Collections.unmodifiableList(elements).iterator();
+        }
+
+        /**
+         * Get the amount of elements.
+         *
+         * @return The amount of elements.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        /**
+         * Check if the view contains the element, by a binary search.
+         *
+         * @param element The element to check.
+         *
+         * @return If {@code true} the view contains the element.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object element) {
+            try {
+                return Collections.binarySearch(elements, (T) element, order) >= 0;
+            } catch (ClassCastException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Get the {@link Comparator} on which the elements are sorted.
+         *
+         * @return The {@link Comparator} on which the elements are sorted, if {@code null} the elements are sorted on
+         * their natural order.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        public Comparator<? super T> comparator() {
+            return comparator;
+        }
+
+        /**
+         * Get the view of the elements from {@code fromElement}, inclusive, to {@code toElement}, exclusive.
+         *
+         * @param fromElement The low endpoint of the range, inclusive.
+         * @param toElement   The high endpoint of the range, exclusive.
+         *
+         * @return The view of the elements in the range.
+         *
+         * @throws IllegalArgumentException if {@code fromElement} is greater than {@code toElement}.
+         * @since 1.7.0
+         */
+        @Override
+        public @NotNull SortedSet<T> subSet(T fromElement, T toElement) {
+            if (order.compare(fromElement, toElement) > 0) {
+                throw new IllegalArgumentException("The low endpoint is greater than the high endpoint.");
+            }
+
+            return range(indexOf(fromElement), indexOf(toElement));
+        }
+
+        /**
+         * Get the view of the elements that are less than {@code toElement}.
+         *
+         * @param toElement The high endpoint of the range, exclusive.
+         *
+         * @return The view of the elements in the range.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        public @NotNull SortedSet<T> headSet(T toElement) {
+            return range(0, indexOf(toElement));
+        }
+
+        /**
+         * Get the view of the elements that are greater than or equal to {@code fromElement}.
+         *
+         * @param fromElement The low endpoint of the range, inclusive.
+         *
+         * @return The view of the elements in the range.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        public @NotNull SortedSet<T> tailSet(T fromElement) {
+            return range(indexOf(fromElement), elements.size());
+        }
+
+        /**
+         * Get the first element.
+         *
+         * @return The first element.
+         *
+         * @throws NoSuchElementException if there are no elements.
+         * @since 1.7.0
+         */
+        @Override
+        public T first() {
+            if (elements.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            return elements.get(0);
+        }
+
+        /**
+         * Get the last element.
+         *
+         * @return The last element.
+         *
+         * @throws NoSuchElementException if there are no elements.
+         * @since 1.7.0
+         */
+        @Override
+        public T last() {
+            if (elements.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            return elements.get(elements.size() - 1);
+        }
+
+        /**
+         * Get the index of the first element that is greater than or equal to the element, by a binary search.
+         *
+         * @param element The element to search.
+         *
+         * @return The index of the first element that is greater than or equal to the element.
+         *
+         * @since 1.7.0
+         */
+        private int indexOf(T element) {
+            int index = Collections.binarySearch(elements, element, order);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * Get the view of a range of the elements.
+         *
+         * @param from The first index of the range, inclusive.
+         * @param to   The last index of the range, exclusive.
+         *
+         * @return The view of the range of the elements.
+         *
+         * @since 1.7.0
+         */
+        private @NotNull SortedSet<T> range(int from, int to) {
+            return new SortedListView<>(elements.subList(from, Math.max(from, to)), comparator, order);
         }
     }
 }
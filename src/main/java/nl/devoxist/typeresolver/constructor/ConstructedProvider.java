@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.exception.ConstructorException;
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * {@link ConstructedProvider} is a {@link TypeProvider} that provides a new instance of a type that is not registered,
+ * but is constructed by its {@link Instantiator}. The provider is made when the dependencies of a class are
+ * constructed, and is part of the {@link ConstructionPlan} of that class.
+ *
+ * @param <T> the type that is constructed by the provider.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class ConstructedProvider<T> extends TypeProvider<T, Instantiator> {
+    /**
+     * Construct a new {@link ConstructedProvider} of the type with the {@link Instantiator} of the type.
+     *
+     * @param typeCls      The class that is constructed by the provider.
+     * @param instantiator The {@link Instantiator} that constructs the type.
+     *
+     * @since 1.7.0
+     */
+    ConstructedProvider(@NotNull Class<T> typeCls, @NotNull Instantiator instantiator) {
+        super(typeCls, instantiator);
+    }
+
+    /**
+     * Construct a new instance of the type with the {@link Instantiator} of the type, without identifiers.
+     *
+     * @return The new instance of the type.
+     *
+     * @throws ConstructorException if the type could not be constructed.
+     * @since 1.7.0
+     */
+    @Override
+    public @NotNull T getInitProvider() {
+        return newInstance(new Object[0]);
+    }
+
+    /**
+     * Construct a new instance of the type with the {@link Instantiator} of the type. The identifiers of the
+     * construction of the root class are passed to the dependencies, so an
+     * {@link nl.devoxist.typeresolver.providers.IdentifierProvider} of a dependency resolves the same type as of the
+     * root class.
+     *
+     * @param identifiers The identifiers that are used to select the type of an
+     *                    {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @return The new instance of the type.
+     *
+     * @throws ConstructorException if the type could not be constructed.
+     * @since 1.7.0
+     */
+    @NotNull T newInstance(Object[] identifiers) {
+        try {
+            return getType().cast(getProvider().newInstance(identifiers));
+        } catch (InvocationTargetException e) {
+            throw new ConstructorException("%s could not be constructed.".formatted(getType().getSimpleName()),
+                                           e.getCause());
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new ConstructorException("%s could not be constructed.".formatted(getType().getSimpleName()), e);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.IdentifierProvider;
+import nl.devoxist.typeresolver.register.Register;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link ConstructionPlan} is the compiled result of the constructor resolving of a class. The plan holds the
+ * {@link Instantiator} of the chosen constructor and the {@link TypeProvider}s of the parameters. So a construction
+ * with a valid plan does not need to search through the constructors and the registers again.
+ * <p>
+ * A plan has been made for a specific set of {@link Register}s, a specific annotation need, a specific
+ * {@link InstantiationStrategy}, whether the dependencies are constructed and a specific {@link Executor} of the
+ * parameters. If the dependencies are constructed, the plan contains the whole dependency graph of the class, so the
+ * graph is only discovered once. The plan is only valid as long as the versions of those {@link Register}s did not
+ * change.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class ConstructionPlan {
+    /**
+     * The {@link Instantiator} that invokes the chosen constructor.
+     *
+     * @since 1.7.0
+     */
+    private final Instantiator instantiator;
+    /**
+     * The {@link Register}s where the plan has been made for. The {@link Register}s are weakly referenced, so a plan
+     * does not keep short-living {@link Register}s alive.
+     *
+     * @since 1.7.0
+     */
+    private final WeakReference<Register>[] registers;
+    /**
+     * The versions of the {@link #registers} at the moment the plan has been made.
+     *
+     * @since 1.7.0
+     */
+    private final long[] versions;
+    /**
+     * Whether the annotation {@link ConstructorResolving} was needed on the chosen constructor.
+     *
+     * @since 1.7.0
+     */
+    private final boolean needAnnotation;
+    /**
+     * The strategy that has been used to create the {@link #instantiator}, the strategy is not used if the class has a
+     * generated {@link ConstructorFactory}.
+     *
+     * @since 1.7.0
+     */
+    private final InstantiationStrategy instantiationStrategy;
+    /**
+     * Whether the parameter types that are not registered have been planned to be constructed.
+     *
+     * @since 1.7.0
+     */
+    private final boolean constructDependencies;
+    /**
+     * Whether the parameter types that are not registered have been resolved by the registered types that are
+     * assignable to them.
+     *
+     * @since 1.7.0
+     */
+    private final boolean resolveAssignableTypes;
+    /**
+     * The {@link Executor} that resolves the parameters, if {@code null} the parameters are resolved by the calling
+     * thread.
+     *
+     * @since 1.7.0
+     */
+    private final Executor parameterExecutor;
+
+    /**
+     * Construct a {@link ConstructionPlan}.
+     *
+     * @param instantiator           The {@link Instantiator} that invokes the chosen constructor.
+     * @param registers              The {@link Register}s where the plan has been made for.
+     * @param versions               The versions of the {@link Register}s at the moment before the plan has been made.
+     * @param needAnnotation         Whether the annotation {@link ConstructorResolving} was needed on the constructor.
+     * @param instantiationStrategy  The strategy that has been used to create the {@link Instantiator}.
+     * @param constructDependencies  Whether the parameter types that are not registered are constructed.
+     * @param resolveAssignableTypes Whether the parameter types are resolved by the assignable registered types.
+     * @param parameterExecutor      The {@link Executor} that resolves the parameters.
+     *
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    ConstructionPlan(
+            @NotNull Instantiator instantiator,
+            Register @NotNull [] registers,
+            long[] versions,
+            boolean needAnnotation,
+            @NotNull InstantiationStrategy instantiationStrategy,
+            boolean constructDependencies,
+            boolean resolveAssignableTypes,
+            @Nullable Executor parameterExecutor
+    ) {
+        this.instantiator = instantiator;
+        @SuppressWarnings("unchecked")
+        WeakReference<Register>[] registerReferences =
+                (WeakReference<Register>[]) new WeakReference<?>[registers.length];
+        this.registers = registerReferences;
+        this.versions = versions;
+        this.needAnnotation = needAnnotation;
+        this.instantiationStrategy = instantiationStrategy;
+        this.constructDependencies = constructDependencies;
+        this.resolveAssignableTypes = resolveAssignableTypes;
+        this.parameterExecutor = parameterExecutor;
+
+        for (int i = 0; i < registers.length; i++) {
+            this.registers[i] = new WeakReference<>(registers[i]);
+        }
+    }
+
+    /**
+     * Get the versions of the {@link Register}s.
+     *
+     * @param registers The {@link Register}s to get the versions from.
+     *
+     * @return The versions of the {@link Register}s, in the order of the {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    static long @NotNull [] getVersions(Register @NotNull [] registers) {
+        long[] versions = new long[registers.length];
+
+        for (int i = 0; i < registers.length; i++) {
+            versions[i] = registers[i].getVersion();
+        }
+
+        return versions;
+    }
+
+    /**
+     * Check if this plan can be used to construct the class with the given {@link Register}s, annotation need,
+     * {@link InstantiationStrategy}, construction of the dependencies, resolution of the assignable types and
+     * {@link Executor} of the parameters. The {@link Register}s need to be the same instances, in the same order and
+     * with the same versions as the {@link Register}s the plan has been made for.
+     *
+     * @param registers              The {@link Register}s that are used to retrieve the types from.
+     * @param needAnnotation         Whether the annotation {@link ConstructorResolving} is needed on a constructor.
+     * @param instantiationStrategy  The strategy that is used to invoke the constructor.
+     * @param constructDependencies  Whether the parameter types that are not registered are constructed.
+     * @param resolveAssignableTypes Whether the parameter types are resolved by the assignable registered types.
+     * @param parameterExecutor      The {@link Executor} that resolves the parameters.
+     *
+     * @return If {@code true} the plan can be used.
+     *
+     * @since 1.7.0
+     */
+    boolean isValid(
+            Register @NotNull [] registers,
+            boolean needAnnotation,
+            InstantiationStrategy instantiationStrategy,
+            boolean constructDependencies,
+            boolean resolveAssignableTypes,
+            @Nullable Executor parameterExecutor
+    ) {
+        if (this.needAnnotation != needAnnotation ||
+            this.instantiationStrategy != instantiationStrategy ||
+            this.constructDependencies != constructDependencies ||
+            this.resolveAssignableTypes != resolveAssignableTypes ||
+            this.parameterExecutor != parameterExecutor ||
+            this.registers.length != registers.length) {
+            return false;
+        }
+
+        for (int i = 0; i < registers.length; i++) {
+            if (this.registers[i].get() != registers[i] || this.versions[i] != registers[i].getVersion()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if this plan has been made for the same {@link Register}s, annotation need, {@link InstantiationStrategy},
+     * construction of the dependencies, resolution of the assignable types and {@link Executor} of the parameters as
+     * the given plan. The versions of the {@link Register}s are not compared.
+     *
+     * @param plan The plan to compare with.
+     *
+     * @return If {@code true} the plan has been made for the same {@link Register}s, annotation need,
+     * {@link InstantiationStrategy}, construction of the dependencies, resolution of the assignable types and
+     * {@link Executor} of the parameters.
+     *
+     * @since 1.7.0
+     */
+    boolean hasSameKey(@NotNull ConstructionPlan plan) {
+        if (this.needAnnotation != plan.needAnnotation ||
+            this.instantiationStrategy != plan.instantiationStrategy ||
+            this.constructDependencies != plan.constructDependencies ||
+            this.resolveAssignableTypes != plan.resolveAssignableTypes ||
+            this.parameterExecutor != plan.parameterExecutor ||
+            this.registers.length != plan.registers.length) {
+            return false;
+        }
+
+        for (int i = 0; i < registers.length; i++) {
+            if (this.registers[i].get() != plan.registers[i].get()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if one of the {@link Register}s, where the plan has been made for, has been garbage collected. Such a
+     * plan cannot be used anymore.
+     *
+     * @return If {@code true} one of the {@link Register}s has been garbage collected.
+     *
+     * @since 1.7.0
+     */
+    boolean isCollected() {
+        for (WeakReference<Register> register : registers) {
+            if (register.get() == null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Construct a new instance with the {@link #instantiator}. The identifiers are applied to the
+     * {@link IdentifierProvider}s of the parameters.
+     *
+     * @param identifiers The identifiers that are used to select the type of an {@link IdentifierProvider}.
+     *
+     * @return The constructed instance.
+     *
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract
+     *                                   class.
+     * @throws IllegalAccessException    if the underlying constructor is inaccessible.
+     * @since 1.7.0
+     */
+    Object newInstance(Object[] identifiers) throws
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException {
+        return instantiator.newInstance(identifiers);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.register.Register;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link ConstructionPlanCache} holds the {@link ConstructionPlan}s of a class. There is one cache per class, which
+ * is bound to the class by a {@link ClassValue}. The plans are read without locking; a new plan replaces the plans
+ * that have been made for the same {@link Register}s, annotation need and {@link InstantiationStrategy}. The plans of
+ * which a {@link Register} has been garbage collected are removed on the next lookup of the class, so their
+ * instantiators, including the hidden classes with the {@link nl.devoxist.typeresolver.providers.TypeProvider}s of
+ * the collected {@link Register}, can be unloaded.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class ConstructionPlanCache {
+    /**
+     * The caches of the classes.
+     *
+     * @since 1.7.0
+     */
+    private static final ClassValue<ConstructionPlanCache> CACHES = new ClassValue<>() {
+        @Override
+        protected ConstructionPlanCache computeValue(Class<?> type) {
+            return new ConstructionPlanCache();
+        }
+    };
+    /**
+     * An empty array of plans.
+     *
+     * @since 1.7.0
+     */
+    private static final ConstructionPlan[] NO_PLANS = new ConstructionPlan[0];
+
+    /**
+     * The plans of the class. The array is replaced as a whole, so the readers always see a complete array.
+     *
+     * @since 1.7.0
+     */
+    private volatile ConstructionPlan[] plans = NO_PLANS;
+
+    /**
+     * Construct a {@link ConstructionPlanCache} without plans.
+     *
+     * @since 1.7.0
+     */
+    private ConstructionPlanCache() {
+    }
+
+    /**
+     * Get the {@link ConstructionPlanCache} of the class.
+     *
+     * @param constructionCls The class of which the plans are cached.
+     *
+     * @return The {@link ConstructionPlanCache} of the class.
+     *
+     * @since 1.7.0
+     */
+    static @NotNull ConstructionPlanCache of(@NotNull Class<?> constructionCls) {
+        return CACHES.get(constructionCls);
+    }
+
+    /**
+     * Find a valid plan for the {@link Register}s, annotation need, {@link InstantiationStrategy}, construction of
+     * the dependencies, resolution of the assignable types and {@link Executor} of the parameters. The plans of which
+     * a {@link Register} has been garbage collected are removed.
+     *
+     * @param registers              The {@link Register}s that are used to retrieve the types from.
+     * @param needAnnotation         Whether the annotation {@link ConstructorResolving} is needed on a constructor.
+     * @param instantiationStrategy  The strategy that is used to invoke the constructor.
+     * @param constructDependencies  Whether the parameter types that are not registered are constructed.
+     * @param resolveAssignableTypes Whether the parameter types are resolved by the assignable registered types.
+     * @param parameterExecutor      The {@link Executor} that resolves the parameters.
+     *
+     * @return The valid plan, if {@code null} there is no valid plan.
+     *
+     * @since 1.7.0
+     */
+    @Nullable ConstructionPlan find(
+            Register @NotNull [] registers,
+            boolean needAnnotation,
+            InstantiationStrategy instantiationStrategy,
+            boolean constructDependencies,
+            boolean resolveAssignableTypes,
+            @Nullable Executor parameterExecutor
+    ) {
+        ConstructionPlan validPlan = null;
+        boolean collected = false;
+
+        for (ConstructionPlan plan : plans) {
+            if (plan.isValid(
+                    registers,
+                    needAnnotation,
+                    instantiationStrategy,
+                    constructDependencies,
+                    resolveAssignableTypes,
+                    parameterExecutor
+            )) {
+                validPlan = plan;
+                break;
+            }
+
+            collected |= plan.isCollected();
+        }
+
+        if (collected) {
+            this.removeCollected();
+        }
+
+        return validPlan;
+    }
+
+    /**
+     * Get the amount of cached plans of the class.
+     *
+     * @return The amount of cached plans of the class.
+     *
+     * @since 1.7.0
+     */
+    int size() {
+        return plans.length;
+    }
+
+    /**
+     * Add a plan to the cache. The plans that have been made for the same {@link Register}s, annotation need,
+     * {@link InstantiationStrategy}, construction of the dependencies, resolution of the assignable types and
+     * {@link Executor} of the parameters, and the plans of which a {@link Register} has been garbage collected, are
+     * removed.
+     *
+     * @param plan The plan to add.
+     *
+     * @since 1.7.0
+     */
+    synchronized void add(@NotNull ConstructionPlan plan) {
+        List<ConstructionPlan> newPlans = new ArrayList<>(plans.length + 1);
+
+        for (ConstructionPlan cachedPlan : plans) {
+            if (!cachedPlan.isCollected() && !cachedPlan.hasSameKey(plan)) {
+                newPlans.add(cachedPlan);
+            }
+        }
+
+        newPlans.add(plan);
+        this.plans = newPlans.toArray(NO_PLANS);
+    }
+
+    /**
+     * Remove the plans of which a {@link Register} has been garbage collected.
+     *
+     * @since 1.7.0
+     */
+    private synchronized void removeCollected() {
+        List<ConstructionPlan> newPlans = new ArrayList<>(plans.length);
+
+        for (ConstructionPlan cachedPlan : plans) {
+            if (!cachedPlan.isCollected()) {
+                newPlans.add(cachedPlan);
+            }
+        }
+
+        this.plans = newPlans.toArray(NO_PLANS);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * {@link ConstructorFactories} finds the generated {@link ConstructorFactory} of a class. The factory is looked up
+ * once per class by its name, with the class loader of the class.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class ConstructorFactories {
+    /**
+     * The generated {@link ConstructorFactory}s of the classes, empty if the class has no generated factory.
+     *
+     * @since 1.7.0
+     */
+    private static final ClassValue<Optional<ConstructorFactory<?>>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected Optional<ConstructorFactory<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(loadFactory(type));
+        }
+    };
+
+    /**
+     * Construct a new {@link ConstructorFactories} object. This always fails, because the class is a static class. So
+     * it only contains static objects. Thus, it throws an {@link IllegalAccessException}.
+     *
+     * @throws IllegalAccessException If the {@link ConstructorFactories} was try to construct the class. The
+     *                                construction of this class is not possible, because this is a static class.
+     * @since 1.7.0
+     */
+    @Contract(value = " -> fail",
+              pure = true)
+    @ApiStatus.Internal
+    private ConstructorFactories() throws IllegalAccessException {
+        throw new IllegalAccessException("This class is an static class, so this class cannot be initialized.");
+    }
+
+    /**
+     * Get the generated {@link ConstructorFactory} of the class.
+     *
+     * @param constructionCls The class to get the factory of.
+     * @param <T>             type of the class.
+     *
+     * @return The generated {@link ConstructorFactory}, if {@code null} the class has no generated factory.
+     *
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @Nullable ConstructorFactory<T> getFactory(@NotNull Class<T> constructionCls) {
+        return (ConstructorFactory<T>) FACTORIES.get(constructionCls).orElse(null);
+    }
+
+    /**
+     * Load the generated {@link ConstructorFactory} of the class.
+     *
+     * @param constructionCls The class to load the factory of.
+     *
+     * @return The generated {@link ConstructorFactory}, if {@code null} the class has no generated factory.
+     *
+     * @since 1.7.0
+     */
+    private static @Nullable ConstructorFactory<?> loadFactory(@NotNull Class<?> constructionCls) {
+        if (constructionCls.isHidden() || constructionCls.isArray() || constructionCls.isPrimitive()) {
+            return null;
+        }
+
+        String factoryName = constructionCls.getName() + ConstructorFactory.CLASS_NAME_SUFFIX;
+
+        try {
+            Class<?> factoryCls = Class.forName(factoryName, true, constructionCls.getClassLoader());
+
+            if (!ConstructorFactory.class.isAssignableFrom(factoryCls)) {
+                return null;
+            }
+
+            ConstructorFactory<?> factory = (ConstructorFactory<?>) factoryCls.getConstructor().newInstance();
+            return factory.getConstructionClass() == constructionCls ? factory : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
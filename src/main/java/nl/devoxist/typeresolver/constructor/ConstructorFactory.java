@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * {@link ConstructorFactory} constructs a class with the constructors that have the {@link ConstructorResolving}
+ * annotation, without reflection. The factories are generated at build time by the annotation processor of the
+ * {@code TypeRegister-processor} module. The generated factory of a class {@code a.b.Outer.Inner} is named
+ * {@code a.b.Outer$Inner_ConstructorFactory}, the {@link ConstructorResolver} uses the factory when it is present
+ * and the annotation {@link ConstructorResolving} is needed.
+ * <p>
+ * The constructors of a factory are ordered in the order the {@link ConstructorResolver} checks them: first the
+ * public constructors, then the other constructors, both ordered from the highest to the lowest
+ * {@link ConstructorPriority}. If the class has a public constructor without parameters, that is the only
+ * constructor of the factory.
+ *
+ * @param <T> type of the class that is constructed by the factory.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public interface ConstructorFactory<T> {
+    /**
+     * The suffix of the name of a generated {@link ConstructorFactory}, the name of the factory is the binary name of
+     * the constructed class followed by this suffix.
+     *
+     * @since 1.7.0
+     */
+    String CLASS_NAME_SUFFIX = "_ConstructorFactory";
+
+    /**
+     * Get the class that is constructed by this factory.
+     *
+     * @return The class that is constructed by this factory.
+     *
+     * @since 1.7.0
+     */
+    @NotNull Class<T> getConstructionClass();
+
+    /**
+     * Get the amount of constructors of this factory.
+     *
+     * @return The amount of constructors of this factory.
+     *
+     * @since 1.7.0
+     */
+    int getConstructorCount();
+
+    /**
+     * Get the parameter types of a constructor of this factory.
+     *
+     * @param constructor The index of the constructor.
+     *
+     * @return The parameter types of the constructor, in the order of the parameters.
+     *
+     * @since 1.7.0
+     */
+    Class<?> @NotNull [] getParameterTypes(int constructor);
+
+    /**
+     * Construct a new instance with a constructor of this factory.
+     *
+     * @param constructor The index of the constructor.
+     * @param parameters  The parameters of the constructor, in the order of the parameters.
+     *
+     * @return The constructed instance.
+     *
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @since 1.7.0
+     */
+    @NotNull T newInstance(int constructor, Object[] parameters) throws InvocationTargetException;
+}
@@ -24,12 +24,14 @@ package nl.devoxist.typeresolver.constructor;
 
 import nl.devoxist.typeresolver.TypeRegister;
 import nl.devoxist.typeresolver.exception.ConstructorException;
+import nl.devoxist.typeresolver.metrics.ResolutionMetrics;
+import nl.devoxist.typeresolver.providers.TypeProvider;
 import nl.devoxist.typeresolver.register.Register;
 import nl.devoxist.typeresolver.settings.ConstructionSettings;
 import nl.devoxist.typeresolver.settings.ConstructionSettingsBuilder;
-import nl.devoxist.typeresolver.settings.InitProviderSettings;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -37,9 +39,11 @@ import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -63,10 +67,17 @@ import java.util.stream.Stream;
  * @param <T> type of the class that is going to be constructed.
  *
  * @author Dev-Bjorn
- * @version 1.5.0
+ * @version 1.7.0
  * @since 1.0.0
  */
 public final class ConstructorResolver<T> {
+    /**
+     * The metrics that record the constructions. If {@code null} the constructions are not recorded.
+     *
+     * @since 1.7.0
+     */
+    private static volatile ResolutionMetrics metrics;
+
     /**
      * The represented class that is getting constructed.
      *
@@ -81,11 +92,39 @@ public final class ConstructorResolver<T> {
      */
     private final ConstructionSettings constructionSettings;
     /**
-     * The register where the types of the parameters are gathered from.
+     * The registers that are used to retrieve the types from.
+     *
+     * @since 1.7.0
+     */
+    private final Register[] registers;
+    /**
+     * The identifiers that are used to select the type of an
+     * {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @since 1.7.0
+     */
+    private final Object[] identifiers;
+    /**
+     * The {@link Injector} that constructs the class, if {@code null} the class is not constructed by an
+     * {@link Injector}.
+     *
+     * @since 1.7.0
+     */
+    private final Injector injector;
+    /**
+     * The register where the types of the parameters are gathered from. This is only created when a new
+     * {@link ConstructionPlan} is made, or is shared by the {@link #injector}.
      *
      * @since 1.5.0
      */
-    private final Register searchableRegisters;
+    private Register searchableRegisters;
+    /**
+     * The graph of the dependencies that are constructed, if {@code null} the dependencies are not constructed. This
+     * is only created when a new {@link ConstructionPlan} is made.
+     *
+     * @since 1.7.0
+     */
+    private DependencyGraph dependencyGraph;
 
     /**
      * Construct the {@link ConstructorResolver} object with class that will be constructed and the settings of the
@@ -102,7 +141,69 @@ public final class ConstructorResolver<T> {
     ) {
         this.constructionCls = constructionCls;
         this.constructionSettings = constructionSettings;
-        this.searchableRegisters = new Register(constructionSettings.getRegisters());
+        this.registers = constructionSettings.getRegisters();
+        this.identifiers = constructionSettings.getIdentifiers();
+        this.injector = null;
+    }
+
+    /**
+     * Construct the {@link ConstructorResolver} object of a class that is constructed by an {@link Injector}. The
+     * settings, the registers and the searchable {@link Register} of the {@link Injector} are used, so nothing is
+     * copied or merged per construction.
+     *
+     * @param constructionCls The class that will be constructed.
+     * @param injector        The {@link Injector} that constructs the class.
+     * @param identifiers     The identifiers that are used to select the type of an
+     *                        {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @since 1.7.0
+     */
+    private ConstructorResolver(
+            @NotNull Class<T> constructionCls,
+            @NotNull Injector injector,
+            Object @NotNull [] identifiers
+    ) {
+        this.constructionCls = constructionCls;
+        this.constructionSettings = injector.getSettings();
+        this.registers = injector.getRegisters();
+        this.identifiers = identifiers;
+        this.injector = injector;
+        this.searchableRegisters = injector.getSearchableRegister();
+    }
+
+    /**
+     * Construct the {@link ConstructorResolver} object of a dependency, that shares the settings, the searchable
+     * {@link Register} and the {@link DependencyGraph} with the {@link ConstructorResolver} of the class that depends
+     * on it.
+     *
+     * @param constructionCls The dependency that will be constructed.
+     * @param dependent       The {@link ConstructorResolver} of the class that depends on the dependency.
+     *
+     * @since 1.7.0
+     */
+    private ConstructorResolver(@NotNull Class<T> constructionCls, @NotNull ConstructorResolver<?> dependent) {
+        this(constructionCls, dependent.constructionSettings);
+        this.searchableRegisters = dependent.searchableRegisters;
+        this.dependencyGraph = dependent.dependencyGraph;
+    }
+
+    /**
+     * Get the {@link Register} where the types of the parameters are gathered from. A single {@link Register} is
+     * searched through directly, because combining it into an empty {@link Register} does not change the result of
+     * the search through all the registers.
+     *
+     * @param registers The registers that are used to retrieve the types from.
+     *
+     * @return The {@link Register} where the types of the parameters are gathered from.
+     *
+     * @since 1.7.0
+     */
+    static @NotNull Register getSearchableRegister(Register @NotNull [] registers) {
+        if (registers.length == 1) {
+            return registers[0];
+        }
+
+        return new Register(registers);
     }
 
     /**
@@ -310,6 +411,79 @@ public final class ConstructorResolver<T> {
         return new ConstructorResolver<>(constructionCls, constructionSettings).initClass();
     }
 
+    /**
+     * Get the metrics that record the constructions of the {@link ConstructorResolver}.
+     *
+     * @return The metrics that record the constructions, or {@code null} if the constructions are not recorded.
+     *
+     * @since 1.7.0
+     */
+    public static @Nullable ResolutionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Set the metrics that record the duration and the failures of the constructions, and the made
+     * {@link ConstructionPlan}s. The metrics are opt-in, without metrics a construction only reads whether metrics
+     * have been set.
+     *
+     * @param metrics The metrics that record the constructions, or {@code null} to stop recording the constructions.
+     *
+     * @since 1.7.0
+     */
+    public static void setMetrics(@Nullable ResolutionMetrics metrics) {
+        ConstructorResolver.metrics = metrics;
+    }
+
+    /**
+     * Constructing the specified class with the settings, the registers and the plans of an {@link Injector}.
+     *
+     * @param constructionCls The class which need to be auto constructed.
+     * @param injector        The {@link Injector} that constructs the class.
+     * @param identifiers     The identifiers that are used to select the type of an
+     *                        {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     * @param <T>             type of the class which gets auto constructed.
+     *
+     * @return The initialized class, which has been auto formed by the type resolver.
+     *
+     * @throws ConstructorException      if there is no valid constructor, or if the construction class is an interface,
+     *                                   enum or abstract class.
+     * @throws NoSuchMethodException     if a matching method is not found.
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract
+     *                                   class.
+     * @throws IllegalAccessException    if this Constructor object is enforcing Java language access control and the
+     *                                   underlying constructor is inaccessible.
+     * @since 1.7.0
+     */
+    static <T> T initClass(
+            @NotNull Class<T> constructionCls,
+            @NotNull Injector injector,
+            Object @NotNull [] identifiers
+    ) throws
+            ConstructorException,
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException {
+        return new ConstructorResolver<>(constructionCls, injector, identifiers).initClass();
+    }
+
+    /**
+     * Get the amount of {@link ConstructionPlan}s that are cached for the class. There is a plan per combination of
+     * registers, annotation need, {@link InstantiationStrategy} and construction of the dependencies with which the
+     * class has been constructed.
+     *
+     * @param constructionCls The class of which the plans are cached.
+     *
+     * @return The amount of cached {@link ConstructionPlan}s of the class.
+     *
+     * @since 1.7.0
+     */
+    public static int getCachedPlanCount(@NotNull Class<?> constructionCls) {
+        return ConstructionPlanCache.of(constructionCls).size();
+    }
+
     /**
      * Constructing the specified class by the type resolver. This uses the specified options in the
      * {@link ConstructionSettings}. Those settings will be set by a builder. The builder causes to chain-edit the
@@ -333,7 +507,8 @@ public final class ConstructorResolver<T> {
 
     /**
      * Constructing the specified class by the type resolver. This uses the settings specified in the
-     * {@link #constructionSettings} class.
+     * {@link #constructionSettings} class. The {@link ConstructionPlan} of the class is reused, when the registers
+     * have not been changed since the plan has been made.
      *
      * @return The initialized class, which has been auto formed by the type resolver.
      *
@@ -353,28 +528,331 @@ public final class ConstructorResolver<T> {
             InvocationTargetException,
             InstantiationException,
             IllegalAccessException {
+        ResolutionMetrics metrics = ConstructorResolver.metrics;
+        boolean recorded = ConstructionEvent.isRecorded();
+
+        if (metrics == null && !recorded) {
+            return construct();
+        }
+
+        ConstructionEvent event = recorded ? new ConstructionEvent() : null;
+        long start = System.nanoTime();
+
+        if (event != null) {
+            event.begin();
+        }
+
+        boolean failed = true;
+
+        try {
+            T instance = construct();
+            failed = false;
+            return instance;
+        } finally {
+            if (metrics != null) {
+                metrics.recordConstruction(constructionCls, System.nanoTime() - start, failed);
+            }
+
+            if (event != null) {
+                event.end();
+
+                if (event.shouldCommit()) {
+                    event.commit(
+                            constructionCls,
+                            identifiers,
+                            failed ? ConstructionEvent.FAILED : ConstructionEvent.CONSTRUCTED
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Construct the class with its {@link ConstructionPlan}.
+     *
+     * @return The initialized class, which has been auto formed by the type resolver.
+     *
+     * @throws ConstructorException      if there is no valid constructor, or if the construction class is an interface,
+     *                                   enum or abstract class.
+     * @throws NoSuchMethodException     if a matching method is not found.
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract
+     *                                   class.
+     * @throws IllegalAccessException    if this Constructor object is enforcing Java language access control and the
+     *                                   underlying constructor is inaccessible.
+     * @since 1.7.0
+     */
+    private T construct() throws
+            ConstructorException,
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException {
+        ConstructionPlan constructionPlan = getConstructionPlan();
+
+        return constructionCls.cast(constructionPlan.newInstance(identifiers));
+    }
+
+    /**
+     * Get the {@link ConstructionPlan} of the class. If there is no valid plan cached for the registers and the
+     * annotation need, a new plan is made and cached. If the class is constructed by an {@link Injector}, the plan of
+     * the {@link Injector} is checked first.
+     *
+     * @return The {@link ConstructionPlan} of the class.
+     *
+     * @throws ConstructorException   if there is no valid constructor, or if the construction class is an interface,
+     *                                enum or abstract class.
+     * @throws NoSuchMethodException  if a matching method is not found.
+     * @throws IllegalAccessException if the chosen constructor is inaccessible.
+     * @since 1.7.0
+     */
+    private @NotNull ConstructionPlan getConstructionPlan() throws
+            ConstructorException,
+            NoSuchMethodException,
+            IllegalAccessException {
+        boolean needAnnotation = constructionSettings.needAnnotation();
+        InstantiationStrategy instantiationStrategy = constructionSettings.getInstantiationStrategy();
+        boolean constructDependencies = constructionSettings.constructDependencies();
+        boolean resolveAssignableTypes = constructionSettings.resolveAssignableTypes();
+        Executor parameterExecutor = constructionSettings.getParameterExecutor();
+        ConstructionPlan constructionPlan = injector != null ? injector.getPlan(constructionCls) : null;
+
+        if (constructionPlan != null && constructionPlan.isValid(
+                registers,
+                needAnnotation,
+                instantiationStrategy,
+                constructDependencies,
+                resolveAssignableTypes,
+                parameterExecutor
+        )) {
+            return constructionPlan;
+        }
+
+        ConstructionPlanCache planCache = ConstructionPlanCache.of(constructionCls);
+        constructionPlan = planCache.find(
+                registers,
+                needAnnotation,
+                instantiationStrategy,
+                constructDependencies,
+                resolveAssignableTypes,
+                parameterExecutor
+        );
 
+        if (constructionPlan == null) {
+            constructionPlan = createConstructionPlan(needAnnotation, instantiationStrategy, constructDependencies);
+            planCache.add(constructionPlan);
+
+            ResolutionMetrics metrics = ConstructorResolver.metrics;
+
+            if (metrics != null) {
+                metrics.recordPlanCreation(constructionCls);
+            }
+        }
+
+        if (injector != null) {
+            injector.setPlan(constructionCls, constructionPlan);
+        }
+
+        return constructionPlan;
+    }
+
+    /**
+     * Make a new {@link ConstructionPlan} of the class. The versions of the registers are read before the plan is
+     * made, so a change of the registers during the making invalidates the plan. If the annotation
+     * {@link ConstructorResolving} is needed and the class has a generated {@link ConstructorFactory}, the factory is
+     * used instead of reflection. If the dependencies are constructed, the whole graph of the dependencies is planned
+     * once and is part of the plan.
+     *
+     * @param needAnnotation        Whether the annotation {@link ConstructorResolving} is needed on a constructor.
+     * @param instantiationStrategy The strategy that is used to invoke the constructor.
+     * @param constructDependencies Whether the parameter types that are not registered are constructed.
+     *
+     * @return The new {@link ConstructionPlan} of the class.
+     *
+     * @throws ConstructorException   if there is no valid constructor, or if the construction class is an interface,
+     *                                enum or abstract class.
+     * @throws NoSuchMethodException  if a matching method is not found.
+     * @throws IllegalAccessException if the chosen constructor is inaccessible.
+     * @since 1.7.0
+     */
+    private @NotNull ConstructionPlan createConstructionPlan(
+            boolean needAnnotation,
+            InstantiationStrategy instantiationStrategy,
+            boolean constructDependencies
+    ) throws ConstructorException, NoSuchMethodException, IllegalAccessException {
+        long[] versions = ConstructionPlan.getVersions(registers);
+
+        if (searchableRegisters == null) {
+            this.searchableRegisters = getSearchableRegister(registers);
+        }
+        this.dependencyGraph = constructDependencies ? new DependencyGraph(constructionCls) : null;
+
+        Instantiator instantiator = createInstantiator(needAnnotation, instantiationStrategy);
+
+        return new ConstructionPlan(
+                instantiator,
+                registers,
+                versions,
+                needAnnotation,
+                instantiationStrategy,
+                constructDependencies,
+                constructionSettings.resolveAssignableTypes(),
+                constructionSettings.getParameterExecutor()
+        );
+    }
+
+    /**
+     * Make the {@link Instantiator} of the class. If the annotation {@link ConstructorResolving} is needed and the
+     * class has a generated {@link ConstructorFactory}, the factory is used instead of reflection.
+     *
+     * @param needAnnotation        Whether the annotation {@link ConstructorResolving} is needed on a constructor.
+     * @param instantiationStrategy The strategy that is used to invoke the constructor.
+     *
+     * @return The {@link Instantiator} of the class.
+     *
+     * @throws ConstructorException   if there is no valid constructor, or if the construction class is an interface,
+     *                                enum or abstract class.
+     * @throws NoSuchMethodException  if a matching method is not found.
+     * @throws IllegalAccessException if the chosen constructor is inaccessible.
+     * @since 1.7.0
+     */
+    private @NotNull Instantiator createInstantiator(
+            boolean needAnnotation,
+            InstantiationStrategy instantiationStrategy
+    ) throws ConstructorException, NoSuchMethodException, IllegalAccessException {
         if (constructionCls.isInterface() ||
             constructionCls.isEnum() ||
             (constructionCls.getModifiers() & Modifier.ABSTRACT) != 0) {
             throw new ConstructorException("%s is an interface, enum or abstract class, those cannot be constructed.".formatted(
                     constructionCls.getSimpleName()));
         }
+
+        ConstructorFactory<T> factory = needAnnotation ? ConstructorFactories.getFactory(constructionCls) : null;
+
+        return factory != null ? getGeneratedInstantiator(factory) : getInstantiator(instantiationStrategy);
+    }
+
+    /**
+     * Get the {@link ConstructedProvider} of a dependency that is not registered. The dependency is planned once per
+     * {@link DependencyGraph}.
+     *
+     * @param type The type of the dependency.
+     *
+     * @return The {@link ConstructedProvider} of the dependency, if {@code null} the dependency cannot be constructed.
+     *
+     * @since 1.7.0
+     */
+    private @Nullable TypeProvider<?, ?> getDependencyProvider(@NotNull Class<?> type) {
+        if (!DependencyGraph.isConstructible(type)) {
+            return null;
+        }
+
+        return dependencyGraph.getProvider(type, this::planDependency);
+    }
+
+    /**
+     * Plan the construction of a dependency, with the same settings as the class that depends on it.
+     *
+     * @param type The type of the dependency.
+     * @param <D>  type of the dependency.
+     *
+     * @return The {@link ConstructedProvider} of the dependency, if {@code null} the dependency cannot be constructed.
+     *
+     * @since 1.7.0
+     */
+    private <D> @Nullable TypeProvider<?, ?> planDependency(@NotNull Class<D> type) {
+        ConstructorResolver<D> resolver = new ConstructorResolver<>(type, this);
+
+        try {
+            Instantiator instantiator = resolver.createInstantiator(
+                    constructionSettings.needAnnotation(),
+                    constructionSettings.getInstantiationStrategy()
+            );
+
+            return new ConstructedProvider<>(type, instantiator);
+        } catch (ConstructorException | NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Make the {@link ConstructorException} of a class that has no valid constructor. If a cycle has been detected in
+     * the dependencies, the cycle is part of the message.
+     *
+     * @return The {@link ConstructorException} of a class that has no valid constructor.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull ConstructorException noValidConstructor() {
+        String cycle = dependencyGraph != null ? dependencyGraph.getCycle() : null;
+
+        if (cycle != null) {
+            return new ConstructorException("%s has no valid constructor, the dependencies contain a cycle: %s."
+                                                    .formatted(constructionCls.getSimpleName(), cycle));
+        }
+
+        return new ConstructorException("%s has no valid constructor.".formatted(constructionCls.getSimpleName()));
+    }
+
+    /**
+     * Get the {@link Instantiator} of the constructor that has been chosen by reflection.
+     *
+     * @param instantiationStrategy The strategy that is used to invoke the constructor.
+     *
+     * @return The {@link Instantiator} of the chosen constructor.
+     *
+     * @throws ConstructorException   if there is no valid constructor.
+     * @throws NoSuchMethodException  if a matching method is not found.
+     * @throws IllegalAccessException if the chosen constructor is inaccessible.
+     * @since 1.7.0
+     */
+    private @NotNull Instantiator getInstantiator(@NotNull InstantiationStrategy instantiationStrategy) throws
+            ConstructorException,
+            NoSuchMethodException,
+            IllegalAccessException {
         Optional<Constructor<?>> optionalConstructor = getClassConstructor();
 
         if (optionalConstructor.isEmpty()) {
-            throw new ConstructorException("%s has no valid constructor.".formatted(constructionCls.getSimpleName()));
+            throw noValidConstructor();
         }
 
         Constructor<?> constructor = optionalConstructor.get();
+        constructor.setAccessible(true);
+
+        return instantiationStrategy.createInstantiator(
+                constructor,
+                getParameterProviders(constructor),
+                constructionSettings.getParameterExecutor()
+        );
+    }
 
-        Object[] initObjects = getResolvedObjects(constructor);
+    /**
+     * Get the {@link Instantiator} of the first constructor of the generated {@link ConstructorFactory} that has
+     * resolvable types. The constructors of the factory are already ordered on their {@link ConstructorPriority}.
+     *
+     * @param factory The generated factory of the class.
+     *
+     * @return The {@link Instantiator} of the chosen constructor of the factory.
+     *
+     * @throws ConstructorException if there is no valid constructor.
+     * @since 1.7.0
+     */
+    private @NotNull Instantiator getGeneratedInstantiator(@NotNull ConstructorFactory<T> factory) throws
+            ConstructorException {
+        for (int i = 0; i < factory.getConstructorCount(); i++) {
+            Class<?>[] parameterTypes = factory.getParameterTypes(i);
 
-        constructor.setAccessible(true);
-        T clazz = constructionCls.cast(constructor.newInstance(initObjects));
-        constructor.setAccessible(false);
+            if (hasResolvableTypes(parameterTypes)) {
+                return new GeneratedInstantiator(
+                        factory,
+                        i,
+                        getParameterProviders(parameterTypes),
+                        constructionSettings.getParameterExecutor()
+                );
+            }
+        }
 
-        return clazz;
+        throw noValidConstructor();
     }
 
     /**
@@ -397,31 +875,49 @@ public final class ConstructorResolver<T> {
     }
 
     /**
-     * Get the resolved objects of a constructor.
+     * Get the {@link TypeProvider}s of the parameters of a constructor.
      *
      * @param constructor constructor to resolve the types from
      *
-     * @return resolved objects of the given constructor.
+     * @return The {@link TypeProvider}s of the parameters of the given constructor.
      *
-     * @since 1.5.0
+     * @since 1.7.0
      */
-    @Contract(pure = true)
-    private Object @NotNull [] getResolvedObjects(
-            @NotNull Constructor<?> constructor
-    ) {
-        Consumer<InitProviderSettings> settingsConsumer = (settings) -> {
-            settings.setIdentifiers(constructionSettings.getIdentifiers());
-            settings.useAllRegisters(true);
-        };
+    private TypeProvider<?, ?> @NotNull [] getParameterProviders(@NotNull Constructor<?> constructor) {
+        return getParameterProviders(constructor.getParameterTypes());
+    }
+
+    /**
+     * Get the {@link TypeProvider}s of parameter types. If the dependencies are constructed, the types that are not
+     * registered are provided by their {@link ConstructedProvider}.
+     *
+     * @param parameterTypes parameter types to resolve the types from
+     *
+     * @return The {@link TypeProvider}s of the given parameter types.
+     *
+     * @since 1.7.0
+     */
+    private TypeProvider<?, ?> @NotNull [] getParameterProviders(Class<?> @NotNull [] parameterTypes) {
+        Function<Class<?>, TypeProvider<?, ?>> mapper = (type) -> {
+            if (dependencyGraph != null && !isRegistered(type)) {
+                TypeProvider<?, ?> dependencyProvider = getDependencyProvider(type);
+
+                if (dependencyProvider != null) {
+                    return dependencyProvider;
+                }
+            }
 
-        Function<Class<?>, Object> mapper = (type) -> searchableRegisters.getInitProvider(type, settingsConsumer);
+            return getRegisteredProvider(type);
+        };
 
-        return Arrays.stream(constructor.getParameterTypes()).map(mapper).toArray();
+        return Arrays.stream(parameterTypes).map(mapper).toArray(TypeProvider<?, ?>[]::new);
     }
 
     /**
      * Get a constructor that has the {@link ConstructorResolving} annotation. This constructor can only have resolvable
-     * types. Those will be provided by the {@link TypeRegister}.
+     * types. Those will be provided by the {@link TypeRegister}. The constructors are checked with the
+     * {@link ExecutionPolicy} of the settings, or one after another if the dependencies are constructed, because the
+     * {@link DependencyGraph} keeps the path of the discovery.
      *
      * @param constructors constructors that will be checked to the conditions.
      *
@@ -436,7 +932,14 @@ public final class ConstructorResolver<T> {
                 constructor -> (!constructionSettings.needAnnotation() || getResolverAnnotation(constructor) != null) &&
                                hasResolvableTypes(constructor.getParameterTypes());
 
-        Stream<Constructor<?>> constructorStream = Arrays.stream(constructors).parallel().filter(constructorPredicate);
+        ExecutionPolicy executionPolicy =
+                dependencyGraph == null ? constructionSettings.getExecutionPolicy() : ExecutionPolicy.sequential();
+        boolean[] validConstructors = executionPolicy.test(constructors, constructorPredicate);
+
+        Stream<Constructor<?>> constructorStream = IntStream.range(0, constructors.length)
+                .filter(i -> validConstructors[i])
+                .mapToObj(i -> constructors[i]);
+
         try {
             if (!constructionSettings.needAnnotation()) {
                 return constructorStream.findFirst();
@@ -450,7 +953,9 @@ public final class ConstructorResolver<T> {
     }
 
     /**
-     * Check if all classes are a resolvable type.
+     * Check if all classes are a resolvable type. If the dependencies are constructed, a class that is not registered
+     * but can be constructed is a resolvable type as well. The classes are checked one after another, the
+     * {@link ExecutionPolicy} is applied to the constructors instead.
      *
      * @param parameters classes that will be checked.
      *
@@ -459,7 +964,50 @@ public final class ConstructorResolver<T> {
      * @since 1.5.0
      */
     private boolean hasResolvableTypes(Class<?> @NotNull [] parameters) {
-        return Arrays.stream(parameters).parallel().allMatch(type -> searchableRegisters.hasProvider(type, true));
+        if (dependencyGraph != null) {
+            return Arrays.stream(parameters).allMatch(
+                    type -> isRegistered(type) || getDependencyProvider(type) != null);
+        }
+
+        return Arrays.stream(parameters).allMatch(this::isRegistered);
+    }
+
+    /**
+     * Check if the type is registered in the registers. If the assignable types are resolved, a registered type that
+     * is assignable to the type is sufficient.
+     *
+     * @param type The type to check.
+     *
+     * @return If {@code true} the type is registered.
+     *
+     * @since 1.7.0
+     */
+    private boolean isRegistered(Class<?> type) {
+        if (constructionSettings.resolveAssignableTypes()) {
+            return searchableRegisters.hasAssignableProvider(type, true);
+        }
+
+        return searchableRegisters.hasProvider(type, true);
+    }
+
+    /**
+     * Get the {@link TypeProvider} of the type from the registers. If the assignable types are resolved, the
+     * {@link TypeProvider} of a registered type that is assignable to the type is used, when the type itself is not
+     * registered.
+     *
+     * @param type The type to get the {@link TypeProvider} from.
+     *
+     * @return The {@link TypeProvider} of the type.
+     *
+     * @throws nl.devoxist.typeresolver.exception.RegisterException If the type is not registered.
+     * @since 1.7.0
+     */
+    private @NotNull TypeProvider<?, ?> getRegisteredProvider(Class<?> type) {
+        if (constructionSettings.resolveAssignableTypes()) {
+            return searchableRegisters.getAssignableTypeProvider(type, true);
+        }
+
+        return searchableRegisters.getTypeProvider(type, true);
     }
 
     /**
@@ -499,7 +1047,7 @@ public final class ConstructorResolver<T> {
      * @since 1.0.0
      */
     private static boolean hasConstructorWithNoParams(@NotNull Constructor<?> @NotNull [] constructors) {
-        return Arrays.stream(constructors).parallel().anyMatch(constructor -> constructor.getParameterCount() == 0);
+        return Arrays.stream(constructors).anyMatch(constructor -> constructor.getParameterCount() == 0);
     }
 
 }
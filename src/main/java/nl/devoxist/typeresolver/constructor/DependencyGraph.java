@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link DependencyGraph} keeps the state of the discovery of the dependencies of a class that are not registered, but
+ * can be constructed. Every dependency is planned once per graph, so a dependency that is shared by multiple classes
+ * of the graph uses the same {@link ConstructedProvider}. The path of the discovery is kept to detect a cycle in the
+ * dependencies.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class DependencyGraph {
+    /**
+     * The providers of the dependencies that have been planned.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, TypeProvider<?, ?>> providers = new HashMap<>();
+    /**
+     * The dependencies that cannot be constructed, regardless of the path to the dependency.
+     *
+     * @since 1.7.0
+     */
+    private final Set<Class<?>> unconstructible = new HashSet<>();
+    /**
+     * The classes that are being planned, in the order of the discovery.
+     *
+     * @since 1.7.0
+     */
+    private final Set<Class<?>> path = new LinkedHashSet<>();
+    /**
+     * The description of the last detected cycle, if {@code null} no cycle has been detected.
+     *
+     * @since 1.7.0
+     */
+    private String cycle;
+    /**
+     * The amount of detected cycles.
+     *
+     * @since 1.7.0
+     */
+    private int cycleCount;
+
+    /**
+     * Construct a new {@link DependencyGraph} of the class that is constructed.
+     *
+     * @param rootCls The class that is constructed, this is the start of the path.
+     *
+     * @since 1.7.0
+     */
+    DependencyGraph(@NotNull Class<?> rootCls) {
+        this.path.add(rootCls);
+    }
+
+    /**
+     * Check if the type could be constructed as a dependency. Primitives, arrays, interfaces, enums, abstract classes
+     * and the classes of the JDK are never constructed. A class is part of the JDK if it is loaded by the bootstrap or
+     * the platform class loader, e.g. {@code java.sql} and {@code java.net.http}, or if it is in a {@code java.*} or
+     * {@code jdk.*} module of the boot layer.
+     *
+     * @param type The type of the dependency.
+     *
+     * @return If {@code true} the type could be constructed as a dependency.
+     *
+     * @since 1.7.0
+     */
+    static boolean isConstructible(@NotNull Class<?> type) {
+        return !type.isPrimitive() &&
+               !type.isArray() &&
+               !type.isInterface() &&
+               !type.isEnum() &&
+               (type.getModifiers() & Modifier.ABSTRACT) == 0 &&
+               !isJdkType(type);
+    }
+
+    /**
+     * Check if the type is part of the JDK. The type is part of the JDK if it is loaded by the bootstrap or the
+     * platform class loader, or if it is in a {@code java.*} or {@code jdk.*} module of the boot layer.
+     *
+     * @param type The type to check.
+     *
+     * @return If {@code true} the type is part of the JDK.
+     *
+     * @since 1.7.0
+     */
+    private static boolean isJdkType(@NotNull Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+
+        if (classLoader == null || classLoader == ClassLoader.getPlatformClassLoader()) {
+            return true;
+        }
+
+        Module module = type.getModule();
+
+        if (!module.isNamed() || module.getLayer() != ModuleLayer.boot()) {
+            return false;
+        }
+
+        String moduleName = module.getName();
+        return moduleName.startsWith("java.") || moduleName.startsWith("jdk.");
+    }
+
+    /**
+     * Get the provider of a dependency. If the dependency has not been planned yet, the dependency is planned by the
+     * planner. A dependency that is already on the path is a cycle, which cannot be constructed.
+     *
+     * @param type    The type of the dependency.
+     * @param planner The planner that makes the provider of the dependency, if the planner returns {@code null} the
+     *                dependency cannot be constructed.
+     *
+     * @return The provider of the dependency, if {@code null} the dependency cannot be constructed.
+     *
+     * @since 1.7.0
+     */
+    @Nullable TypeProvider<?, ?> getProvider(
+            @NotNull Class<?> type,
+            @NotNull Function<Class<?>, TypeProvider<?, ?>> planner
+    ) {
+        TypeProvider<?, ?> provider = providers.get(type);
+
+        if (provider != null || unconstructible.contains(type)) {
+            return provider;
+        }
+
+        if (path.contains(type)) {
+            recordCycle(type);
+            return null;
+        }
+
+        int cycles = this.cycleCount;
+        path.add(type);
+
+        try {
+            provider = planner.apply(type);
+        } finally {
+            path.remove(type);
+        }
+
+        if (provider != null) {
+            providers.put(type, provider);
+        } else if (cycles == this.cycleCount) {
+            unconstructible.add(type);
+        }
+
+        return provider;
+    }
+
+    /**
+     * Get the description of the last detected cycle, for example {@code A -> B -> A}.
+     *
+     * @return The description of the last detected cycle, if {@code null} no cycle has been detected.
+     *
+     * @since 1.7.0
+     */
+    @Nullable String getCycle() {
+        return cycle;
+    }
+
+    /**
+     * Record the cycle from the type on the path back to the type.
+     *
+     * @param type The type that is already on the path.
+     *
+     * @since 1.7.0
+     */
+    private void recordCycle(@NotNull Class<?> type) {
+        this.cycle = Stream.concat(path.stream().dropWhile(cls -> cls != type), Stream.of(type))
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(" -> "));
+        this.cycleCount++;
+    }
+}
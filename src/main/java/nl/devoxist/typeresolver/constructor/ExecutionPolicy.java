@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.settings.ConstructionSettings;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * {@link ExecutionPolicy} determines how the {@link ConstructorResolver} checks the constructors of a class, when a
+ * new {@link ConstructionPlan} is made. By default, the constructors are checked one after another. A parallel policy
+ * checks the constructors concurrently on its own {@link Executor}, if the class has at least the threshold amount of
+ * constructors. So the construction does not use the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+ *
+ * <h2> Example usage: </h2>
+ * <pre>{@code
+ *      ConstructorResolver.constructClass(Example.class)
+ *              .setExecutionPolicy(ExecutionPolicy.parallel(executor, 4))
+ *              .initClass();
+ * }</pre>
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @see ConstructionSettings#setExecutionPolicy(ExecutionPolicy)
+ * @since 1.7.0
+ */
+public final class ExecutionPolicy {
+    /**
+     * The default amount of constructors from which the constructors are checked concurrently.
+     *
+     * @since 1.7.0
+     */
+    public static final int DEFAULT_THRESHOLD = 4;
+    /**
+     * The policy that checks the constructors one after another.
+     *
+     * @since 1.7.0
+     */
+    private static final ExecutionPolicy SEQUENTIAL = new ExecutionPolicy(null, Integer.MAX_VALUE);
+
+    /**
+     * The {@link Executor} that checks the constructors, if {@code null} the constructors are checked by the calling
+     * thread.
+     *
+     * @since 1.7.0
+     */
+    private final Executor executor;
+    /**
+     * The amount of constructors from which the constructors are checked concurrently.
+     *
+     * @since 1.7.0
+     */
+    private final int threshold;
+
+    /**
+     * Construct a new {@link ExecutionPolicy}.
+     *
+     * @param executor  The {@link Executor} that checks the constructors, if {@code null} the constructors are checked
+     *                  by the calling thread.
+     * @param threshold The amount of constructors from which the constructors are checked concurrently.
+     *
+     * @since 1.7.0
+     */
+    private ExecutionPolicy(@Nullable Executor executor, int threshold) {
+        this.executor = executor;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Get the policy that checks the constructors one after another, by the calling thread. This is the default
+     * policy.
+     *
+     * @return The policy that checks the constructors one after another.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public static @NotNull ExecutionPolicy sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Get a policy that checks the constructors concurrently on the {@link Executor}, if the class has at least
+     * {@link #DEFAULT_THRESHOLD} constructors.
+     *
+     * @param executor The {@link Executor} that checks the constructors.
+     *
+     * @return The policy that checks the constructors concurrently on the {@link Executor}.
+     *
+     * @since 1.7.0
+     */
+    @Contract("_ -> new")
+    public static @NotNull ExecutionPolicy parallel(@NotNull Executor executor) {
+        return parallel(executor, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Get a policy that checks the constructors concurrently on the {@link Executor}, if the class has at least the
+     * threshold amount of constructors. Fewer constructors are checked by the calling thread, because the hand-off to
+     * the {@link Executor} costs more than checking a few constructors.
+     *
+     * @param executor  The {@link Executor} that checks the constructors.
+     * @param threshold The amount of constructors from which the constructors are checked concurrently.
+     *
+     * @return The policy that checks the constructors concurrently on the {@link Executor}.
+     *
+     * @throws IllegalArgumentException if the threshold is lower than {@code 2}.
+     * @since 1.7.0
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull ExecutionPolicy parallel(@NotNull Executor executor, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("The threshold needs to be at least 2, but is %d.".formatted(threshold));
+        }
+
+        return new ExecutionPolicy(executor, threshold);
+    }
+
+    /**
+     * Get the {@link Executor} that checks the constructors.
+     *
+     * @return The {@link Executor} that checks the constructors, if {@code null} the constructors are checked by the
+     * calling thread.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Get the amount of constructors from which the constructors are checked concurrently.
+     *
+     * @return The amount of constructors from which the constructors are checked concurrently.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Test the predicate on all the elements. If there is an {@link #executor} and there are at least
+     * {@link #threshold} elements, the elements are tested concurrently and the last element is tested by the calling
+     * thread. All the tests are awaited, before a failure is thrown. If the test of the calling thread fails, its
+     * failure is thrown with the failures of the forked tests as suppressed exceptions.
+     *
+     * @param elements  The elements to test.
+     * @param predicate The predicate that is tested on the elements.
+     * @param <E>       type of the elements.
+     *
+     * @return The results of the predicate, in the order of the elements.
+     *
+     * @since 1.7.0
+     */
+    <E> boolean @NotNull [] test(E @NotNull [] elements, @NotNull Predicate<? super E> predicate) {
+        boolean[] results = new boolean[elements.length];
+
+        if (executor == null || elements.length < threshold) {
+            for (int i = 0; i < elements.length; i++) {
+                results[i] = predicate.test(elements[i]);
+            }
+
+            return results;
+        }
+
+        int last = elements.length - 1;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[last];
+
+        for (int i = 0; i < last; i++) {
+            int index = i;
+            futures[i] = CompletableFuture.runAsync(() -> results[index] = predicate.test(elements[index]), executor);
+        }
+
+        try {
+            results[last] = predicate.test(elements[last]);
+        } catch (RuntimeException | Error e) {
+            awaitAll(futures, e);
+            throw e;
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw e;
+        }
+
+        return results;
+    }
+
+    /**
+     * Await all the forked tests after the test of the calling thread has failed. The failures of the forked tests are
+     * added as suppressed exceptions to the failure of the calling thread.
+     *
+     * @param futures The forked tests.
+     * @param failure The failure of the test of the calling thread.
+     *
+     * @since 1.7.0
+     */
+    private static void awaitAll(CompletableFuture<?> @NotNull [] futures, @NotNull Throwable failure) {
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                failure.addSuppressed(e.getCause() != null ? e.getCause() : e);
+            } catch (CancellationException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,893 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.IdentifierProvider;
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link FactoryClassGenerator} generates the class file of a factory, which constructs a class with a specific
+ * constructor. The factory implements {@code Function<Object[], Object>}, the argument of the function are the
+ * identifiers that are applied to the {@link IdentifierProvider}s. The generated code looks like:
+ * <pre>{@code
+ *      final class X$TypeResolverFactory implements Function {
+ *          private static final TypeProvider provider0;
+ *          private static final IdentifierProvider provider1;
+ *
+ *          static {
+ *              Object[] providers = (Object[]) MethodHandles.classData(MethodHandles.lookup(), "_", Object[].class);
+ *              provider0 = (TypeProvider) providers[0];
+ *              provider1 = (IdentifierProvider) providers[1];
+ *          }
+ *
+ *          public Object apply(Object identifiers) {
+ *              try {
+ *                  return new X(
+ *                          (P0) provider0.getInitProvider(),
+ *                          (P1) provider1.resolve((Object[]) identifiers)
+ *                  );
+ *              } catch (Throwable throwable) {
+ *                  throw new InvocationTargetException(throwable);
+ *              }
+ *          }
+ *      }
+ * }</pre>
+ * Only the invocation of the constructor is covered by the {@code try}, so the exceptions of the providers are thrown
+ * like they are. The {@link TypeProvider}s are passed as class data, so they are constants for the JIT compiler.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class FactoryClassGenerator {
+    /**
+     * The suffix of the name of the generated class.
+     *
+     * @since 1.7.0
+     */
+    static final String CLASS_NAME_SUFFIX = "$TypeResolverFactory";
+    /**
+     * The major version of the generated class file, which is the version of Java 17.
+     *
+     * @since 1.7.0
+     */
+    private static final int CLASS_FILE_VERSION = 61;
+    /**
+     * The access flags of the generated class, {@code final} and {@code super}.
+     *
+     * @since 1.7.0
+     */
+    private static final int CLASS_ACCESS = 0x0030;
+    /**
+     * The access flags of the provider fields, {@code private static final}.
+     *
+     * @since 1.7.0
+     */
+    private static final int FIELD_ACCESS = 0x001A;
+    /**
+     * The access flags of the constructor of the generated class, {@code private}.
+     *
+     * @since 1.7.0
+     */
+    private static final int CONSTRUCTOR_ACCESS = 0x0002;
+    /**
+     * The access flags of the {@code apply} method, {@code public}.
+     *
+     * @since 1.7.0
+     */
+    private static final int APPLY_ACCESS = 0x0001;
+    /**
+     * The access flags of the static initializer, {@code static}.
+     *
+     * @since 1.7.0
+     */
+    private static final int STATIC_INITIALIZER_ACCESS = 0x0008;
+    /**
+     * The prefix of the names of the provider fields.
+     *
+     * @since 1.7.0
+     */
+    private static final String FIELD_PREFIX = "provider";
+
+    // The opcodes of the instructions that are used in the generated code.
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int AALOAD = 0x32;
+    private static final int ASTORE_0 = 0x4b;
+    private static final int DUP = 0x59;
+    private static final int DUP_X1 = 0x5a;
+    private static final int SWAP = 0x5f;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int NEW = 0xbb;
+    private static final int ATHROW = 0xbf;
+    private static final int CHECKCAST = 0xc0;
+
+    /**
+     * The frame type of a frame with the same locals as the previous frame and one item on the stack.
+     *
+     * @since 1.7.0
+     */
+    private static final int SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED = 247;
+    /**
+     * The verification type of an object.
+     *
+     * @since 1.7.0
+     */
+    private static final int ITEM_OBJECT = 7;
+
+    /**
+     * The constant pool of the generated class.
+     *
+     * @since 1.7.0
+     */
+    private final ConstantPool constantPool = new ConstantPool();
+    /**
+     * The constructor that the factory invokes.
+     *
+     * @since 1.7.0
+     */
+    private final Constructor<?> constructor;
+    /**
+     * Whether the parameter at the index is provided by an {@link IdentifierProvider}.
+     *
+     * @since 1.7.0
+     */
+    private final boolean[] identifierParameters;
+    /**
+     * The internal name of the generated class.
+     *
+     * @since 1.7.0
+     */
+    private final String className;
+
+    /**
+     * Construct a {@link FactoryClassGenerator}.
+     *
+     * @param constructor          The constructor that the factory invokes.
+     * @param identifierParameters Whether the parameter at the index is provided by an {@link IdentifierProvider}.
+     *
+     * @since 1.7.0
+     */
+    private FactoryClassGenerator(@NotNull Constructor<?> constructor, boolean[] identifierParameters) {
+        this.constructor = constructor;
+        this.identifierParameters = identifierParameters;
+        this.className = internalName(constructor.getDeclaringClass()) + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Generate the class file of the factory of the constructor. The class file needs to be defined as a hidden class
+     * in the package of the declaring class of the constructor, with the {@link TypeProvider}s of the parameters as
+     * class data.
+     *
+     * @param constructor        The constructor that the factory invokes, the parameters cannot be primitives.
+     * @param parameterProviders The {@link TypeProvider}s of the parameters of the constructor.
+     *
+     * @return The class file of the factory.
+     *
+     * @see MethodHandles.Lookup#defineHiddenClassWithClassData(byte[], Object, boolean,
+     * MethodHandles.Lookup.ClassOption...)
+     * @since 1.7.0
+     */
+    static byte @NotNull [] generate(
+            @NotNull Constructor<?> constructor,
+            TypeProvider<?, ?> @NotNull [] parameterProviders
+    ) {
+        boolean[] identifierParameters = new boolean[parameterProviders.length];
+
+        for (int i = 0; i < parameterProviders.length; i++) {
+            identifierParameters[i] = parameterProviders[i] instanceof IdentifierProvider<?, ?>;
+        }
+
+        return new FactoryClassGenerator(constructor, identifierParameters).generate();
+    }
+
+    /**
+     * Generate the class file of the factory.
+     *
+     * @return The class file of the factory.
+     *
+     * @since 1.7.0
+     */
+    private byte @NotNull [] generate() {
+        int thisClass = constantPool.classInfo(className);
+        int superClass = constantPool.classInfo(Object.class);
+        int functionInterface = constantPool.classInfo(Function.class);
+
+        byte[] constructorMethod = method(CONSTRUCTOR_ACCESS, "<init>", "()V", constructorCode());
+        byte[] staticInitializer = method(STATIC_INITIALIZER_ACCESS, "<clinit>", "()V", staticInitializerCode());
+        byte[] applyMethod = method(
+                APPLY_ACCESS,
+                "apply",
+                MethodType.methodType(Object.class, Object.class).toMethodDescriptorString(),
+                applyCode()
+        );
+
+        int[] fieldNames = new int[identifierParameters.length];
+        int[] fieldDescriptors = new int[identifierParameters.length];
+
+        for (int i = 0; i < identifierParameters.length; i++) {
+            fieldNames[i] = constantPool.utf8(FIELD_PREFIX + i);
+            fieldDescriptors[i] = constantPool.utf8(providerClass(i).descriptorString());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            constantPool.writeTo(out);
+            out.writeShort(CLASS_ACCESS);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(functionInterface);
+
+            out.writeShort(identifierParameters.length);
+            for (int i = 0; i < identifierParameters.length; i++) {
+                out.writeShort(FIELD_ACCESS);
+                out.writeShort(fieldNames[i]);
+                out.writeShort(fieldDescriptors[i]);
+                out.writeShort(0);
+            }
+
+            out.writeShort(3);
+            out.write(constructorMethod);
+            out.write(staticInitializer);
+            out.write(applyMethod);
+
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Generate the code of the constructor of the factory, which only invokes the constructor of {@link Object}.
+     *
+     * @return The code of the constructor.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull Code constructorCode() {
+        Code code = new Code(1, 1);
+        code.op(ALOAD_0);
+        code.op(INVOKESPECIAL, constantPool.methodRef(Object.class, "<init>", "()V"));
+        code.op(RETURN);
+
+        return code;
+    }
+
+    /**
+     * Generate the code of the static initializer of the factory, which assigns the {@link TypeProvider}s of the
+     * class data to the provider fields.
+     *
+     * @return The code of the static initializer.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull Code staticInitializerCode() {
+        Code code = new Code(3, 1);
+        code.op(
+                INVOKESTATIC,
+                constantPool.methodRef(
+                        MethodHandles.class,
+                        "lookup",
+                        MethodType.methodType(MethodHandles.Lookup.class).toMethodDescriptorString()
+                )
+        );
+        code.op(LDC_W, constantPool.string("_"));
+        code.op(LDC_W, constantPool.classInfo(Object[].class));
+        code.op(
+                INVOKESTATIC,
+                constantPool.methodRef(
+                        MethodHandles.class,
+                        "classData",
+                        MethodType.methodType(Object.class, MethodHandles.Lookup.class, String.class, Class.class)
+                                .toMethodDescriptorString()
+                )
+        );
+        code.op(CHECKCAST, constantPool.classInfo(Object[].class));
+        code.op(ASTORE_0);
+
+        for (int i = 0; i < identifierParameters.length; i++) {
+            code.op(ALOAD_0);
+            code.pushInt(i);
+            code.op(AALOAD);
+            code.op(CHECKCAST, constantPool.classInfo(providerClass(i)));
+            code.op(PUTSTATIC, providerField(i));
+        }
+
+        code.op(RETURN);
+
+        return code;
+    }
+
+    /**
+     * Generate the code of the {@code apply} method of the factory, which constructs the class with the initialized
+     * providers as parameters.
+     *
+     * @return The code of the {@code apply} method.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull Code applyCode() {
+        Class<?> constructionCls = constructor.getDeclaringClass();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Code code = new Code(parameterTypes.length + 4, 2);
+
+        code.op(NEW, constantPool.classInfo(constructionCls));
+        code.op(DUP);
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            code.op(GETSTATIC, providerField(i));
+
+            if (identifierParameters[i]) {
+                code.op(ALOAD_1);
+                code.op(CHECKCAST, constantPool.classInfo(Object[].class));
+                code.op(
+                        INVOKEVIRTUAL,
+                        constantPool.methodRef(
+                                IdentifierProvider.class,
+                                "resolve",
+                                MethodType.methodType(Object.class, Object[].class).toMethodDescriptorString()
+                        )
+                );
+            } else {
+                code.op(
+                        INVOKEVIRTUAL,
+                        constantPool.methodRef(
+                                providerClass(i),
+                                "getInitProvider",
+                                MethodType.methodType(Object.class).toMethodDescriptorString()
+                        )
+                );
+            }
+
+            if (parameterTypes[i] != Object.class) {
+                code.op(CHECKCAST, constantPool.classInfo(parameterTypes[i]));
+            }
+        }
+
+        int tryStart = code.length();
+        code.op(
+                INVOKESPECIAL,
+                constantPool.methodRef(
+                        constructionCls,
+                        "<init>",
+                        MethodType.methodType(void.class, parameterTypes).toMethodDescriptorString()
+                )
+        );
+        int tryEnd = code.length();
+        code.op(ARETURN);
+
+        int throwableClass = constantPool.classInfo(Throwable.class);
+        code.handler(tryStart, tryEnd, throwableClass);
+        code.op(NEW, constantPool.classInfo(InvocationTargetException.class));
+        code.op(DUP_X1);
+        code.op(SWAP);
+        code.op(
+                INVOKESPECIAL,
+                constantPool.methodRef(
+                        InvocationTargetException.class,
+                        "<init>",
+                        MethodType.methodType(void.class, Throwable.class).toMethodDescriptorString()
+                )
+        );
+        code.op(ATHROW);
+
+        return code;
+    }
+
+    /**
+     * Generate a method of the factory.
+     *
+     * @param access     The access flags of the method.
+     * @param name       The name of the method.
+     * @param descriptor The descriptor of the method.
+     * @param code       The code of the method.
+     *
+     * @return The method, as it is written in the class file.
+     *
+     * @since 1.7.0
+     */
+    private byte @NotNull [] method(int access, String name, String descriptor, @NotNull Code code) {
+        int nameIndex = constantPool.utf8(name);
+        int descriptorIndex = constantPool.utf8(descriptor);
+        byte[] codeAttribute = code.toAttribute();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(access);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1);
+            out.write(codeAttribute);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Get the class of the provider field of the parameter.
+     *
+     * @param parameter The index of the parameter.
+     *
+     * @return {@link IdentifierProvider} if the parameter is provided by an {@link IdentifierProvider}, otherwise
+     * {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    private Class<?> providerClass(int parameter) {
+        return identifierParameters[parameter] ? IdentifierProvider.class : TypeProvider.class;
+    }
+
+    /**
+     * Get the index of the reference to the provider field of the parameter in the {@link #constantPool}.
+     *
+     * @param parameter The index of the parameter.
+     *
+     * @return The index of the reference to the provider field.
+     *
+     * @since 1.7.0
+     */
+    private int providerField(int parameter) {
+        return constantPool.fieldRef(
+                className,
+                FIELD_PREFIX + parameter,
+                providerClass(parameter).descriptorString()
+        );
+    }
+
+    /**
+     * Get the internal name of a class, which is the binary name with slashes. The internal name of an array class is
+     * its descriptor.
+     *
+     * @param cls The class to get the internal name of.
+     *
+     * @return The internal name of the class.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    private static @NotNull String internalName(@NotNull Class<?> cls) {
+        if (cls.isArray()) {
+            return cls.descriptorString();
+        }
+
+        return cls.getName().replace('.', '/');
+    }
+
+    /**
+     * {@link ConstantPool} is the constant pool of the generated class. Equal constants share the same entry.
+     *
+     * @since 1.7.0
+     */
+    private static final class ConstantPool {
+        // The tags of the entries that are used in the constant pool.
+        private static final int CONSTANT_UTF8 = 1;
+        private static final int CONSTANT_CLASS = 7;
+        private static final int CONSTANT_STRING = 8;
+        private static final int CONSTANT_FIELD_REF = 9;
+        private static final int CONSTANT_METHOD_REF = 10;
+        private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+        /**
+         * The indexes of the entries, by a key that identifies the entry.
+         *
+         * @since 1.7.0
+         */
+        private final Map<String, Integer> indexes = new HashMap<>();
+        /**
+         * The written entries.
+         *
+         * @since 1.7.0
+         */
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        /**
+         * The stream that writes the entries into {@link #bytes}.
+         *
+         * @since 1.7.0
+         */
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        /**
+         * The index of the next entry, the first index of the constant pool is {@code 1}.
+         *
+         * @since 1.7.0
+         */
+        private int nextIndex = 1;
+
+        /**
+         * Get the index of a {@code CONSTANT_Utf8} entry.
+         *
+         * @param value The value of the entry.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        int utf8(String value) {
+            return entry("Utf8:" + value, out -> {
+                out.writeByte(CONSTANT_UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        /**
+         * Get the index of a {@code CONSTANT_Class} entry.
+         *
+         * @param cls The class of the entry.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        int classInfo(Class<?> cls) {
+            return classInfo(internalName(cls));
+        }
+
+        /**
+         * Get the index of a {@code CONSTANT_Class} entry.
+         *
+         * @param internalName The internal name of the class of the entry.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        int classInfo(String internalName) {
+            int name = utf8(internalName);
+
+            return entry("Class:" + internalName, out -> {
+                out.writeByte(CONSTANT_CLASS);
+                out.writeShort(name);
+            });
+        }
+
+        /**
+         * Get the index of a {@code CONSTANT_String} entry.
+         *
+         * @param value The value of the entry.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        int string(String value) {
+            int utf8 = utf8(value);
+
+            return entry("String:" + value, out -> {
+                out.writeByte(CONSTANT_STRING);
+                out.writeShort(utf8);
+            });
+        }
+
+        /**
+         * Get the index of a {@code CONSTANT_Fieldref} entry.
+         *
+         * @param owner      The internal name of the class that declares the field.
+         * @param name       The name of the field.
+         * @param descriptor The descriptor of the field.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(CONSTANT_FIELD_REF, owner, name, descriptor);
+        }
+
+        /**
+         * Get the index of a {@code CONSTANT_Methodref} entry.
+         *
+         * @param owner      The class that declares the method.
+         * @param name       The name of the method.
+         * @param descriptor The descriptor of the method.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        int methodRef(Class<?> owner, String name, String descriptor) {
+            return memberRef(CONSTANT_METHOD_REF, internalName(owner), name, descriptor);
+        }
+
+        /**
+         * Get the index of a reference to a member.
+         *
+         * @param tag        The tag of the entry.
+         * @param owner      The internal name of the class that declares the member.
+         * @param name       The name of the member.
+         * @param descriptor The descriptor of the member.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerClass = classInfo(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = entry("NameAndType:" + name + ":" + descriptor, out -> {
+                out.writeByte(CONSTANT_NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+
+            return entry(tag + ":" + owner + "." + name + ":" + descriptor, out -> {
+                out.writeByte(tag);
+                out.writeShort(ownerClass);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        /**
+         * Get the index of an entry, the entry is written if it is not yet in the constant pool.
+         *
+         * @param key    The key that identifies the entry.
+         * @param writer The writer of the entry.
+         *
+         * @return The index of the entry.
+         *
+         * @since 1.7.0
+         */
+        private int entry(String key, EntryWriter writer) {
+            Integer index = indexes.get(key);
+
+            if (index != null) {
+                return index;
+            }
+
+            try {
+                writer.write(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            indexes.put(key, nextIndex);
+            return nextIndex++;
+        }
+
+        /**
+         * Write the constant pool, with the count of the constant pool in front.
+         *
+         * @param classFile The stream of the class file.
+         *
+         * @throws IOException if an I/O error occurs.
+         * @since 1.7.0
+         */
+        void writeTo(@NotNull DataOutputStream classFile) throws IOException {
+            classFile.writeShort(nextIndex);
+            bytes.writeTo(classFile);
+        }
+
+        /**
+         * {@link EntryWriter} writes an entry of the constant pool.
+         *
+         * @since 1.7.0
+         */
+        @FunctionalInterface
+        private interface EntryWriter {
+            /**
+             * Write the entry.
+             *
+             * @param out The stream of the constant pool.
+             *
+             * @throws IOException if an I/O error occurs.
+             * @since 1.7.0
+             */
+            void write(DataOutputStream out) throws IOException;
+        }
+    }
+
+    /**
+     * {@link Code} is the {@code Code} attribute of a method of the generated class. The code can have one exception
+     * handler, the handler catches a {@link Throwable} and has the same locals as the start of the method.
+     *
+     * @since 1.7.0
+     */
+    private final class Code {
+        /**
+         * The maximum depth of the operand stack of the method.
+         *
+         * @since 1.7.0
+         */
+        private final int maxStack;
+        /**
+         * The amount of local variables of the method.
+         *
+         * @since 1.7.0
+         */
+        private final int maxLocals;
+        /**
+         * The written bytecode.
+         *
+         * @since 1.7.0
+         */
+        private final ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+        /**
+         * The start, end, handler and catch type of the exception handler, {@code null} if there is no handler.
+         *
+         * @since 1.7.0
+         */
+        private int[] handler;
+
+        /**
+         * Construct an empty {@link Code}.
+         *
+         * @param maxStack  The maximum depth of the operand stack of the method.
+         * @param maxLocals The amount of local variables of the method.
+         *
+         * @since 1.7.0
+         */
+        private Code(int maxStack, int maxLocals) {
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        /**
+         * Write an instruction without operands.
+         *
+         * @param opcode The opcode of the instruction.
+         *
+         * @since 1.7.0
+         */
+        void op(int opcode) {
+            bytecode.write(opcode);
+        }
+
+        /**
+         * Write an instruction with an index into the constant pool as operand.
+         *
+         * @param opcode The opcode of the instruction.
+         * @param index  The index into the constant pool.
+         *
+         * @since 1.7.0
+         */
+        void op(int opcode, int index) {
+            bytecode.write(opcode);
+            bytecode.write(index >>> 8);
+            bytecode.write(index);
+        }
+
+        /**
+         * Write the instruction that pushes an {@code int} constant.
+         *
+         * @param value The constant to push, between {@code 0} and {@link Short#MAX_VALUE}.
+         *
+         * @since 1.7.0
+         */
+        void pushInt(int value) {
+            if (value <= 5) {
+                bytecode.write(ICONST_0 + value);
+            } else if (value <= Byte.MAX_VALUE) {
+                bytecode.write(BIPUSH);
+                bytecode.write(value);
+            } else {
+                op(SIPUSH, value);
+            }
+        }
+
+        /**
+         * Get the length of the written bytecode.
+         *
+         * @return The length of the written bytecode.
+         *
+         * @since 1.7.0
+         */
+        int length() {
+            return bytecode.size();
+        }
+
+        /**
+         * Start the exception handler at the current position of the bytecode.
+         *
+         * @param start     The start of the protected code, inclusive.
+         * @param end       The end of the protected code, exclusive.
+         * @param catchType The index of the caught class in the constant pool.
+         *
+         * @since 1.7.0
+         */
+        void handler(int start, int end, int catchType) {
+            this.handler = new int[]{start, end, length(), catchType};
+        }
+
+        /**
+         * Write the {@code Code} attribute. If there is an exception handler, a {@code StackMapTable} attribute
+         * with the frame of the handler is added.
+         *
+         * @return The {@code Code} attribute.
+         *
+         * @since 1.7.0
+         */
+        byte @NotNull [] toAttribute() {
+            int codeName = constantPool.utf8("Code");
+            int stackMapTableName = handler == null ? 0 : constantPool.utf8("StackMapTable");
+            byte[] code = bytecode.toByteArray();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeShort(codeName);
+                out.writeInt(2 + 2 + 4 + code.length + 2 + (handler == null ? 0 : 8) + 2 +
+                             (handler == null ? 0 : 14));
+                out.writeShort(maxStack);
+                out.writeShort(maxLocals);
+                out.writeInt(code.length);
+                out.write(code);
+
+                if (handler == null) {
+                    out.writeShort(0);
+                    out.writeShort(0);
+                } else {
+                    out.writeShort(1);
+                    for (int value : handler) {
+                        out.writeShort(value);
+                    }
+
+                    out.writeShort(1);
+                    out.writeShort(stackMapTableName);
+                    out.writeInt(8);
+                    out.writeShort(1);
+                    out.writeByte(SAME_LOCALS_1_STACK_ITEM_FRAME_EXTENDED);
+                    out.writeShort(handler[2]);
+                    out.writeByte(ITEM_OBJECT);
+                    out.writeShort(handler[3]);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link GeneratedInstantiator} invokes a constructor of a generated {@link ConstructorFactory}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class GeneratedInstantiator implements Instantiator {
+    /**
+     * The generated factory of the constructed class.
+     *
+     * @since 1.7.0
+     */
+    private final ConstructorFactory<?> factory;
+    /**
+     * The index of the constructor in the {@link #factory}.
+     *
+     * @since 1.7.0
+     */
+    private final int constructor;
+    /**
+     * The {@link TypeProvider}s of the parameters of the constructor, in the order of the parameters.
+     *
+     * @since 1.7.0
+     */
+    private final TypeProvider<?, ?>[] parameterProviders;
+    /**
+     * The {@link Executor} that resolves the parameters, if {@code null} the parameters are resolved by the calling
+     * thread.
+     *
+     * @since 1.7.0
+     */
+    private final Executor parameterExecutor;
+
+    /**
+     * Construct a {@link GeneratedInstantiator}.
+     *
+     * @param factory            The generated factory of the constructed class.
+     * @param constructor        The index of the constructor in the factory.
+     * @param parameterProviders The {@link TypeProvider}s of the parameters of the constructor.
+     * @param parameterExecutor  The {@link Executor} that resolves the parameters, if {@code null} the parameters are
+     *                           resolved by the calling thread.
+     *
+     * @since 1.7.0
+     */
+    GeneratedInstantiator(
+            @NotNull ConstructorFactory<?> factory,
+            int constructor,
+            TypeProvider<?, ?>[] parameterProviders,
+            @Nullable Executor parameterExecutor
+    ) {
+        this.factory = factory;
+        this.constructor = constructor;
+        this.parameterProviders = parameterProviders;
+        this.parameterExecutor = parameterExecutor;
+    }
+
+    /**
+     * Construct a new instance with the constructor of the {@link #factory}.
+     *
+     * @param identifiers The identifiers that are used to select the type of an
+     *                    {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @return The constructed instance.
+     *
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @since 1.7.0
+     */
+    @Override
+    public Object newInstance(Object[] identifiers) throws InvocationTargetException {
+        return factory.newInstance(
+                constructor,
+                Instantiator.resolveParameters(parameterProviders, identifiers, parameterExecutor)
+        );
+    }
+}
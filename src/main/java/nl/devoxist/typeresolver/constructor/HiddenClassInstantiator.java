@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * {@link HiddenClassInstantiator} invokes a constructor through a factory, which is a hidden class that has been
+ * generated by the {@link FactoryClassGenerator}. The hidden class is defined as a nestmate of the constructed class,
+ * so it can invoke private constructors. The hidden class is not strongly bound to the class loader, so it can be
+ * unloaded when the {@link HiddenClassInstantiator} is not used anymore. The hidden class holds the
+ * {@link TypeProvider}s of the parameters as class data, the {@link ConstructionPlanCache} removes the plan, and so
+ * the {@link HiddenClassInstantiator}, on the next lookup of the class after a register of the plan has been
+ * garbage collected.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class HiddenClassInstantiator implements Instantiator {
+    /**
+     * The generated factory, the argument of the factory are the identifiers.
+     *
+     * @since 1.7.0
+     */
+    private final Function<Object[], Object> factory;
+
+    /**
+     * Construct a {@link HiddenClassInstantiator}.
+     *
+     * @param factory The generated factory, the argument of the factory are the identifiers.
+     *
+     * @since 1.7.0
+     */
+    private HiddenClassInstantiator(Function<Object[], Object> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Create the {@link Instantiator} of the constructor. If a hidden class cannot be defined for the constructor, a
+     * {@link MethodHandleInstantiator} is returned.
+     *
+     * @param constructor        The constructor, which already has been made accessible.
+     * @param parameterProviders The {@link TypeProvider}s of the parameters of the constructor.
+     *
+     * @return The {@link Instantiator} of the constructor.
+     *
+     * @throws IllegalAccessException if the constructor is inaccessible.
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    static @NotNull Instantiator create(
+            @NotNull Constructor<?> constructor,
+            TypeProvider<?, ?>[] parameterProviders
+    ) throws IllegalAccessException {
+        if (!canDefineFactory(constructor, parameterProviders)) {
+            return new MethodHandleInstantiator(constructor, parameterProviders);
+        }
+
+        try {
+            MethodHandles.Lookup lookup =
+                    MethodHandles.privateLookupIn(constructor.getDeclaringClass(), MethodHandles.lookup());
+            byte[] factoryClass = FactoryClassGenerator.generate(constructor, parameterProviders);
+
+            Class<?> hiddenClass = lookup.defineHiddenClassWithClassData(
+                    factoryClass,
+                    parameterProviders.clone(),
+                    true,
+                    MethodHandles.Lookup.ClassOption.NESTMATE
+            ).lookupClass();
+
+            Constructor<?> factoryConstructor = hiddenClass.getDeclaredConstructor();
+            factoryConstructor.setAccessible(true);
+
+            return new HiddenClassInstantiator((Function<Object[], Object>) factoryConstructor.newInstance());
+        } catch (ReflectiveOperationException | LinkageError | IllegalArgumentException e) {
+            return new MethodHandleInstantiator(constructor, parameterProviders);
+        }
+    }
+
+    /**
+     * Check if a factory can be defined for the constructor. The constructed class and the parameters need to be
+     * referable by name from the constructed class, and the parameters cannot be primitives. The parameters cannot be
+     * constructed dependencies either, because the factory cannot pass the identifiers to a
+     * {@link ConstructedProvider}.
+     *
+     * @param constructor        The constructor to check.
+     * @param parameterProviders The {@link TypeProvider}s of the parameters of the constructor.
+     *
+     * @return If {@code true} a factory can be defined for the constructor.
+     *
+     * @since 1.7.0
+     */
+    private static boolean canDefineFactory(
+            @NotNull Constructor<?> constructor,
+            TypeProvider<?, ?> @NotNull [] parameterProviders
+    ) {
+        Class<?> constructionCls = constructor.getDeclaringClass();
+
+        if (constructionCls.isHidden() || Modifier.isAbstract(constructionCls.getModifiers())) {
+            return false;
+        }
+
+        for (TypeProvider<?, ?> parameterProvider : parameterProviders) {
+            if (parameterProvider instanceof ConstructedProvider<?>) {
+                return false;
+            }
+        }
+
+        return Arrays.stream(constructor.getParameterTypes())
+                .noneMatch(type -> type.isPrimitive() || type.isHidden());
+    }
+
+    /**
+     * Construct a new instance with the {@link #factory}.
+     *
+     * @param identifiers The identifiers that are used to select the type of an
+     *                    {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @return The constructed instance.
+     *
+     * @throws InvocationTargetException if the underlying constructor throws an exception, the factory throws the
+     *                                   {@link InvocationTargetException} itself.
+     * @since 1.7.0
+     */
+    @Override
+    public Object newInstance(Object[] identifiers) throws InvocationTargetException {
+        return factory.apply(identifiers);
+    }
+}
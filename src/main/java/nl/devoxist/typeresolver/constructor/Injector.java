@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.TypeRegister;
+import nl.devoxist.typeresolver.exception.ConstructorException;
+import nl.devoxist.typeresolver.providers.IdentifierProvider;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.settings.ConstructionSettings;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * {@link Injector} is a long-lived {@link ConstructorResolver}, which is bound to fixed {@link ConstructionSettings}.
+ * The combined {@link Register} of the registers of the settings is made once, and the {@link ConstructionPlan}s of
+ * the constructed classes are kept by the {@link Injector}. So a construction does not copy the settings, does not
+ * combine the registers and does not search through the plans of other settings. The plans are still replaced when a
+ * register has been changed.
+ * <p>
+ * The {@link Injector} is thread-safe, so it can be shared by all the threads that construct classes.
+ *
+ * <h2> Example usage: </h2>
+ * <pre>{@code
+ *      Injector injector = Injector.of(settings -> settings.setRegisters(register));
+ *      Service service = injector.create(Service.class);
+ * }</pre>
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class Injector {
+    /**
+     * The settings of the constructions, these are a copy of the given settings, so they cannot be changed.
+     *
+     * @since 1.7.0
+     */
+    private final ConstructionSettings constructionSettings;
+    /**
+     * The registers that are used to retrieve the types from.
+     *
+     * @since 1.7.0
+     */
+    private final Register[] registers;
+    /**
+     * The identifiers that are used to select the type of an {@link IdentifierProvider}.
+     *
+     * @since 1.7.0
+     */
+    private final Object[] identifiers;
+    /**
+     * The {@link Register} where the types of the parameters are gathered from, which is made once of the
+     * {@link #registers}.
+     *
+     * @since 1.7.0
+     */
+    private final Register searchableRegister;
+    /**
+     * The last {@link ConstructionPlan} of every class that has been constructed by this {@link Injector}. The plans
+     * are owned by this {@link Injector}, so they are released together with this {@link Injector}.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, ConstructionPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Construct an {@link Injector} that is bound to a copy of the settings. A later change of the settings does not
+     * change the {@link Injector}.
+     *
+     * @param constructionSettings The settings of the constructions.
+     *
+     * @since 1.7.0
+     */
+    public Injector(@NotNull ConstructionSettings constructionSettings) {
+        this.constructionSettings = new ConstructionSettings(constructionSettings);
+        this.registers = this.constructionSettings.getRegisters();
+        this.identifiers = this.constructionSettings.getIdentifiers();
+        this.searchableRegister = ConstructorResolver.getSearchableRegister(registers);
+    }
+
+    /**
+     * Create an {@link Injector} that is bound to the settings, which have been set by the {@link Consumer}. The
+     * default register is the {@link TypeRegister}.
+     *
+     * @param constructionSettingsConsumer The {@link Consumer} of the {@link ConstructionSettings}.
+     *
+     * @return The {@link Injector} that is bound to the settings.
+     *
+     * @since 1.7.0
+     */
+    @Contract("_ -> new")
+    public static @NotNull Injector of(@NotNull Consumer<ConstructionSettings> constructionSettingsConsumer) {
+        ConstructionSettings constructionSettings = new ConstructionSettings();
+        constructionSettingsConsumer.accept(constructionSettings);
+
+        return new Injector(constructionSettings);
+    }
+
+    /**
+     * Create an {@link Injector} that is bound to the registers, with the default settings.
+     *
+     * @param registers The registers that are used to retrieve the types from.
+     *
+     * @return The {@link Injector} that is bound to the registers.
+     *
+     * @throws IllegalArgumentException if no register has been given.
+     * @since 1.7.0
+     */
+    @Contract("_ -> new")
+    public static @NotNull Injector of(Register @NotNull ... registers) {
+        return of(settings -> settings.setRegisters(registers));
+    }
+
+    /**
+     * Construct the class with the settings of this {@link Injector}.
+     *
+     * @param constructionCls The class which need to be auto constructed.
+     * @param <T>             type of the class which gets auto constructed.
+     *
+     * @return The initialized class, which has been auto formed by the type resolver.
+     *
+     * @throws ConstructorException      if there is no valid constructor, or if the construction class is an interface,
+     *                                   enum or abstract class.
+     * @throws NoSuchMethodException     if a matching method is not found.
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract
+     *                                   class.
+     * @throws IllegalAccessException    if this Constructor object is enforcing Java language access control and the
+     *                                   underlying constructor is inaccessible.
+     * @since 1.7.0
+     */
+    public <T> T create(@NotNull Class<T> constructionCls) throws
+            ConstructorException,
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException {
+        return ConstructorResolver.initClass(constructionCls, this, identifiers);
+    }
+
+    /**
+     * Construct the class with the settings of this {@link Injector}, but with other identifiers. The identifiers are
+     * used to select the type of an {@link IdentifierProvider}.
+     *
+     * @param constructionCls The class which need to be auto constructed.
+     * @param identifiers     The identifiers that are used instead of the identifiers of the settings.
+     * @param <T>             type of the class which gets auto constructed.
+     *
+     * @return The initialized class, which has been auto formed by the type resolver.
+     *
+     * @throws ConstructorException      if there is no valid constructor, or if the construction class is an interface,
+     *                                   enum or abstract class.
+     * @throws NoSuchMethodException     if a matching method is not found.
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract
+     *                                   class.
+     * @throws IllegalAccessException    if this Constructor object is enforcing Java language access control and the
+     *                                   underlying constructor is inaccessible.
+     * @since 1.7.0
+     */
+    public <T> T create(@NotNull Class<T> constructionCls, Object @NotNull ... identifiers) throws
+            ConstructorException,
+            NoSuchMethodException,
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException {
+        return ConstructorResolver.initClass(constructionCls, this, identifiers.clone());
+    }
+
+    /**
+     * Get a copy of the settings of this {@link Injector}.
+     *
+     * @return A copy of the settings of this {@link Injector}.
+     *
+     * @since 1.7.0
+     */
+    @Contract(" -> new")
+    public @NotNull ConstructionSettings getConstructionSettings() {
+        return new ConstructionSettings(constructionSettings);
+    }
+
+    /**
+     * Get the settings of this {@link Injector}, these are not copied so they cannot be given to the user.
+     *
+     * @return The settings of this {@link Injector}.
+     *
+     * @since 1.7.0
+     */
+    @NotNull ConstructionSettings getSettings() {
+        return constructionSettings;
+    }
+
+    /**
+     * Get the registers that are used to retrieve the types from, these are not copied so they cannot be given to the
+     * user.
+     *
+     * @return The registers that are used to retrieve the types from.
+     *
+     * @since 1.7.0
+     */
+    Register @NotNull [] getRegisters() {
+        return registers;
+    }
+
+    /**
+     * Get the {@link Register} where the types of the parameters are gathered from.
+     *
+     * @return The {@link Register} where the types of the parameters are gathered from.
+     *
+     * @since 1.7.0
+     */
+    @NotNull Register getSearchableRegister() {
+        return searchableRegister;
+    }
+
+    /**
+     * Get the last {@link ConstructionPlan} of the class that has been constructed by this {@link Injector}.
+     *
+     * @param constructionCls The class of which the plan is retrieved.
+     *
+     * @return The last {@link ConstructionPlan} of the class, if {@code null} the class has not been constructed by
+     * this {@link Injector}.
+     *
+     * @since 1.7.0
+     */
+    @Nullable ConstructionPlan getPlan(@NotNull Class<?> constructionCls) {
+        return plans.get(constructionCls);
+    }
+
+    /**
+     * Set the last {@link ConstructionPlan} of the class that has been constructed by this {@link Injector}.
+     *
+     * @param constructionCls  The class of which the plan is set.
+     * @param constructionPlan The plan of the class.
+     *
+     * @since 1.7.0
+     */
+    void setPlan(@NotNull Class<?> constructionCls, @NotNull ConstructionPlan constructionPlan) {
+        plans.put(constructionCls, constructionPlan);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import nl.devoxist.typeresolver.settings.ConstructionSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.Executor;
+
+/**
+ * The strategies that the {@link ConstructorResolver} can use to invoke the chosen constructor. The strategy is bound
+ * once to the constructor, when the {@link ConstructionPlan} of a class is made.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @see ConstructionSettings#setInstantiationStrategy(InstantiationStrategy)
+ * @since 1.7.0
+ */
+public enum InstantiationStrategy {
+    /**
+     * Invoke the constructor through {@link Constructor#newInstance(Object...)}.
+     *
+     * @since 1.7.0
+     */
+    REFLECTION {
+        @Override
+        @NotNull Instantiator createInstantiator(
+                @NotNull Constructor<?> constructor,
+                TypeProvider<?, ?>[] parameterProviders,
+                @Nullable Executor parameterExecutor
+        ) {
+            return identifiers -> constructor.newInstance(
+                    Instantiator.resolveParameters(parameterProviders, identifiers, parameterExecutor)
+            );
+        }
+    },
+    /**
+     * Invoke the constructor through a {@link java.lang.invoke.MethodHandle}, which is bound once to the constructor.
+     * The {@link java.lang.invoke.MethodHandle} is not checked for access on every invocation, and can be inlined by
+     * the JIT compiler.
+     *
+     * @since 1.7.0
+     */
+    METHOD_HANDLE {
+        @Override
+        @NotNull Instantiator createInstantiator(
+                @NotNull Constructor<?> constructor,
+                TypeProvider<?, ?>[] parameterProviders,
+                @Nullable Executor parameterExecutor
+        ) throws IllegalAccessException {
+            return new MethodHandleInstantiator(constructor, parameterProviders, parameterExecutor);
+        }
+    },
+    /**
+     * Invoke the constructor through a hidden class, which is defined for the constructed class. The hidden class
+     * contains a straight-line {@code new X(p0.getInitProvider(), p1.getInitProvider(), ...)} factory, which is wired
+     * to the {@link TypeProvider}s of the parameters. So no reflection and no parameter array are used to construct
+     * the class. The hidden class can be unloaded when the construction plan of the class is discarded.
+     * <p>
+     * If a hidden class cannot be defined for the constructed class, for example if the constructor has primitive
+     * parameters, if a parameter is a constructed dependency, or if the package of the class is not open, the
+     * {@link #METHOD_HANDLE} strategy is used instead. The {@link #METHOD_HANDLE} strategy is used as well if the
+     * parameters are resolved on an {@link Executor}, because the hidden class resolves the parameters one after
+     * another.
+     *
+     * @since 1.7.0
+     */
+    HIDDEN_CLASS {
+        @Override
+        @NotNull Instantiator createInstantiator(
+                @NotNull Constructor<?> constructor,
+                TypeProvider<?, ?>[] parameterProviders,
+                @Nullable Executor parameterExecutor
+        ) throws IllegalAccessException {
+            if (parameterExecutor != null) {
+                return new MethodHandleInstantiator(constructor, parameterProviders, parameterExecutor);
+            }
+
+            return HiddenClassInstantiator.create(constructor, parameterProviders);
+        }
+    };
+
+    /**
+     * Create the {@link Instantiator} that invokes the constructor with this strategy.
+     *
+     * @param constructor        The constructor, which already has been made accessible.
+     * @param parameterProviders The {@link TypeProvider}s of the parameters of the constructor, in the order of the
+     *                           parameters.
+     * @param parameterExecutor  The {@link Executor} that resolves the parameters, if {@code null} the parameters are
+     *                           resolved by the calling thread.
+     *
+     * @return The {@link Instantiator} that invokes the constructor.
+     *
+     * @throws IllegalAccessException if the constructor is inaccessible.
+     * @since 1.7.0
+     */
+    abstract @NotNull Instantiator createInstantiator(
+            @NotNull Constructor<?> constructor,
+            TypeProvider<?, ?>[] parameterProviders,
+            @Nullable Executor parameterExecutor
+    ) throws IllegalAccessException;
+}
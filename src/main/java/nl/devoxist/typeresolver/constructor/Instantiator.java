@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.exception.ConstructorException;
+import nl.devoxist.typeresolver.providers.IdentifierProvider;
+import nl.devoxist.typeresolver.providers.ObjectProvider;
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link Instantiator} invokes the constructor of a {@link ConstructionPlan} with the parameters of the
+ * {@link TypeProvider}s of the plan. The {@link Instantiator} is created by an {@link InstantiationStrategy}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@FunctionalInterface
+interface Instantiator {
+    /**
+     * Get the parameters of the constructor from the {@link TypeProvider}s, the identifiers are applied to the
+     * {@link IdentifierProvider}s.
+     *
+     * @param parameterProviders The {@link TypeProvider}s of the parameters, in the order of the parameters.
+     * @param identifiers        The identifiers that are used to select the type of an {@link IdentifierProvider}.
+     *
+     * @return The parameters of the constructor, in the order of the parameters.
+     *
+     * @since 1.7.0
+     */
+    static Object @NotNull [] resolveParameters(
+            TypeProvider<?, ?> @NotNull [] parameterProviders,
+            Object[] identifiers
+    ) {
+        Object[] parameters = new Object[parameterProviders.length];
+
+        for (int i = 0; i < parameterProviders.length; i++) {
+            parameters[i] = resolveParameter(parameterProviders[i], identifiers);
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Get the parameters of the constructor from the {@link TypeProvider}s, the identifiers are applied to the
+     * {@link IdentifierProvider}s. If there is an {@link Executor}, the parameters are resolved concurrently on the
+     * {@link Executor}. One parameter and the parameters of an {@link ObjectProvider} are resolved by the calling
+     * thread, because those do not gain anything from another thread. All the parameters are awaited, before the
+     * failure of the first parameter, in the order of the parameters, is thrown.
+     *
+     * @param parameterProviders The {@link TypeProvider}s of the parameters, in the order of the parameters.
+     * @param identifiers        The identifiers that are used to select the type of an {@link IdentifierProvider}.
+     * @param executor           The {@link Executor} that resolves the parameters, if {@code null} the parameters
+     *                           are resolved by the calling thread.
+     *
+     * @return The parameters of the constructor, in the order of the parameters.
+     *
+     * @since 1.7.0
+     */
+    static Object @NotNull [] resolveParameters(
+            TypeProvider<?, ?> @NotNull [] parameterProviders,
+            Object[] identifiers,
+            @Nullable Executor executor
+    ) {
+        if (executor == null || parameterProviders.length < 2) {
+            return resolveParameters(parameterProviders, identifiers);
+        }
+
+        Object[] parameters = new Object[parameterProviders.length];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[parameterProviders.length];
+        boolean callerParameter = false;
+
+        for (int i = parameterProviders.length - 1; i >= 0; i--) {
+            if (parameterProviders[i] instanceof ObjectProvider<?, ?>) {
+                continue;
+            }
+
+            if (!callerParameter) {
+                callerParameter = true;
+                continue;
+            }
+
+            int index = i;
+            futures[i] = CompletableFuture.runAsync(
+                    () -> parameters[index] = resolveParameter(parameterProviders[index], identifiers),
+                    executor
+            );
+        }
+
+        Throwable[] failures = new Throwable[parameterProviders.length];
+
+        for (int i = 0; i < parameterProviders.length; i++) {
+            if (futures[i] != null) {
+                continue;
+            }
+
+            try {
+                parameters[i] = resolveParameter(parameterProviders[i], identifiers);
+            } catch (RuntimeException | Error e) {
+                failures[i] = e;
+            }
+        }
+
+        Throwable failure = null;
+
+        for (int i = 0; i < parameterProviders.length; i++) {
+            if (futures[i] != null) {
+                try {
+                    futures[i].join();
+                } catch (CompletionException e) {
+                    failures[i] = e.getCause();
+                }
+            }
+
+            if (failure == null) {
+                failure = failures[i];
+            }
+        }
+
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+
+        if (failure instanceof Error error) {
+            throw error;
+        }
+
+        if (failure != null) {
+            throw new ConstructorException(failure);
+        }
+
+        return parameters;
+    }
+
+    /**
+     * Get a parameter of the constructor from its {@link TypeProvider}, the identifiers are applied to an
+     * {@link IdentifierProvider} and are passed to a constructed dependency.
+     *
+     * @param typeProvider The {@link TypeProvider} of the parameter.
+     * @param identifiers  The identifiers that are used to select the type of an {@link IdentifierProvider}.
+     *
+     * @return The parameter of the constructor.
+     *
+     * @since 1.7.0
+     */
+    private static Object resolveParameter(@NotNull TypeProvider<?, ?> typeProvider, Object[] identifiers) {
+        if (typeProvider instanceof IdentifierProvider<?, ?> identifierProvider) {
+            return identifierProvider.resolve(identifiers);
+        }
+
+        if (typeProvider instanceof ConstructedProvider<?> constructedProvider) {
+            return constructedProvider.newInstance(identifiers);
+        }
+
+        return typeProvider.getInitProvider();
+    }
+
+    /**
+     * Construct a new instance with the constructor.
+     *
+     * @param identifiers The identifiers that are used to select the type of an {@link IdentifierProvider}.
+     *
+     * @return The constructed instance.
+     *
+     * @throws InvocationTargetException if the underlying constructor throws an exception.
+     * @throws InstantiationException    if the class that declares the underlying constructor represents an abstract
+     *                                   class.
+     * @throws IllegalAccessException    if the underlying constructor is inaccessible.
+     * @since 1.7.0
+     */
+    Object newInstance(Object[] identifiers) throws
+            InvocationTargetException,
+            InstantiationException,
+            IllegalAccessException;
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link MethodHandleInstantiator} invokes a constructor through a {@link MethodHandle}. The {@link MethodHandle}
+ * spreads the parameters over the constructor and is adapted to {@code (Object[])Object}, so it can be invoked
+ * exactly without any further conversions.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class MethodHandleInstantiator implements Instantiator {
+    /**
+     * The {@link MethodType} of the {@link #constructorHandle}.
+     *
+     * @since 1.7.0
+     */
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * The {@link MethodHandle} of the constructor.
+     *
+     * @since 1.7.0
+     */
+    private final MethodHandle constructorHandle;
+    /**
+     * The {@link TypeProvider}s of the parameters of the constructor, in the order of the parameters.
+     *
+     * @since 1.7.0
+     */
+    private final TypeProvider<?, ?>[] parameterProviders;
+    /**
+     * The {@link Executor} that resolves the parameters, if {@code null} the parameters are resolved by the calling
+     * thread.
+     *
+     * @since 1.7.0
+     */
+    private final Executor parameterExecutor;
+
+    /**
+     * Construct a {@link MethodHandleInstantiator} that binds the constructor into a {@link MethodHandle}.
+     *
+     * @param constructor        The constructor, which already has been made accessible.
+     * @param parameterProviders The {@link TypeProvider}s of the parameters of the constructor.
+     *
+     * @throws IllegalAccessException if the constructor is inaccessible.
+     * @since 1.7.0
+     */
+    MethodHandleInstantiator(
+            @NotNull Constructor<?> constructor,
+            TypeProvider<?, ?>[] parameterProviders
+    ) throws IllegalAccessException {
+        this(constructor, parameterProviders, null);
+    }
+
+    /**
+     * Construct a {@link MethodHandleInstantiator} that binds the constructor into a {@link MethodHandle}, and that
+     * resolves the parameters on an {@link Executor}.
+     *
+     * @param constructor        The constructor, which already has been made accessible.
+     * @param parameterProviders The {@link TypeProvider}s of the parameters of the constructor.
+     * @param parameterExecutor  The {@link Executor} that resolves the parameters, if {@code null} the parameters are
+     *                           resolved by the calling thread.
+     *
+     * @throws IllegalAccessException if the constructor is inaccessible.
+     * @since 1.7.0
+     */
+    MethodHandleInstantiator(
+            @NotNull Constructor<?> constructor,
+            TypeProvider<?, ?>[] parameterProviders,
+            @Nullable Executor parameterExecutor
+    ) throws IllegalAccessException {
+        this.parameterProviders = parameterProviders;
+        this.parameterExecutor = parameterExecutor;
+        this.constructorHandle = MethodHandles.lookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(INSTANTIATOR_TYPE);
+    }
+
+    /**
+     * Construct a new instance with the {@link #constructorHandle}.
+     *
+     * @param identifiers The identifiers that are used to select the type of an
+     *                    {@link nl.devoxist.typeresolver.providers.IdentifierProvider}.
+     *
+     * @return The constructed instance.
+     *
+     * @throws InvocationTargetException if the underlying constructor throws an exception, the exception is the cause
+     *                                   of the {@link InvocationTargetException}, like with reflection.
+     * @since 1.7.0
+     */
+    @Override
+    public Object newInstance(Object[] identifiers) throws InvocationTargetException {
+        Object[] parameters = Instantiator.resolveParameters(parameterProviders, identifiers, parameterExecutor);
+
+        try {
+            return constructorHandle.invokeExact(parameters);
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+}
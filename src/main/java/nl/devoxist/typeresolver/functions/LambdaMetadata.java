@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.functions;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link LambdaMetadata} resolves the instantiated method type of a serializable lambda. The method type is the same
+ * for every instance of a lambda class, so it is resolved once per lambda class and memoized in a {@link ClassValue}.
+ * The {@link ClassValue} is bound to the lambda class, so the memoized method types do not keep the
+ * {@link ClassLoader} of the lambda alive.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class LambdaMetadata {
+    /**
+     * The instantiated method types of the lambda classes. The method type can only be resolved from an instance of a
+     * lambda class, so the {@link ClassValue} holds a reference that is set by the first resolved instance.
+     *
+     * @since 1.7.0
+     */
+    private static final ClassValue<AtomicReference<MethodType>> INSTANTIATED_METHOD_TYPES = new ClassValue<>() {
+        /**
+         * Create the empty reference of the instantiated method type of the lambda class.
+         *
+         * @param lambdaCls The class of the serializable lambda.
+         *
+         * @return The empty reference of the instantiated method type.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        protected AtomicReference<MethodType> computeValue(Class<?> lambdaCls) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * Construct a new {@link LambdaMetadata} object. This always fails, because the class is a static class. So it
+     * only contains static objects. Thus, it throws an {@link IllegalAccessException}.
+     *
+     * @throws IllegalAccessException If the {@link LambdaMetadata} was try to construct the class. The construction of
+     *                                this class is not possible, because this is a static class.
+     * @since 1.7.0
+     */
+    @Contract(value = " -> fail",
+              pure = true)
+    @ApiStatus.Internal
+    private LambdaMetadata() throws IllegalAccessException {
+        throw new IllegalAccessException("This class is an static class, so this class cannot be initialized.");
+    }
+
+    /**
+     * Get the instantiated method type of the serializable lambda, i.e. the signature of the functional method with
+     * the type arguments of the lambda. The method type is resolved on the first call for a lambda class, afterwards
+     * the memoized method type is returned.
+     *
+     * @param lambda The serializable lambda.
+     *
+     * @return The instantiated method type of the lambda.
+     *
+     * @throws RuntimeException If the lambda cannot be serialized to a {@link SerializedLambda}, or if a type of the
+     *                          method type cannot be loaded.
+     * @since 1.7.0
+     */
+    static @NotNull MethodType getInstantiatedMethodType(@NotNull Serializable lambda) {
+        AtomicReference<MethodType> reference = INSTANTIATED_METHOD_TYPES.get(lambda.getClass());
+        MethodType methodType = reference.get();
+
+        if (methodType == null) {
+            methodType = resolveInstantiatedMethodType(lambda);
+            reference.set(methodType);
+        }
+
+        return methodType;
+    }
+
+    /**
+     * Resolve the instantiated method type of the lambda, by serializing the lambda to a {@link SerializedLambda}.
+     * The types in the method type are loaded by the {@link ClassLoader} of the lambda class.
+     *
+     * @param lambda The serializable lambda.
+     *
+     * @return The instantiated method type of the lambda.
+     *
+     * @throws RuntimeException If the lambda cannot be serialized to a {@link SerializedLambda}, or if a type of the
+     *                          method type cannot be loaded.
+     * @since 1.7.0
+     */
+    private static @NotNull MethodType resolveInstantiatedMethodType(@NotNull Serializable lambda) {
+        Class<?> lambdaCls = lambda.getClass();
+
+        try {
+            Method writeReplace = lambdaCls.getDeclaredMethod("writeReplace");
+
+            writeReplace.setAccessible(true);
+
+            SerializedLambda sl = (SerializedLambda) writeReplace.invoke(lambda);
+
+            return MethodType.fromMethodDescriptorString(sl.getInstantiatedMethodType(), lambdaCls.getClassLoader());
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException |
+                 TypeNotPresentException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -23,9 +23,6 @@
 package nl.devoxist.typeresolver.functions;
 
 import java.io.Serializable;
-import java.lang.invoke.SerializedLambda;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.function.Consumer;
 
 /**
@@ -35,13 +32,14 @@ import java.util.function.Consumer;
  * @param <T> type of the {@link Consumer}
  *
  * @author Dev-Bjorn
- * @version 1.5.0
+ * @version 1.7.0
  * @since 1.5.0
  */
 public interface SerializableConsumer<T> extends Consumer<T>, Serializable {
 
     /**
-     * Get the type of the {@link Consumer}.
+     * Get the type of the {@link Consumer}. The type is resolved once per lambda class, afterwards the memoized type is
+     * returned without serializing the lambda again.
      *
      * @return The type of the {@link Consumer}
      *
@@ -49,23 +47,6 @@ public interface SerializableConsumer<T> extends Consumer<T>, Serializable {
      */
     @SuppressWarnings("unchecked")
     default Class<T> getConsumerCls() {
-        try {
-            Method writeReplace = this.getClass().getDeclaredMethod("writeReplace");
-
-            writeReplace.setAccessible(true);
-
-            SerializedLambda sl = (SerializedLambda) writeReplace.invoke(this);
-
-            writeReplace.setAccessible(false);
-
-            String classPath = sl.getInstantiatedMethodType();
-            classPath = classPath.substring(2, classPath.length() - 3);
-            classPath = classPath.replaceAll("/", ".");
-
-            return (Class<T>) Class.forName(classPath);
-        } catch (NoSuchMethodException | InvocationTargetException | ClassNotFoundException |
-                 IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return (Class<T>) LambdaMetadata.getInstantiatedMethodType(this).parameterType(0);
     }
 }
@@ -23,9 +23,6 @@
 package nl.devoxist.typeresolver.functions;
 
 import java.io.Serializable;
-import java.lang.invoke.SerializedLambda;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.function.Supplier;
 
 /**
@@ -35,14 +32,15 @@ import java.util.function.Supplier;
  * @param <T> type of the {@link Supplier}
  *
  * @author Dev-Bjorn
- * @version 1.5.0
+ * @version 1.7.0
  * @since 1.5.0
  */
 @FunctionalInterface
 public interface SerializableSupplier<T> extends Serializable, Supplier<T> {
 
     /**
-     * Get the type of the {@link Supplier}.
+     * Get the type of the {@link Supplier}. The type is resolved once per lambda class, afterwards the memoized type is
+     * returned without serializing the lambda again.
      *
      * @return The type of the {@link Supplier}
      *
@@ -50,23 +48,6 @@ public interface SerializableSupplier<T> extends Serializable, Supplier<T> {
      */
     @SuppressWarnings("unchecked")
     default Class<T> getSupplierClass() {
-        try {
-            Method writeReplace = this.getClass().getDeclaredMethod("writeReplace");
-
-            writeReplace.setAccessible(true);
-
-            SerializedLambda sl = (SerializedLambda) writeReplace.invoke(this);
-
-            writeReplace.setAccessible(false);
-
-            String classPath = sl.getInstantiatedMethodType();
-            classPath = classPath.substring(3, classPath.length() - 1);
-            classPath = classPath.replaceAll("/", ".");
-
-            return (Class<T>) Class.forName(classPath);
-        } catch (NoSuchMethodException | InvocationTargetException | ClassNotFoundException |
-                 IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return (Class<T>) LambdaMetadata.getInstantiatedMethodType(this).returnType();
     }
-}
\ No newline at end of file
+}
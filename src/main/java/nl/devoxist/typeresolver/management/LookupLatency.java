@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.management;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * {@link LookupLatency} holds the latency of the lookups of a type, as exposed by the {@link RegisterMXBean}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class LookupLatency {
+    /**
+     * The name of the type.
+     *
+     * @since 1.7.0
+     */
+    private final String type;
+    /**
+     * The amount of lookups that have found a provider.
+     *
+     * @since 1.7.0
+     */
+    private final long hits;
+    /**
+     * The mean duration of the lookups in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    private final double meanNanos;
+    /**
+     * The estimated 99th percentile of the duration of the lookups in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    private final long p99Nanos;
+    /**
+     * The longest duration of the lookups in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    private final long maxNanos;
+
+    /**
+     * Construct a {@link LookupLatency}.
+     *
+     * @param type      The name of the type.
+     * @param hits      The amount of lookups that have found a provider.
+     * @param meanNanos The mean duration of the lookups in nanoseconds.
+     * @param p99Nanos  The estimated 99th percentile of the duration of the lookups in nanoseconds.
+     * @param maxNanos  The longest duration of the lookups in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    @ConstructorParameters({"type", "hits", "meanNanos", "p99Nanos", "maxNanos"})
+    public LookupLatency(@NotNull String type, long hits, double meanNanos, long p99Nanos, long maxNanos) {
+        this.type = type;
+        this.hits = hits;
+        this.meanNanos = meanNanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Get the name of the type.
+     *
+     * @return The name of the type.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull String getType() {
+        return type;
+    }
+
+    /**
+     * Get the amount of lookups that have found a provider.
+     *
+     * @return The amount of lookups that have found a provider.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the mean duration of the lookups.
+     *
+     * @return The mean duration of the lookups in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    /**
+     * Get the estimated 99th percentile of the duration of the lookups.
+     *
+     * @return The estimated 99th percentile of the duration of the lookups in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Get the longest duration of the lookups.
+     *
+     * @return The longest duration of the lookups in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+}
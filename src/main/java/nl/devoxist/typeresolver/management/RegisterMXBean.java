@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.management;
+
+import nl.devoxist.typeresolver.register.Register;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link RegisterMXBean} is the management interface of a {@link Register}. The statistics are read from a
+ * {@link nl.devoxist.typeresolver.metrics.ResolutionMetrics}, that is set on the {@link Register} when the MBean is
+ * registered. The statistics are computed at most once per refresh interval, so polling the attributes does not copy
+ * the {@link nl.devoxist.typeresolver.providers.TypeProvider}s of the {@link Register}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @see RegisterManagement
+ * @since 1.7.0
+ */
+public interface RegisterMXBean {
+    /**
+     * Get the amount of types that are registered in the {@link Register} itself.
+     *
+     * @return The amount of types that are registered in the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    int getRegisteredTypeCount();
+
+    /**
+     * Get the version of the {@link Register}, which changes when a type becomes resolvable or unresolvable.
+     *
+     * @return The version of the {@link Register}.
+     *
+     * @see Register#getVersion()
+     * @since 1.7.0
+     */
+    long getVersion();
+
+    /**
+     * Get the priority of the {@link Register}.
+     *
+     * @return The name of the priority of the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    String getPriority();
+
+    /**
+     * Get the priorities of the {@link Register}s that are searched through, in the order of the search.
+     *
+     * @return The names of the priorities of the merged {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    List<String> getMergedRegisterPriorities();
+
+    /**
+     * Get the amount of lookups per type since the statistics have been reset.
+     *
+     * @return The amount of lookups per type name.
+     *
+     * @since 1.7.0
+     */
+    Map<String, Long> getLookupCounts();
+
+    /**
+     * Get the amount of lookups per second per type since the statistics have been reset.
+     *
+     * @return The amount of lookups per second per type name.
+     *
+     * @since 1.7.0
+     */
+    Map<String, Double> getLookupRates();
+
+    /**
+     * Get the types with the slowest lookups, ordered by the 99th percentile of the lookup duration. The duration
+     * includes the initialization of the provider, so slow suppliers are at the top.
+     *
+     * @return The latencies of the types with the slowest lookups.
+     *
+     * @since 1.7.0
+     */
+    List<LookupLatency> getSlowestLookups();
+
+    /**
+     * Get the amount of cached construction plans per constructed class.
+     *
+     * @return The amount of cached construction plans per class name.
+     *
+     * @see nl.devoxist.typeresolver.constructor.ConstructorResolver#getCachedPlanCount(Class)
+     * @since 1.7.0
+     */
+    Map<String, Integer> getConstructionPlanCacheSizes();
+
+    /**
+     * Reset the collected statistics. If the metrics are shared by multiple {@link Register}s, the statistics of
+     * those are reset as well.
+     *
+     * @since 1.7.0
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.management;
+
+import nl.devoxist.typeresolver.metrics.ResolutionMetrics;
+import nl.devoxist.typeresolver.register.Register;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * {@link RegisterManagement} registers the {@link RegisterMXBean}s of {@link Register}s to an {@link MBeanServer}. The
+ * MBeans are optional, a {@link Register} does not have an MBean until it is registered with
+ * {@link #registerMBean(Register, String)}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class RegisterManagement {
+    /**
+     * The domain of the {@link ObjectName}s of the {@link RegisterMXBean}s.
+     *
+     * @since 1.7.0
+     */
+    public static final String DOMAIN = "nl.devoxist.typeresolver";
+
+    /**
+     * Construct a new {@link RegisterManagement} object. This always fails, because the class is a static class. So
+     * it only contains static objects.
+     *
+     * @throws IllegalAccessException If the constructor is accessed.
+     * @since 1.7.0
+     */
+    @Contract(value = " -> fail",
+              pure = true)
+    @ApiStatus.Internal
+    private RegisterManagement() throws IllegalAccessException {
+        throw new IllegalAccessException("This class is an static class, so this class cannot be initialized.");
+    }
+
+    /**
+     * Get the {@link ObjectName} of the {@link RegisterMXBean} with the name.
+     *
+     * @param name The name of the {@link Register}.
+     *
+     * @return The {@link ObjectName} of the {@link RegisterMXBean}.
+     *
+     * @throws MalformedObjectNameException If the name cannot be used in an {@link ObjectName}.
+     * @since 1.7.0
+     */
+    public static @NotNull ObjectName getObjectName(@NotNull String name) throws MalformedObjectNameException {
+        return new ObjectName(DOMAIN + ":type=Register,name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * Register the {@link RegisterMXBean} of the {@link Register} to the platform {@link MBeanServer}.
+     *
+     * @param register The {@link Register} of which the statistics are exposed.
+     * @param name     The name of the {@link Register} in the {@link ObjectName}.
+     *
+     * @return The {@link ObjectName} of the registered {@link RegisterMXBean}.
+     *
+     * @throws JMException If the {@link RegisterMXBean} cannot be registered.
+     * @see #registerMBean(Register, String, MBeanServer)
+     * @since 1.7.0
+     */
+    public static @NotNull ObjectName registerMBean(@NotNull Register register, @NotNull String name) throws
+            JMException {
+        return registerMBean(register, name, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Register the {@link RegisterMXBean} of the {@link Register} to the {@link MBeanServer}. If the {@link Register}
+     * has no {@link ResolutionMetrics}, new metrics are set on the {@link Register}, so the lookups are recorded from
+     * now on.
+     *
+     * @param register    The {@link Register} of which the statistics are exposed.
+     * @param name        The name of the {@link Register} in the {@link ObjectName}.
+     * @param mBeanServer The {@link MBeanServer} to which the {@link RegisterMXBean} is registered.
+     *
+     * @return The {@link ObjectName} of the registered {@link RegisterMXBean}.
+     *
+     * @throws JMException If the {@link RegisterMXBean} cannot be registered.
+     * @since 1.7.0
+     */
+    public static @NotNull ObjectName registerMBean(
+            @NotNull Register register,
+            @NotNull String name,
+            @NotNull MBeanServer mBeanServer
+    ) throws JMException {
+        ResolutionMetrics metrics = register.getMetrics();
+
+        if (metrics == null) {
+            metrics = new ResolutionMetrics();
+            register.setMetrics(metrics);
+        }
+
+        RegisterStatistics statistics =
+                new RegisterStatistics(register, metrics, RegisterStatistics.DEFAULT_REFRESH_NANOS);
+
+        return mBeanServer.registerMBean(statistics, getObjectName(name)).getObjectName();
+    }
+
+    /**
+     * Unregister the {@link RegisterMXBean} with the name from the platform {@link MBeanServer}. The
+     * {@link ResolutionMetrics} stay set on the {@link Register}.
+     *
+     * @param name The name of the {@link Register} in the {@link ObjectName}.
+     *
+     * @throws JMException If the {@link RegisterMXBean} cannot be unregistered.
+     * @since 1.7.0
+     */
+    public static void unregisterMBean(@NotNull String name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(getObjectName(name));
+    }
+}
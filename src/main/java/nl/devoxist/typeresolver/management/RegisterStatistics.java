@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.management;
+
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.metrics.ConstructionSnapshot;
+import nl.devoxist.typeresolver.metrics.HistogramSnapshot;
+import nl.devoxist.typeresolver.metrics.LookupSnapshot;
+import nl.devoxist.typeresolver.metrics.MetricsSnapshot;
+import nl.devoxist.typeresolver.metrics.ResolutionMetrics;
+import nl.devoxist.typeresolver.register.Register;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RegisterStatistics} is the implementation of the {@link RegisterMXBean} of a {@link Register}. The statistics
+ * are computed from a snapshot of the {@link ResolutionMetrics}, which is taken at most once per refresh interval.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class RegisterStatistics implements RegisterMXBean {
+    /**
+     * The default interval in nanoseconds in which the computed statistics are reused.
+     *
+     * @since 1.7.0
+     */
+    static final long DEFAULT_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * The maximum amount of types that are returned by {@link #getSlowestLookups()}.
+     *
+     * @since 1.7.0
+     */
+    static final int SLOWEST_LOOKUP_COUNT = 10;
+
+    /**
+     * The {@link Register} of which the statistics are exposed.
+     *
+     * @since 1.7.0
+     */
+    private final Register register;
+    /**
+     * The metrics that record the lookups of the {@link #register}.
+     *
+     * @since 1.7.0
+     */
+    private final ResolutionMetrics metrics;
+    /**
+     * The interval in nanoseconds in which the computed statistics are reused.
+     *
+     * @since 1.7.0
+     */
+    private final long refreshNanos;
+    /**
+     * The lock that ensures that only one thread computes the statistics at a time.
+     *
+     * @since 1.7.0
+     */
+    private final Object refreshLock = new Object();
+    /**
+     * The last computed statistics, if {@code null} the statistics need to be computed.
+     *
+     * @since 1.7.0
+     */
+    private volatile Statistics statistics;
+    /**
+     * The time in nanoseconds of the last reset of the statistics, which is used to compute the lookup rates.
+     *
+     * @since 1.7.0
+     */
+    private volatile long resetNanos = System.nanoTime();
+
+    /**
+     * Construct a {@link RegisterStatistics}.
+     *
+     * @param register     The {@link Register} of which the statistics are exposed.
+     * @param metrics      The metrics that record the lookups of the {@link Register}.
+     * @param refreshNanos The interval in nanoseconds in which the computed statistics are reused.
+     *
+     * @since 1.7.0
+     */
+    RegisterStatistics(@NotNull Register register, @NotNull ResolutionMetrics metrics, long refreshNanos) {
+        this.register = register;
+        this.metrics = metrics;
+        this.refreshNanos = refreshNanos;
+    }
+
+    /**
+     * Get the amount of types that are registered in the {@link #register} itself. The size is read from the
+     * view of the registered types, without copying them.
+     *
+     * @return The amount of types that are registered in the {@link #register}.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public int getRegisteredTypeCount() {
+        return register.getTypeProviders().size();
+    }
+
+    /**
+     * Get the version of the {@link #register}.
+     *
+     * @return The version of the {@link #register}.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public long getVersion() {
+        return register.getVersion();
+    }
+
+    /**
+     * Get the priority of the {@link #register}.
+     *
+     * @return The name of the priority of the {@link #register}.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public String getPriority() {
+        return register.getPriority().name();
+    }
+
+    /**
+     * Get the priorities of the {@link Register}s that are searched through, in the order of the search.
+     *
+     * @return The names of the priorities of the merged {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public List<String> getMergedRegisterPriorities() {
+        List<String> priorities = new ArrayList<>();
+
+        for (Register mergedRegister : register.getRegistries()) {
+            priorities.add(mergedRegister.getPriority().name());
+        }
+
+        return priorities;
+    }
+
+    /**
+     * Get the amount of lookups per type since the statistics have been reset.
+     *
+     * @return The amount of lookups per type name.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public Map<String, Long> getLookupCounts() {
+        return getStatistics().lookupCounts;
+    }
+
+    /**
+     * Get the amount of lookups per second per type since the statistics have been reset.
+     *
+     * @return The amount of lookups per second per type name.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public Map<String, Double> getLookupRates() {
+        return getStatistics().lookupRates;
+    }
+
+    /**
+     * Get the types with the slowest lookups, ordered by the 99th percentile of the lookup duration.
+     *
+     * @return The latencies of the types with the slowest lookups, at most {@link #SLOWEST_LOOKUP_COUNT}.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public List<LookupLatency> getSlowestLookups() {
+        return getStatistics().slowestLookups;
+    }
+
+    /**
+     * Get the amount of cached construction plans per class that has been constructed while the metrics were
+     * recorded.
+     *
+     * @return The amount of cached construction plans per class name.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public Map<String, Integer> getConstructionPlanCacheSizes() {
+        return getStatistics().planCacheSizes;
+    }
+
+    /**
+     * Reset the collected statistics of the {@link #metrics}, and the start of the lookup rates.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    public void resetStatistics() {
+        synchronized (refreshLock) {
+            metrics.reset();
+            this.resetNanos = System.nanoTime();
+            this.statistics = null;
+        }
+    }
+
+    /**
+     * Get the computed statistics. The statistics are computed again if they are older than the refresh interval.
+     *
+     * @return The computed statistics.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull Statistics getStatistics() {
+        Statistics statistics = this.statistics;
+
+        if (statistics != null && System.nanoTime() - statistics.computedNanos < refreshNanos) {
+            return statistics;
+        }
+
+        synchronized (refreshLock) {
+            statistics = this.statistics;
+            long now = System.nanoTime();
+
+            if (statistics == null || now - statistics.computedNanos >= refreshNanos) {
+                statistics = computeStatistics(now);
+                this.statistics = statistics;
+            }
+
+            return statistics;
+        }
+    }
+
+    /**
+     * Compute the statistics from a snapshot of the {@link #metrics}.
+     *
+     * @param now The current time in nanoseconds.
+     *
+     * @return The computed statistics.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull Statistics computeStatistics(long now) {
+        MetricsSnapshot snapshot = metrics.snapshot();
+        double elapsedSeconds = Math.max(now - resetNanos, 1L) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        Map<String, Long> lookupCounts = new HashMap<>();
+        Map<String, Double> lookupRates = new HashMap<>();
+        List<LookupSnapshot> lookups = new ArrayList<>();
+
+        for (LookupSnapshot lookup : snapshot.getLookups().values()) {
+            String typeName = lookup.getType().getName();
+
+            lookupCounts.put(typeName, lookup.getLookups());
+            lookupRates.put(typeName, lookup.getLookups() / elapsedSeconds);
+
+            if (lookup.getHits() > 0) {
+                lookups.add(lookup);
+            }
+        }
+
+        lookups.sort(Comparator.comparingLong((LookupSnapshot lookup) -> lookup.getLatency().getPercentileNanos(99))
+                             .thenComparingDouble(lookup -> lookup.getLatency().getMeanNanos())
+                             .reversed());
+
+        List<LookupLatency> slowestLookups = new ArrayList<>();
+
+        for (LookupSnapshot lookup : lookups.subList(0, Math.min(lookups.size(), SLOWEST_LOOKUP_COUNT))) {
+            HistogramSnapshot latency = lookup.getLatency();
+
+            slowestLookups.add(new LookupLatency(
+                    lookup.getType().getName(),
+                    lookup.getHits(),
+                    latency.getMeanNanos(),
+                    latency.getPercentileNanos(99),
+                    latency.getMaxNanos()
+            ));
+        }
+
+        Map<String, Integer> planCacheSizes = new HashMap<>();
+
+        for (ConstructionSnapshot construction : snapshot.getConstructions().values()) {
+            Class<?> type = construction.getType();
+            planCacheSizes.put(type.getName(), ConstructorResolver.getCachedPlanCount(type));
+        }
+
+        return new Statistics(
+                now,
+                Map.copyOf(lookupCounts),
+                Map.copyOf(lookupRates),
+                List.copyOf(slowestLookups),
+                Map.copyOf(planCacheSizes)
+        );
+    }
+
+    /**
+     * {@link Statistics} holds the statistics that have been computed from a snapshot of the metrics.
+     *
+     * @param computedNanos  The time in nanoseconds at which the statistics have been computed.
+     * @param lookupCounts   The amount of lookups per type name.
+     * @param lookupRates    The amount of lookups per second per type name.
+     * @param slowestLookups The latencies of the types with the slowest lookups.
+     * @param planCacheSizes The amount of cached construction plans per class name.
+     *
+     * @author Dev-Bjorn
+     * @version 1.7.0
+     * @since 1.7.0
+     */
+    private record Statistics(
+            long computedNanos,
+            Map<String, Long> lookupCounts,
+            Map<String, Double> lookupRates,
+            List<LookupLatency> slowestLookups,
+            Map<String, Integer> planCacheSizes
+    ) {
+    }
+}
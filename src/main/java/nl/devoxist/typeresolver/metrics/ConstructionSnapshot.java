@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link ConstructionSnapshot} is an immutable copy of the construction statistics of a class.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class ConstructionSnapshot {
+    /**
+     * The class that has been constructed.
+     *
+     * @since 1.7.0
+     */
+    private final Class<?> type;
+    /**
+     * The amount of constructions that have thrown an exception.
+     *
+     * @since 1.7.0
+     */
+    private final long failures;
+    /**
+     * The amount of construction plans that have been made for the class.
+     *
+     * @since 1.7.0
+     */
+    private final long plansCreated;
+    /**
+     * The durations of the constructions.
+     *
+     * @since 1.7.0
+     */
+    private final HistogramSnapshot duration;
+
+    /**
+     * Construct a {@link ConstructionSnapshot}.
+     *
+     * @param type         The class that has been constructed.
+     * @param failures     The amount of constructions that have thrown an exception.
+     * @param plansCreated The amount of construction plans that have been made for the class.
+     * @param duration     The durations of the constructions.
+     *
+     * @since 1.7.0
+     */
+    ConstructionSnapshot(
+            @NotNull Class<?> type,
+            long failures,
+            long plansCreated,
+            @NotNull HistogramSnapshot duration
+    ) {
+        this.type = type;
+        this.failures = failures;
+        this.plansCreated = plansCreated;
+        this.duration = duration;
+    }
+
+    /**
+     * Get the class that has been constructed.
+     *
+     * @return The class that has been constructed.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Get the amount of constructions of the class.
+     *
+     * @return The amount of constructions of the class, including the constructions that have failed.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getConstructions() {
+        return duration.getCount();
+    }
+
+    /**
+     * Get the amount of constructions that have thrown an exception.
+     *
+     * @return The amount of constructions that have thrown an exception.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Get the amount of construction plans that have been made for the class. Every construction without a valid
+     * cached plan makes a new plan.
+     *
+     * @return The amount of construction plans that have been made for the class.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getPlansCreated() {
+        return plansCreated;
+    }
+
+    /**
+     * Get the durations of the constructions.
+     *
+     * @return The durations of the constructions.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull HistogramSnapshot getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link HistogramSnapshot} is an immutable copy of the durations that a {@link LatencyHistogram} has recorded.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class HistogramSnapshot {
+    /**
+     * The amount of durations per bucket of the {@link LatencyHistogram}.
+     *
+     * @since 1.7.0
+     */
+    private final long[] bucketCounts;
+    /**
+     * The amount of recorded durations.
+     *
+     * @since 1.7.0
+     */
+    private final long count;
+    /**
+     * The sum of all the recorded durations in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    private final long totalNanos;
+    /**
+     * The longest recorded duration in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    private final long maxNanos;
+
+    /**
+     * Construct a {@link HistogramSnapshot}.
+     *
+     * @param bucketCounts The amount of durations per bucket of the {@link LatencyHistogram}.
+     * @param totalNanos   The sum of all the recorded durations in nanoseconds.
+     * @param maxNanos     The longest recorded duration in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    HistogramSnapshot(long @NotNull [] bucketCounts, long totalNanos, long maxNanos) {
+        long count = 0;
+
+        for (long bucketCount : bucketCounts) {
+            count += bucketCount;
+        }
+
+        this.bucketCounts = bucketCounts;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Get the highest duration that is held by a bucket.
+     *
+     * @param bucket The index of the bucket.
+     *
+     * @return The highest duration in nanoseconds that is held by the bucket.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public static long getBucketUpperBound(int bucket) {
+        if (bucket >= LatencyHistogram.BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return (1L << bucket) - 1;
+    }
+
+    /**
+     * Get the amount of durations per bucket.
+     *
+     * @return A copy of the amount of durations per bucket, the index is the index of the bucket.
+     *
+     * @see #getBucketUpperBound(int)
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long @NotNull [] getBucketCounts() {
+        return bucketCounts.clone();
+    }
+
+    /**
+     * Get the amount of recorded durations.
+     *
+     * @return The amount of recorded durations.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the sum of all the recorded durations.
+     *
+     * @return The sum of all the recorded durations in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Get the longest recorded duration.
+     *
+     * @return The longest recorded duration in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Get the mean of the recorded durations.
+     *
+     * @return The mean of the recorded durations in nanoseconds, or {@code 0} if there are no recorded durations.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public double getMeanNanos() {
+        if (count == 0) {
+            return 0;
+        }
+
+        return (double) totalNanos / count;
+    }
+
+    /**
+     * Get the estimated duration at the percentile. The estimation is the upper bound of the bucket that holds the
+     * percentile, limited by the longest recorded duration.
+     *
+     * @param percentile The percentile between {@code 0} and {@code 100}.
+     *
+     * @return The estimated duration at the percentile in nanoseconds, or {@code 0} if there are no recorded
+     * durations.
+     *
+     * @throws IllegalArgumentException If the percentile is not between {@code 0} and {@code 100}.
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile needs to be between 0 and 100.");
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * (percentile / 100)));
+        long seen = 0;
+
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), maxNanos);
+            }
+        }
+
+        return maxNanos;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LatencyHistogram} records durations in buckets of powers of two nanoseconds. Every bucket is a
+ * {@link LongAdder}, so threads that record at the same time do not contend on the same counter. Bucket {@code 0}
+ * holds the durations of {@code 0} nanoseconds, bucket {@code i} holds the durations from {@code 2^(i - 1)} up to
+ * {@code 2^i - 1} nanoseconds.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class LatencyHistogram {
+    /**
+     * The amount of buckets, one for {@code 0} and one for every bit of a positive {@code long}.
+     *
+     * @since 1.7.0
+     */
+    public static final int BUCKET_COUNT = Long.SIZE;
+
+    /**
+     * The counters of the buckets.
+     *
+     * @since 1.7.0
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    /**
+     * The sum of all the recorded durations in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    private final LongAdder totalNanos = new LongAdder();
+    /**
+     * The longest recorded duration in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Construct an empty {@link LatencyHistogram}.
+     *
+     * @since 1.7.0
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Get the index of the bucket that holds the duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     *
+     * @return The index of the bucket that holds the duration. Negative durations are held by bucket {@code 0}.
+     *
+     * @since 1.7.0
+     */
+    static int getBucketIndex(long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+
+        return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     *
+     * @since 1.7.0
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0L);
+
+        buckets[getBucketIndex(duration)].increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+    }
+
+    /**
+     * Take a snapshot of the recorded durations. The buckets are read one by one, so durations that are recorded
+     * during the snapshot can be missing in a part of the snapshot.
+     *
+     * @return The snapshot of the recorded durations.
+     *
+     * @since 1.7.0
+     */
+    public @NotNull HistogramSnapshot snapshot() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = buckets[i].sum();
+        }
+
+        return new HistogramSnapshot(bucketCounts, totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * Reset the recorded durations.
+     *
+     * @since 1.7.0
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
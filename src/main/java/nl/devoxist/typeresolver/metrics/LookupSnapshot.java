@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link LookupSnapshot} is an immutable copy of the lookup statistics of a type.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class LookupSnapshot {
+    /**
+     * The type that has been looked up.
+     *
+     * @since 1.7.0
+     */
+    private final Class<?> type;
+    /**
+     * The amount of lookups that have found a provider of the type.
+     *
+     * @since 1.7.0
+     */
+    private final long hits;
+    /**
+     * The amount of lookups that have not found a provider of the type in any of the searched registers.
+     *
+     * @since 1.7.0
+     */
+    private final long misses;
+    /**
+     * The durations of the lookups that have found a provider, including the initialization of the provider.
+     *
+     * @since 1.7.0
+     */
+    private final HistogramSnapshot latency;
+
+    /**
+     * Construct a {@link LookupSnapshot}.
+     *
+     * @param type    The type that has been looked up.
+     * @param hits    The amount of lookups that have found a provider of the type.
+     * @param misses  The amount of lookups that have not found a provider of the type.
+     * @param latency The durations of the lookups that have found a provider.
+     *
+     * @since 1.7.0
+     */
+    LookupSnapshot(@NotNull Class<?> type, long hits, long misses, @NotNull HistogramSnapshot latency) {
+        this.type = type;
+        this.hits = hits;
+        this.misses = misses;
+        this.latency = latency;
+    }
+
+    /**
+     * Get the type that has been looked up.
+     *
+     * @return The type that has been looked up.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Get the amount of lookups of the type.
+     *
+     * @return The amount of lookups of the type, the sum of the hits and the misses.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getLookups() {
+        return hits + misses;
+    }
+
+    /**
+     * Get the amount of lookups that have found a provider of the type.
+     *
+     * @return The amount of lookups that have found a provider of the type.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the amount of lookups that have not found a provider of the type in any of the searched registers.
+     *
+     * @return The amount of lookups that have not found a provider of the type.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the durations of the lookups that have found a provider, including the initialization of the provider.
+     *
+     * @return The durations of the lookups that have found a provider.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull HistogramSnapshot getLatency() {
+        return latency;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Map;
+
+/**
+ * {@link MetricsSnapshot} is an immutable copy of the statistics of a {@link ResolutionMetrics}, which can be exported
+ * to a monitoring system.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class MetricsSnapshot {
+    /**
+     * The lookup statistics per type.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, LookupSnapshot> lookups;
+    /**
+     * The construction statistics per class.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, ConstructionSnapshot> constructions;
+
+    /**
+     * Construct a {@link MetricsSnapshot}.
+     *
+     * @param lookups       The lookup statistics per type.
+     * @param constructions The construction statistics per class.
+     *
+     * @since 1.7.0
+     */
+    MetricsSnapshot(
+            @NotNull Map<Class<?>, LookupSnapshot> lookups,
+            @NotNull Map<Class<?>, ConstructionSnapshot> constructions
+    ) {
+        this.lookups = Map.copyOf(lookups);
+        this.constructions = Map.copyOf(constructions);
+    }
+
+    /**
+     * Get the lookup statistics per type.
+     *
+     * @return The lookup statistics per type.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Map<Class<?>, LookupSnapshot> getLookups() {
+        return lookups;
+    }
+
+    /**
+     * Get the lookup statistics of the type.
+     *
+     * @param type The type that has been looked up.
+     *
+     * @return The lookup statistics of the type, or {@code null} if the type has not been looked up.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @Nullable LookupSnapshot getLookup(Class<?> type) {
+        return lookups.get(type);
+    }
+
+    /**
+     * Get the construction statistics per class.
+     *
+     * @return The construction statistics per class.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull @Unmodifiable Map<Class<?>, ConstructionSnapshot> getConstructions() {
+        return constructions;
+    }
+
+    /**
+     * Get the construction statistics of the class.
+     *
+     * @param type The class that has been constructed.
+     *
+     * @return The construction statistics of the class, or {@code null} if the class has not been constructed.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @Nullable ConstructionSnapshot getConstruction(Class<?> type) {
+        return constructions.get(type);
+    }
+}
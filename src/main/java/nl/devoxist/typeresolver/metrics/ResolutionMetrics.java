@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ResolutionMetrics} collects the statistics of the lookups of a
+ * {@link nl.devoxist.typeresolver.register.Register} and of the constructions of the
+ * {@link nl.devoxist.typeresolver.constructor.ConstructorResolver}. The metrics are opt-in: a
+ * {@link ResolutionMetrics} only collects statistics after it has been set on a
+ * {@link nl.devoxist.typeresolver.register.Register} or on the
+ * {@link nl.devoxist.typeresolver.constructor.ConstructorResolver}. The counters are {@link LongAdder}s, so threads
+ * that resolve at the same time do not contend on the same counter. The same {@link ResolutionMetrics} can be shared
+ * by multiple {@link nl.devoxist.typeresolver.register.Register}s. The counters hold the recorded classes until the
+ * statistics are {@link #reset() reset}, so a reset releases the classes, and their class loaders, of which the
+ * statistics have been collected.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @see nl.devoxist.typeresolver.register.Register#setMetrics(ResolutionMetrics)
+ * @see nl.devoxist.typeresolver.constructor.ConstructorResolver#setMetrics(ResolutionMetrics)
+ * @since 1.7.0
+ */
+public final class ResolutionMetrics {
+    /**
+     * The lookup counters per type.
+     *
+     * @since 1.7.0
+     */
+    private final ConcurrentMap<Class<?>, LookupCounters> lookups = new ConcurrentHashMap<>();
+    /**
+     * The construction counters per class.
+     *
+     * @since 1.7.0
+     */
+    private final ConcurrentMap<Class<?>, ConstructionCounters> constructions = new ConcurrentHashMap<>();
+
+    /**
+     * Record a lookup that has found a provider of the type.
+     *
+     * @param type  The type that has been looked up.
+     * @param nanos The duration of the lookup in nanoseconds, including the initialization of the provider.
+     *
+     * @since 1.7.0
+     */
+    public void recordHit(@NotNull Class<?> type, long nanos) {
+        LookupCounters counters = getLookupCounters(type);
+
+        counters.hits.increment();
+        counters.latency.record(nanos);
+    }
+
+    /**
+     * Record a lookup that has not found a provider of the type in any of the searched registers.
+     *
+     * @param type The type that has been looked up.
+     *
+     * @since 1.7.0
+     */
+    public void recordMiss(@NotNull Class<?> type) {
+        getLookupCounters(type).misses.increment();
+    }
+
+    /**
+     * Record a construction of the class.
+     *
+     * @param type   The class that has been constructed.
+     * @param nanos  The duration of the construction in nanoseconds.
+     * @param failed Whether the construction has thrown an exception.
+     *
+     * @since 1.7.0
+     */
+    public void recordConstruction(@NotNull Class<?> type, long nanos, boolean failed) {
+        ConstructionCounters counters = getConstructionCounters(type);
+
+        if (failed) {
+            counters.failures.increment();
+        }
+
+        counters.duration.record(nanos);
+    }
+
+    /**
+     * Record that a new construction plan has been made for the class.
+     *
+     * @param type The class of which a plan has been made.
+     *
+     * @since 1.7.0
+     */
+    public void recordPlanCreation(@NotNull Class<?> type) {
+        getConstructionCounters(type).plansCreated.increment();
+    }
+
+    /**
+     * Take a snapshot of the collected statistics. The counters are read one by one, so statistics that are recorded
+     * during the snapshot can be missing in a part of the snapshot.
+     *
+     * @return The snapshot of the collected statistics.
+     *
+     * @since 1.7.0
+     */
+    public @NotNull MetricsSnapshot snapshot() {
+        Map<Class<?>, LookupSnapshot> lookupSnapshots = new HashMap<>();
+        Map<Class<?>, ConstructionSnapshot> constructionSnapshots = new HashMap<>();
+
+        lookups.forEach((type, counters) -> lookupSnapshots.put(type, new LookupSnapshot(
+                type,
+                counters.hits.sum(),
+                counters.misses.sum(),
+                counters.latency.snapshot()
+        )));
+
+        constructions.forEach((type, counters) -> constructionSnapshots.put(type, new ConstructionSnapshot(
+                type,
+                counters.failures.sum(),
+                counters.plansCreated.sum(),
+                counters.duration.snapshot()
+        )));
+
+        return new MetricsSnapshot(lookupSnapshots, constructionSnapshots);
+    }
+
+    /**
+     * Reset all the collected statistics. The counters of all the types are removed, so the classes are not held by
+     * this {@link ResolutionMetrics} anymore.
+     *
+     * @since 1.7.0
+     */
+    public void reset() {
+        lookups.clear();
+        constructions.clear();
+    }
+
+    /**
+     * Get the lookup counters of the type. The counters are made on the first lookup of the type.
+     *
+     * @param type The type that has been looked up.
+     *
+     * @return The lookup counters of the type.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull LookupCounters getLookupCounters(@NotNull Class<?> type) {
+        LookupCounters counters = lookups.get(type);
+
+        if (counters != null) {
+            return counters;
+        }
+
+        return lookups.computeIfAbsent(type, key -> new LookupCounters());
+    }
+
+    /**
+     * Get the construction counters of the class. The counters are made on the first construction of the class.
+     *
+     * @param type The class that has been constructed.
+     *
+     * @return The construction counters of the class.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull ConstructionCounters getConstructionCounters(@NotNull Class<?> type) {
+        ConstructionCounters counters = constructions.get(type);
+
+        if (counters != null) {
+            return counters;
+        }
+
+        return constructions.computeIfAbsent(type, key -> new ConstructionCounters());
+    }
+
+    /**
+     * {@link LookupCounters} holds the lookup counters of a type.
+     *
+     * @author Dev-Bjorn
+     * @version 1.7.0
+     * @since 1.7.0
+     */
+    private static final class LookupCounters {
+        /**
+         * The amount of lookups that have found a provider of the type.
+         *
+         * @since 1.7.0
+         */
+        private final LongAdder hits = new LongAdder();
+        /**
+         * The amount of lookups that have not found a provider of the type.
+         *
+         * @since 1.7.0
+         */
+        private final LongAdder misses = new LongAdder();
+        /**
+         * The durations of the lookups that have found a provider.
+         *
+         * @since 1.7.0
+         */
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    /**
+     * {@link ConstructionCounters} holds the construction counters of a class.
+     *
+     * @author Dev-Bjorn
+     * @version 1.7.0
+     * @since 1.7.0
+     */
+    private static final class ConstructionCounters {
+        /**
+         * The amount of constructions that have thrown an exception.
+         *
+         * @since 1.7.0
+         */
+        private final LongAdder failures = new LongAdder();
+        /**
+         * The amount of construction plans that have been made for the class.
+         *
+         * @since 1.7.0
+         */
+        private final LongAdder plansCreated = new LongAdder();
+        /**
+         * The durations of the constructions.
+         *
+         * @since 1.7.0
+         */
+        private final LatencyHistogram duration = new LatencyHistogram();
+    }
+}
@@ -40,7 +40,7 @@ import java.util.Map;
  * @param <I> type that represents the identifier.
  *
  * @author Dev-Bjorn
- * @version 1.6.1
+ * @version 1.7.0
  * @since 1.5.0
  */
 public final class IdentifierProvider<T, I> extends TypeProvider<T, Collection<?>> implements Cloneable {
@@ -108,7 +108,22 @@ public final class IdentifierProvider<T, I> extends TypeProvider<T, Collection<?
                     "The identifier cannot be null, use #applyIdentifier to clone this instance with an identifier.");
         }
 
-        T instance = getInstance();
+        return resolve(identifiers);
+    }
+
+    /**
+     * Get the provider by its identifiers, without cloning this instance. The first identifier that has been
+     * registered is used.
+     *
+     * @param identifiers The identifiers that are used to choose the implementation of the type.
+     *
+     * @return The provider retrieved by its identifiers.
+     *
+     * @throws ProviderException If none of the identifiers is registered.
+     * @since 1.7.0
+     */
+    public @NotNull T resolve(@NotNull Object... identifiers) {
+        T instance = IdentifierResolutionEvent.isRecorded() ? resolveRecorded(identifiers) : getInstance(identifiers);
 
         if (instance == null) {
             throw new ProviderException("The identifier has not been registered.");
@@ -118,14 +133,46 @@ public final class IdentifierProvider<T, I> extends TypeProvider<T, Collection<?
     }
 
     /**
-     * Get the provider by its identifier.
+     * Get the provider by its identifiers, while the resolution is recorded by an {@link IdentifierResolutionEvent}.
+     *
+     * @param identifiers The identifiers that are used to choose the implementation of the type.
+     *
+     * @return The provider retrieved by its identifiers, if {@code null} none of the identifiers is registered.
+     *
+     * @since 1.7.0
+     */
+    private @Nullable T resolveRecorded(Object @NotNull [] identifiers) {
+        IdentifierResolutionEvent event = new IdentifierResolutionEvent();
+        event.begin();
+
+        T instance = null;
+        String outcome = IdentifierResolutionEvent.FAILED;
+
+        try {
+            instance = getInstance(identifiers);
+            outcome = instance != null ? IdentifierResolutionEvent.RESOLVED : IdentifierResolutionEvent.NOT_REGISTERED;
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.commit(getType(), identifiers, outcome);
+            }
+        }
+
+        return instance;
+    }
+
+    /**
+     * Get the provider by its identifiers.
+     *
+     * @param identifiers The identifiers that are used to choose the implementation of the type.
      *
-     * @return The provider that is retrieved by its identifier.
+     * @return The provider that is retrieved by its identifiers.
      *
      * @since 1.5.0
      */
     @Nullable
-    private T getInstance() {
+    private T getInstance(Object @NotNull [] identifiers) {
         for (Object identifier : identifiers) {
             TypeProvider<T, ?> item = identifiersMap.get(identifier);
 
@@ -152,6 +199,7 @@ public final class IdentifierProvider<T, I> extends TypeProvider<T, Collection<?
      *
      * @return A cloned instance of this instance with an identifier that has been set.
      *
+     * @see #resolve(Object...)
      * @since 1.5.0
      */
     public @NotNull IdentifierProvider<T, I> applyIdentifiers(@NotNull Object... identifier) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.providers;
+
+import jdk.jfr.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * {@link IdentifierResolutionEvent} is the JDK Flight Recorder event of the resolution of an
+ * {@link IdentifierProvider} by its identifiers. Only the resolutions that take longer than the threshold are
+ * recorded, by default 1 ms. The fields of the event are only computed when the event is committed.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@Name("nl.devoxist.typeresolver.IdentifierResolution")
+@Label("Identifier Resolution")
+@Category("Type Register")
+@Description("Resolution of the implementation of a type by its identifiers")
+@Threshold("1 ms")
+final class IdentifierResolutionEvent extends Event {
+    /**
+     * The outcome of a resolution that has found an implementation.
+     *
+     * @since 1.7.0
+     */
+    static final String RESOLVED = "RESOLVED";
+    /**
+     * The outcome of a resolution of which none of the identifiers is registered.
+     *
+     * @since 1.7.0
+     */
+    static final String NOT_REGISTERED = "NOT_REGISTERED";
+    /**
+     * The outcome of a resolution of which the provider has thrown an exception.
+     *
+     * @since 1.7.0
+     */
+    static final String FAILED = "FAILED";
+    /**
+     * The {@link EventType} of the event, which tells whether a recording has enabled the event.
+     *
+     * @since 1.7.0
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(IdentifierResolutionEvent.class);
+
+    /**
+     * The type that has been resolved.
+     *
+     * @since 1.7.0
+     */
+    @Label("Type")
+    Class<?> type;
+    /**
+     * The identifiers that have been used to resolve the type.
+     *
+     * @since 1.7.0
+     */
+    @Label("Identifiers")
+    String identifiers;
+    /**
+     * The outcome of the resolution, {@link #RESOLVED}, {@link #NOT_REGISTERED} or {@link #FAILED}.
+     *
+     * @since 1.7.0
+     */
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Check whether the event is enabled by a running recording. If the event is not enabled, the event does not need
+     * to be allocated.
+     *
+     * @return If {@code true} the event is enabled by a running recording.
+     *
+     * @since 1.7.0
+     */
+    static boolean isRecorded() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Set the fields of the event and commit it.
+     *
+     * @param type        The type that has been resolved.
+     * @param identifiers The identifiers that have been used to resolve the type.
+     * @param outcome     The outcome of the resolution.
+     *
+     * @since 1.7.0
+     */
+    void commit(@NotNull Class<?> type, Object @NotNull [] identifiers, @NotNull String outcome) {
+        this.type = type;
+        this.identifiers = Arrays.toString(identifiers);
+        this.outcome = outcome;
+
+        commit();
+    }
+}
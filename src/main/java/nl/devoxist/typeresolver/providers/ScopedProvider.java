@@ -33,7 +33,7 @@ import java.util.function.Supplier;
  * @param <P> The type of the {@link Supplier} provider.
  *
  * @author Dev-Bjorn
- * @version 1.6.1
+ * @version 1.7.0
  * @since 1.1.0
  */
 public final class ScopedProvider<T, P extends T> extends TypeProvider<T, Supplier<P>> {
@@ -59,6 +59,25 @@ public final class ScopedProvider<T, P extends T> extends TypeProvider<T, Suppli
      */
     @Override
     public T getInitProvider() {
-        return getProvider().get();
+        if (!ScopedProviderEvent.isRecorded()) {
+            return getProvider().get();
+        }
+
+        ScopedProviderEvent event = new ScopedProviderEvent();
+        event.begin();
+
+        String outcome = ScopedProviderEvent.FAILED;
+
+        try {
+            T instance = getProvider().get();
+            outcome = ScopedProviderEvent.SUPPLIED;
+            return instance;
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.commit(getType(), outcome);
+            }
+        }
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.providers;
+
+import jdk.jfr.*;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link ScopedProviderEvent} is the JDK Flight Recorder event of the invocation of the
+ * {@link java.util.function.Supplier} of a {@link ScopedProvider}. Only the invocations that take longer than the
+ * threshold are recorded, by default 1 ms.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@Name("nl.devoxist.typeresolver.ScopedProvider")
+@Label("Scoped Provider")
+@Category("Type Register")
+@Description("Invocation of the supplier of a scoped provider")
+@Threshold("1 ms")
+final class ScopedProviderEvent extends Event {
+    /**
+     * The outcome of an invocation that has returned an instance.
+     *
+     * @since 1.7.0
+     */
+    static final String SUPPLIED = "SUPPLIED";
+    /**
+     * The outcome of an invocation that has thrown an exception.
+     *
+     * @since 1.7.0
+     */
+    static final String FAILED = "FAILED";
+    /**
+     * The {@link EventType} of the event, which tells whether a recording has enabled the event.
+     *
+     * @since 1.7.0
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(ScopedProviderEvent.class);
+
+    /**
+     * The type of which the {@link java.util.function.Supplier} has been invoked.
+     *
+     * @since 1.7.0
+     */
+    @Label("Type")
+    Class<?> type;
+    /**
+     * The outcome of the invocation, {@link #SUPPLIED} or {@link #FAILED}.
+     *
+     * @since 1.7.0
+     */
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Check whether the event is enabled by a running recording. If the event is not enabled, the event does not need
+     * to be allocated.
+     *
+     * @return If {@code true} the event is enabled by a running recording.
+     *
+     * @since 1.7.0
+     */
+    static boolean isRecorded() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Set the fields of the event and commit it.
+     *
+     * @param type    The type of which the {@link java.util.function.Supplier} has been invoked.
+     * @param outcome The outcome of the invocation.
+     *
+     * @since 1.7.0
+     */
+    void commit(@NotNull Class<?> type, @NotNull String outcome) {
+        this.type = type;
+        this.outcome = outcome;
+
+        commit();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.providers;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link SingletonProvider} is a subclass of {@link TypeProvider} and it links a type with a {@link Supplier}, which
+ * is only invoked once. The instance is constructed on the first {@link #getInitProvider()}, after that the same
+ * instance is returned. So an expensive instance is only constructed when it is used.
+ * <p>
+ * The constructed instance is published through a volatile field, so the initialized path is a single volatile
+ * read. When multiple threads request the instance at the same time, the {@link Supplier} is still invoked exactly
+ * once. If the {@link Supplier} throws an exception, the instance is not initialized and the next
+ * {@link #getInitProvider()} invokes the {@link Supplier} again.
+ *
+ * @param <T> The type of the type.
+ * @param <P> The type of the {@link Supplier} provider.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class SingletonProvider<T, P extends T> extends TypeProvider<T, Supplier<P>> {
+    /**
+     * The marker of an instance that has not been initialized yet, the {@link Supplier} can return {@code null}.
+     *
+     * @since 1.7.0
+     */
+    private static final Object UNINITIALIZED = new Object();
+
+    /**
+     * The lock that is held while the instance is initialized.
+     *
+     * @since 1.7.0
+     */
+    private final Object initializationLock = new Object();
+    /**
+     * The initialized instance, or {@link #UNINITIALIZED} if the instance has not been initialized yet.
+     *
+     * @since 1.7.0
+     */
+    private volatile Object instance = UNINITIALIZED;
+
+    /**
+     * Construct a {@link TypeProvider} object. This object holds the {@link Supplier} object and the type. The
+     * {@link Supplier} is not invoked until the first {@link #getInitProvider()}.
+     *
+     * @param typeCls  The class or interface that is representing the type of this {@link TypeProvider}.
+     * @param provider the provider class
+     *
+     * @since 1.7.0
+     */
+    public SingletonProvider(@NotNull Class<T> typeCls, @NotNull Supplier<P> provider) {
+        super(typeCls, provider);
+    }
+
+    /**
+     * Get the initiated object of the provider. The first call initializes the object with the {@link Supplier},
+     * every next call returns the same object.
+     *
+     * @return The initiated object of the provider.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getInitProvider() {
+        Object instance = this.instance;
+
+        if (instance == UNINITIALIZED) {
+            instance = initialize();
+        }
+
+        return (T) instance;
+    }
+
+    /**
+     * Check if the object of the provider has been initialized.
+     *
+     * @return If {@code true} the {@link Supplier} has been invoked and the object has been initialized.
+     *
+     * @since 1.7.0
+     */
+    public boolean isInitialized() {
+        return instance != UNINITIALIZED;
+    }
+
+    /**
+     * Initialize the object with the {@link Supplier}, if no other thread has initialized it before.
+     *
+     * @return The initialized object.
+     *
+     * @since 1.7.0
+     */
+    private Object initialize() {
+        synchronized (initializationLock) {
+            Object instance = this.instance;
+
+            if (instance == UNINITIALIZED) {
+                instance = getProvider().get();
+                this.instance = instance;
+            }
+
+            return instance;
+        }
+    }
+}
@@ -43,7 +43,7 @@ import java.util.function.Supplier;
  * @param <I> The type that is representing the type of the identifier.
  *
  * @author Dev-Bjorn
- * @version 1.6.1
+ * @version 1.7.0
  * @since 1.5.0
  */
 public final class IdentifiersBuilder<T, I> extends TypeProviderBuilder<T> {
@@ -114,6 +114,33 @@ public final class IdentifiersBuilder<T, I> extends TypeProviderBuilder<T> {
         return this;
     }
 
+    /**
+     * Add an identifier with a value to the {@link IdentifierProvider#getIdentifiersMap()}. The type of the value is
+     * given explicitly, so the {@link Supplier} does not need to be serializable and is not introspected.
+     *
+     * @param identifier The identifier which will be linked to the value.
+     * @param valueCls   The type of the value of the identifier.
+     * @param value      The supplier value of the identifier. Each time the
+     *                   {@link IdentifierProvider#getInitProvider()}
+     *                   and the given identifier is applied, it will return the output of {@link Supplier#get()}.
+     * @param <V>        The type of the value of the identifier.
+     *
+     * @return The builder of the {@link IdentifierProvider} to chain-edit the {@link IdentifierProvider}, when the
+     * options are set call the {@link IdentifiersBuilder#buildProvider(Class)} to get the {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    @Contract("_, _, _ -> this")
+    @SuppressWarnings("unchecked")
+    public <V extends T> IdentifiersBuilder<T, I> addScopedIdentifier(
+            I identifier,
+            @NotNull Class<V> valueCls,
+            @NotNull Supplier<V> value
+    ) {
+        this.identifiersMap.put(identifier, new ScopedProvider<>((Class<T>) valueCls, value));
+        return this;
+    }
+
     /**
      * Build the {@link TypeProvider} of chain-edited {@link TypeProvider}.
      *
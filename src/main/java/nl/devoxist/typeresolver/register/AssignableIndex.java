@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link AssignableIndex} is the index of the supertypes of the registered types of a {@link Register}, with the
+ * {@link TypeProvider}s that are assignable to the supertype. The superclasses and interfaces of a registered type are
+ * indexed once, when the type is registered or when the index is made, and are removed again when the type is
+ * unregistered. The supertypes of a class are cached per {@link Class}.
+ * <p>
+ * The index also holds the resolution of the supertypes through all the registers of the {@link Register}, once an
+ * assignable type has been searched through all the registers. If multiple {@link TypeProvider}s are assignable to a
+ * supertype, the {@link Register} with the highest {@link RegisterPriority} decides. If the {@link Register} with the
+ * highest priority has multiple assignable {@link TypeProvider}s, the supertype is ambiguous and is not resolved. The
+ * resolutions are patched per changed type, the same way as the flattened index of the {@link Register}.
+ * <p>
+ * The index is changed while the lock of the flattened index of the {@link Register} is held, the lookups do not use
+ * a lock.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+final class AssignableIndex {
+    /**
+     * The superclasses and interfaces of a class, without the class itself and without {@link Object}.
+     *
+     * @since 1.7.0
+     */
+    private static final ClassValue<Class<?>[]> SUPERTYPES = new ClassValue<>() {
+        /**
+         * Collect the superclasses and the interfaces of the class, including the interfaces of the superclasses and
+         * the superinterfaces.
+         *
+         * @param type The class to collect the supertypes from.
+         *
+         * @return The superclasses and interfaces of the class.
+         *
+         * @since 1.7.0
+         */
+        @Override
+        protected Class<?> @NotNull [] computeValue(Class<?> type) {
+            Set<Class<?>> supertypes = new LinkedHashSet<>();
+            Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(type);
+
+            while (!queue.isEmpty()) {
+                Class<?> current = queue.poll();
+                Class<?> superclass = current.getSuperclass();
+
+                if (superclass != null && superclass != Object.class && supertypes.add(superclass)) {
+                    queue.add(superclass);
+                }
+
+                for (Class<?> superinterface : current.getInterfaces()) {
+                    if (supertypes.add(superinterface)) {
+                        queue.add(superinterface);
+                    }
+                }
+            }
+
+            return supertypes.toArray(Class<?>[]::new);
+        }
+    };
+
+    /**
+     * The {@link TypeProvider}s of the registered types that have been indexed, by their type.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, TypeProvider<?, ?>> indexedProviders = new HashMap<>();
+    /**
+     * The supertypes of the registered types of the {@link Register}, with the assignable {@link TypeProvider}s of
+     * the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, Set<TypeProvider<?, ?>>> candidates = new ConcurrentHashMap<>();
+    /**
+     * The supertypes with the assignable {@link TypeProvider} through all the registers of the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, TypeProvider<?, ?>> resolutions = new ConcurrentHashMap<>();
+    /**
+     * The supertypes that are ambiguous through all the registers of the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    private final Set<Class<?>> ambiguousResolutions = ConcurrentHashMap.newKeySet();
+    /**
+     * Whether the {@link #resolutions} have been made.
+     *
+     * @since 1.7.0
+     */
+    private volatile boolean resolved;
+
+    /**
+     * Construct the {@link AssignableIndex} of the registered types of a {@link Register}.
+     *
+     * @param typeProviders The registered types of the {@link Register} with their {@link TypeProvider}s.
+     *
+     * @since 1.7.0
+     */
+    AssignableIndex(@NotNull Map<Class<?>, TypeProvider<?, ?>> typeProviders) {
+        this.patchCandidates(typeProviders.keySet(), typeProviders);
+    }
+
+    /**
+     * Get the superclasses and interfaces of the class, without the class itself and without {@link Object}. The
+     * supertypes are collected once per class.
+     *
+     * @param type The class to get the supertypes from.
+     *
+     * @return The superclasses and interfaces of the class.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    static Class<?> @NotNull [] getSupertypes(@NotNull Class<?> type) {
+        return SUPERTYPES.get(type);
+    }
+
+    /**
+     * Get the {@link TypeProvider} of the {@link Register} of which the type is assignable to the given type.
+     *
+     * @param typeCls The type to search the assignable {@link TypeProvider} from.
+     * @param <T>     type of the type to search the assignable {@link TypeProvider} from.
+     *
+     * @return The assignable {@link TypeProvider}. If {@code null} there is no assignable {@link TypeProvider}, or
+     * the type is ambiguous.
+     *
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable TypeProvider<? extends T, ?> getCandidate(Class<T> typeCls) {
+        Set<TypeProvider<?, ?>> typeProviders = candidates.get(typeCls);
+
+        if (typeProviders == null || typeProviders.size() != 1) {
+            return null;
+        }
+
+        Iterator<TypeProvider<?, ?>> iterator = typeProviders.iterator();
+        return iterator.hasNext() ? (TypeProvider<? extends T, ?>) iterator.next() : null;
+    }
+
+    /**
+     * Check if multiple {@link TypeProvider}s of the {@link Register} are assignable to the given type.
+     *
+     * @param typeCls The type to check.
+     *
+     * @return If {@code true} the type is ambiguous in the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    boolean isCandidateAmbiguous(Class<?> typeCls) {
+        Set<TypeProvider<?, ?>> typeProviders = candidates.get(typeCls);
+        return typeProviders != null && typeProviders.size() > 1;
+    }
+
+    /**
+     * Get the {@link TypeProvider} of which the type is assignable to the given type, through all the registers of
+     * the {@link Register}.
+     *
+     * @param typeCls The type to search the assignable {@link TypeProvider} from.
+     * @param <T>     type of the type to search the assignable {@link TypeProvider} from.
+     *
+     * @return The assignable {@link TypeProvider}. If {@code null} there is no assignable {@link TypeProvider}, or
+     * the type is ambiguous.
+     *
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable TypeProvider<? extends T, ?> getResolution(Class<T> typeCls) {
+        return (TypeProvider<? extends T, ?>) resolutions.get(typeCls);
+    }
+
+    /**
+     * Check if multiple {@link TypeProvider}s of the {@link Register} with the highest priority are assignable to the
+     * given type, through all the registers of the {@link Register}.
+     *
+     * @param typeCls The type to check.
+     *
+     * @return If {@code true} the type is ambiguous through all the registers.
+     *
+     * @since 1.7.0
+     */
+    boolean isResolutionAmbiguous(Class<?> typeCls) {
+        return ambiguousResolutions.contains(typeCls);
+    }
+
+    /**
+     * Check whether the resolutions through all the registers of the {@link Register} have been made.
+     *
+     * @return If {@code true} the resolutions have been made.
+     *
+     * @since 1.7.0
+     */
+    boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * Patch the supertypes of the changed types, with the current {@link TypeProvider}s of the changed types. A
+     * changed type that is not registered in the {@link Register} is skipped.
+     *
+     * @param types         The types that have been registered or unregistered.
+     * @param typeProviders The registered types of the {@link Register} with their {@link TypeProvider}s.
+     *
+     * @since 1.7.0
+     */
+    void patchCandidates(
+            @NotNull Collection<Class<?>> types,
+            @NotNull Map<Class<?>, TypeProvider<?, ?>> typeProviders
+    ) {
+        for (Class<?> type : types) {
+            TypeProvider<?, ?> typeProvider = typeProviders.get(type);
+            TypeProvider<?, ?> indexedProvider = indexedProviders.get(type);
+
+            if (typeProvider == indexedProvider) {
+                continue;
+            }
+
+            for (Class<?> supertype : getSupertypes(type)) {
+                if (indexedProvider != null) {
+                    Set<TypeProvider<?, ?>> supertypeCandidates = candidates.get(supertype);
+                    supertypeCandidates.remove(indexedProvider);
+
+                    if (supertypeCandidates.isEmpty()) {
+                        candidates.remove(supertype);
+                    }
+                }
+
+                if (typeProvider != null) {
+                    candidates.computeIfAbsent(supertype, key -> ConcurrentHashMap.newKeySet()).add(typeProvider);
+                }
+            }
+
+            if (typeProvider == null) {
+                indexedProviders.remove(type);
+            } else {
+                indexedProviders.put(type, typeProvider);
+            }
+        }
+    }
+
+    /**
+     * Make the resolutions of all the supertypes of the registered types, through all the registers.
+     *
+     * @param indexes The {@link AssignableIndex}es of the registers, ordered from the highest to the lowest priority.
+     *
+     * @since 1.7.0
+     */
+    void resolve(@NotNull List<AssignableIndex> indexes) {
+        Set<Class<?>> supertypes = new HashSet<>();
+
+        for (AssignableIndex index : indexes) {
+            supertypes.addAll(index.candidates.keySet());
+        }
+
+        this.patchResolutions(supertypes, indexes);
+        this.resolved = true;
+    }
+
+    /**
+     * Patch the resolutions of the supertypes of the changed types, through all the registers.
+     *
+     * @param types   The types that have been registered or unregistered.
+     * @param indexes The {@link AssignableIndex}es of the registers, ordered from the highest to the lowest priority.
+     *
+     * @since 1.7.0
+     */
+    void patchResolutionsOfTypes(@NotNull Collection<Class<?>> types, @NotNull List<AssignableIndex> indexes) {
+        Set<Class<?>> supertypes = new HashSet<>();
+
+        for (Class<?> type : types) {
+            supertypes.addAll(Arrays.asList(getSupertypes(type)));
+        }
+
+        this.patchResolutions(supertypes, indexes);
+    }
+
+    /**
+     * Patch the resolutions of the supertypes. The first register that has an assignable {@link TypeProvider} of a
+     * supertype decides the resolution of the supertype.
+     *
+     * @param supertypes The supertypes to patch.
+     * @param indexes    The {@link AssignableIndex}es of the registers, ordered from the highest to the lowest
+     *                   priority.
+     *
+     * @since 1.7.0
+     */
+    private void patchResolutions(@NotNull Collection<Class<?>> supertypes, @NotNull List<AssignableIndex> indexes) {
+        for (Class<?> supertype : supertypes) {
+            TypeProvider<?, ?> resolution = null;
+            boolean ambiguous = false;
+
+            for (AssignableIndex index : indexes) {
+                if (index.isCandidateAmbiguous(supertype)) {
+                    ambiguous = true;
+                    break;
+                }
+
+                resolution = index.getCandidate(supertype);
+
+                if (resolution != null) {
+                    break;
+                }
+            }
+
+            if (resolution == null) {
+                resolutions.remove(supertype);
+            } else {
+                resolutions.put(supertype, resolution);
+            }
+
+            if (ambiguous) {
+                ambiguousResolutions.add(supertype);
+            } else {
+                ambiguousResolutions.remove(supertype);
+            }
+        }
+    }
+}
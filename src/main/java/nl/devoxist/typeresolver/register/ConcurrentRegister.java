@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ConcurrentRegister} is a {@link Register} that can be shared by multiple {@link Thread}s. The registered
+ * {@link nl.devoxist.typeresolver.providers.TypeProvider}s are held in {@link ConcurrentHashMap}s, so the lookups
+ * never block, and registering or unregistering a type only locks the bin of the type. Registering a type has the
+ * same put-if-absent semantics as the {@link Register}, and unregistering a type that is not registered still fails.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public class ConcurrentRegister extends Register {
+
+    /**
+     * Construct a {@link ConcurrentRegister}. This register is prioritized as {@link RegisterPriority#NORMAL}. There
+     * are no combined {@link Register}s in this {@link ConcurrentRegister}.
+     *
+     * @since 1.7.0
+     */
+    public ConcurrentRegister() {
+        this(RegisterPriority.NORMAL);
+    }
+
+    /**
+     * Construct a {@link ConcurrentRegister} with {@link Register}s which can be optionally combined with this
+     * {@link ConcurrentRegister}. This register is prioritized as {@link RegisterPriority#NORMAL}.
+     *
+     * @param registers The registers combining to this register.
+     *
+     * @since 1.7.0
+     */
+    public ConcurrentRegister(Register... registers) {
+        this(RegisterPriority.NORMAL, registers);
+    }
+
+    /**
+     * Construct a {@link ConcurrentRegister} with a {@link Collection} of {@link Register}s. These {@link Register}s
+     * can optionally be combined with this {@link ConcurrentRegister}. This {@link ConcurrentRegister} is prioritized
+     * as {@link RegisterPriority#NORMAL}.
+     *
+     * @param registers A collection {@link Register}s combining to this register.
+     *
+     * @since 1.7.0
+     */
+    public ConcurrentRegister(@NotNull Collection<Register> registers) {
+        this(RegisterPriority.NORMAL, registers.toArray(Register[]::new));
+    }
+
+    /**
+     * Construct a {@link ConcurrentRegister} with a priority and optional {@link Register}s which can be optionally
+     * combined with this {@link ConcurrentRegister}.
+     *
+     * @param priority  The priority of the constructed register.
+     * @param registers The registers combining to this register.
+     *
+     * @see RegisterPriority
+     * @since 1.7.0
+     */
+    public ConcurrentRegister(RegisterPriority priority, Register... registers) {
+        super(priority, ConcurrentHashMap::new, registers);
+    }
+}
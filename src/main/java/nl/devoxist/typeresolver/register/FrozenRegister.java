@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.collection.ClassTable;
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.functions.SerializableConsumer;
+import nl.devoxist.typeresolver.functions.SerializableSupplier;
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import nl.devoxist.typeresolver.providers.builders.TypeProviderBuilder;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link FrozenRegister} is an immutable snapshot of a {@link Register}, which can be created with
+ * {@link Register#freeze()}. The links between the types and the providers are held in {@link ClassTable}s, so the
+ * lookups do not allocate any objects, and the views of this {@link Register} are not copied. All the
+ * {@link Register}s that have been combined with the frozen {@link Register} are frozen too. Any attempt to register
+ * or unregister a type fails with a {@link RegisterException}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class FrozenRegister extends Register {
+    /**
+     * The registered types of this {@link FrozenRegister} with the corresponding {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, TypeProvider<?, ?>> typeProviders;
+    /**
+     * The {@link FrozenRegister}s which have been combined with this {@link FrozenRegister}, in the order of the
+     * registries of the frozen {@link Register}. Registries with the same priority keep the order of the frozen
+     * {@link Register}, so the snapshot resolves the same {@link TypeProvider}s.
+     *
+     * @since 1.7.0
+     */
+    private final Set<Register> registries;
+    /**
+     * The table of the registered types of this {@link FrozenRegister} with the corresponding
+     * {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    private final ClassTable<TypeProvider<?, ?>> typeProviderTable;
+    /**
+     * The table of the types with the {@link TypeProvider} of the {@link Register} with the highest priority in
+     * {@link #registries} that contains the type.
+     *
+     * @since 1.7.0
+     */
+    private final ClassTable<TypeProvider<?, ?>> resolutionTable;
+
+    /**
+     * Construct a {@link FrozenRegister} of the {@link Register}.
+     *
+     * @param register The {@link Register} to freeze.
+     * @param combined The registries of the {@link Register}, in the iteration order of
+     *                 {@link Register#getRegistries()}, with the {@link FrozenRegister}s of the combined
+     *                 {@link Register}s and {@code null} at the position of the {@link Register} itself.
+     *
+     * @since 1.7.0
+     */
+    private FrozenRegister(@NotNull Register register, @NotNull List<FrozenRegister> combined) {
+        this(register.getPriority(), Map.copyOf(register.getTypeProviders()), new HashMap<>(),
+             new LinkedHashSet<>(), combined);
+    }
+
+    /**
+     * Construct a {@link FrozenRegister} with the snapshot of the registered types.
+     *
+     * @param priority        The priority of the frozen register.
+     * @param typeProviders   The snapshot of the registered types with the corresponding {@link TypeProvider}.
+     * @param resolutionIndex The empty index that is filled with the types of all the {@link FrozenRegister}s.
+     * @param registers       The empty set that is filled with the combined {@link FrozenRegister}s, in the order of
+     *                        the given registries.
+     * @param combined        The registries of the frozen {@link Register} in the order of its
+     *                        {@link Register#getRegistries()}, with {@code null} at the position of the frozen
+     *                        {@link Register} itself.
+     *
+     * @since 1.7.0
+     */
+    private FrozenRegister(
+            RegisterPriority priority,
+            Map<Class<?>, TypeProvider<?, ?>> typeProviders,
+            Map<Class<?>, TypeProvider<?, ?>> resolutionIndex,
+            Set<Register> registers,
+            List<FrozenRegister> combined
+    ) {
+        super(priority, typeProviders, resolutionIndex, registers);
+        this.typeProviders = typeProviders;
+
+        for (FrozenRegister registry : combined) {
+            registers.add(registry != null ? registry : this);
+        }
+
+        for (Register register : registers) {
+            register.getTypeProviders().forEach(resolutionIndex::putIfAbsent);
+        }
+
+        this.registries = Collections.unmodifiableSet(registers);
+        this.typeProviderTable = new ClassTable<>(typeProviders);
+        this.resolutionTable = new ClassTable<>(resolutionIndex);
+    }
+
+    /**
+     * Freeze the {@link Register} and all the {@link Register}s that have been combined with the {@link Register}.
+     * The combined {@link Register}s are frozen first, these have fewer registries than the {@link Register}s that
+     * have combined them.
+     *
+     * @param register The {@link Register} to freeze.
+     *
+     * @return The immutable snapshot of the {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    static @NotNull FrozenRegister freeze(@NotNull Register register) {
+        if (register instanceof FrozenRegister frozenRegister) {
+            return frozenRegister;
+        }
+
+        List<Register> registers = new ArrayList<>(register.getRegistries());
+        registers.sort(Comparator.comparingInt(combined -> combined.getRegistries().size()));
+
+        Map<Register, FrozenRegister> frozenRegisters = new IdentityHashMap<>();
+
+        for (Register toFreeze : registers) {
+            List<FrozenRegister> combined = new ArrayList<>();
+
+            for (Register registry : toFreeze.getRegistries()) {
+                combined.add(registry != toFreeze
+                             ? frozenRegisters.computeIfAbsent(registry, FrozenRegister::freeze)
+                             : null);
+            }
+
+            frozenRegisters.put(toFreeze, new FrozenRegister(toFreeze, combined));
+        }
+
+        return frozenRegisters.get(register);
+    }
+
+    /**
+     * Get the registries of this {@link FrozenRegister}. The registries are not copied.
+     *
+     * @return The registries of this {@link FrozenRegister}.
+     *
+     * @see RegisterPriority
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    @Override
+    public @NotNull @UnmodifiableView Set<Register> getRegistries() {
+        return registries;
+    }
+
+    /**
+     * Get the {@link Map} where the {@link TypeProvider}s are saved. The {@link Map} is immutable and not copied.
+     *
+     * @return The {@link Map} where the {@link TypeProvider}s are saved.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    @Override
+    public @NotNull @UnmodifiableView Map<Class<?>, TypeProvider<?, ?>> getTypeProviders() {
+        return typeProviders;
+    }
+
+    /**
+     * Get this {@link FrozenRegister}, because it already has been frozen.
+     *
+     * @return This {@link FrozenRegister}.
+     *
+     * @since 1.7.0
+     */
+    @Contract(value = " -> this",
+              pure = true)
+    @Override
+    public @NotNull FrozenRegister freeze() {
+        return this;
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The {@link java.util.function.Supplier} provider of the type which is going to be registered
+     *                 and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the {@link java.util.function.Supplier} provider which is going to be registered.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     * @deprecated Due to refactoring use {@link #registerScoped(Class, SerializableSupplier)}.
+     */
+    @Contract("_, _ -> fail")
+    @Deprecated(since = "1.7.0",
+                forRemoval = true)
+    @SuppressWarnings("removal")
+    @Override
+    public <T, P extends T> boolean register(
+            @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The {@link java.util.function.Supplier} provider of the type which is going to be registered
+     *                 and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the {@link java.util.function.Supplier} provider which is going to be registered.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_, _ -> fail")
+    @Override
+    public <T, P extends T> boolean registerScoped(
+            @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The {@link java.util.function.Supplier} provider of the type which is going to be registered
+     *                 and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the {@link java.util.function.Supplier} provider which is going to be registered.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_, _ -> fail")
+    @Override
+    public <T, P extends T> boolean registerLazy(
+            @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls     The type which is going to be registered and linked to the provider.
+     * @param providerCls The type of the {@link java.util.function.Supplier} provider.
+     * @param provider    The {@link java.util.function.Supplier} provider of the type which is going to be
+     *                    registered and linked to the type.
+     * @param <T>         type of the type which is going to be registered.
+     * @param <P>         type of the {@link java.util.function.Supplier} provider which is going to be registered.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_, _, _ -> fail")
+    @Override
+    public <T, P extends T> boolean registerScoped(
+            @NotNull Class<T> typeCls, @NotNull Class<P> providerCls, @NotNull Supplier<P> provider
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls     The type which is going to be registered and linked to the provider.
+     * @param providerCls The type of the {@link java.util.function.Supplier} provider.
+     * @param provider    The {@link java.util.function.Supplier} provider of the type which is going to be
+     *                    registered and linked to the type.
+     * @param <T>         type of the type which is going to be registered.
+     * @param <P>         type of the {@link java.util.function.Supplier} provider which is going to be registered.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_, _, _ -> fail")
+    @Override
+    public <T, P extends T> boolean registerLazy(
+            @NotNull Class<T> typeCls, @NotNull Class<P> providerCls, @NotNull Supplier<P> provider
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The provider of the type which is going to be registered and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the provider which is going to be registered.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_, _ -> fail")
+    @Override
+    public <T, P> boolean register(@NotNull Class<T> typeCls, @NotNull P provider) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeProvider The {@link TypeProvider} which is going to be registered.
+     * @param <T>          type of the type of the {@link TypeProvider}.
+     * @param <P>          type of the provider of the {@link TypeProvider#getProvider()}.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_ -> fail")
+    @Override
+    public <T, P> boolean register(TypeProvider<T, P> typeProvider) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeProviders The {@link TypeProvider}s which are going to be registered.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_ -> fail")
+    @Override
+    public @NotNull @Unmodifiable Set<Class<?>> registerAll(
+            @NotNull Collection<? extends TypeProvider<?, ?>> typeProviders
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract(" -> fail")
+    @Override
+    public @NotNull RegisterBatch batch() {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls         The type which is going to be registered and linked to the provider.
+     * @param builderConsumer The {@link java.util.function.Consumer} of the builder.
+     * @param <T>             type of the type which is going to be registered.
+     * @param <X>             type of the builder which is going to build the {@link TypeProvider}.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_, _ -> fail")
+    @Override
+    public <T, X extends TypeProviderBuilder<T>> boolean register(
+            @NotNull Class<T> typeCls,
+            @NotNull SerializableConsumer<X> builderConsumer
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls         The type which is going to be registered and linked to the provider.
+     * @param builderFactory  The factory of the builder.
+     * @param builderConsumer The {@link java.util.function.Consumer} of the builder.
+     * @param <T>             type of the type which is going to be registered.
+     * @param <X>             type of the builder which is going to build the {@link TypeProvider}.
+     *
+     * @return Nothing, this always fails.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_, _, _ -> fail")
+    @Override
+    public <T, X extends TypeProviderBuilder<T>> boolean register(
+            @NotNull Class<T> typeCls,
+            @NotNull Supplier<X> builderFactory,
+            @NotNull Consumer<X> builderConsumer
+    ) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeProvider The {@link TypeProvider} which is going to be unregistered.
+     * @param <T>          type of the type of the {@link TypeProvider}.
+     * @param <P>          type of the provider of the {@link TypeProvider#getProvider()}.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_ -> fail")
+    @Override
+    public <T, P> void unregister(@NotNull TypeProvider<T, P> typeProvider) {
+        throw frozenException();
+    }
+
+    /**
+     * A {@link FrozenRegister} cannot be changed, so this always fails.
+     *
+     * @param typeCls The type which is going to be unregistered.
+     * @param <T>     type of the type which is going to be unregistered.
+     *
+     * @throws RegisterException Always, because a {@link FrozenRegister} cannot be changed.
+     * @since 1.7.0
+     */
+    @Contract("_ -> fail")
+    @Override
+    public <T> void unregister(Class<T> typeCls) {
+        throw frozenException();
+    }
+
+    /**
+     * Get the {@link TypeProvider} of the type that has been registered in this {@link FrozenRegister}.
+     *
+     * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
+     * @param <T>     type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the type. If {@code null} the type is not registered in this
+     * {@link FrozenRegister}.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    <T> @Nullable TypeProvider<T, ?> findOwnTypeProvider(Class<T> typeCls) {
+        return (TypeProvider<T, ?>) typeProviderTable.get(typeCls);
+    }
+
+    /**
+     * Get the {@link TypeProvider} of the {@link Register} with the highest priority containing the type.
+     *
+     * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
+     * @param <T>     type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the type. If {@code null} the type is not registered in any of the
+     * {@link #registries}.
+     *
+     * @since 1.7.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    <T> @Nullable TypeProvider<T, ?> searchRegisters(Class<T> typeCls) {
+        return (TypeProvider<T, ?>) resolutionTable.get(typeCls);
+    }
+
+    /**
+     * Construct the exception that is thrown when this {@link FrozenRegister} is changed.
+     *
+     * @return The exception that is thrown when this {@link FrozenRegister} is changed.
+     *
+     * @since 1.7.0
+     */
+    @Contract(value = " -> new",
+              pure = true)
+    private static @NotNull RegisterException frozenException() {
+        return new RegisterException("The register is frozen, so it cannot be changed.");
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import jdk.jfr.*;
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link LookupEvent} is the JDK Flight Recorder event of the search of a {@link TypeProvider} in a {@link Register}.
+ * Only the lookups that take longer than the threshold are recorded, by default 1 ms. The fields of the event are
+ * only computed when the event is committed.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+@Name("nl.devoxist.typeresolver.Lookup")
+@Label("Type Lookup")
+@Category("Type Register")
+@Description("Search of the provider of a type in a register")
+@Threshold("1 ms")
+final class LookupEvent extends Event {
+    /**
+     * The outcome of a lookup that has found a {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    static final String FOUND = "FOUND";
+    /**
+     * The outcome of a lookup that has not found a {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    static final String NOT_FOUND = "NOT_FOUND";
+    /**
+     * The {@link EventType} of the event, which tells whether a recording has enabled the event.
+     *
+     * @since 1.7.0
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(LookupEvent.class);
+
+    /**
+     * The type that has been searched.
+     *
+     * @since 1.7.0
+     */
+    @Label("Type")
+    Class<?> type;
+    /**
+     * The {@link Register} that has been searched.
+     *
+     * @since 1.7.0
+     */
+    @Label("Register")
+    String register;
+    /**
+     * The {@link Register} that contains the found {@link TypeProvider}.
+     *
+     * @since 1.7.0
+     */
+    @Label("Answering Register")
+    String answeringRegister;
+    /**
+     * Whether the lookup has searched through all the combined {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    @Label("All Registers")
+    boolean allRegisters;
+    /**
+     * The outcome of the lookup, {@link #FOUND} or {@link #NOT_FOUND}.
+     *
+     * @since 1.7.0
+     */
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Check whether the event is enabled by a running recording. If the event is not enabled, the event does not need
+     * to be allocated.
+     *
+     * @return If {@code true} the event is enabled by a running recording.
+     *
+     * @since 1.7.0
+     */
+    static boolean isRecorded() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Get the description of the {@link Register} that is used in the events.
+     *
+     * @param register The {@link Register} to describe.
+     *
+     * @return The description of the {@link Register}, with its class, priority and identity.
+     *
+     * @since 1.7.0
+     */
+    static @NotNull String describe(@NotNull Register register) {
+        return "%s[%s]@%x".formatted(
+                register.getClass().getSimpleName(),
+                register.getPriority(),
+                System.identityHashCode(register)
+        );
+    }
+
+    /**
+     * Set the fields of the event and commit it.
+     *
+     * @param register     The {@link Register} that has been searched.
+     * @param type         The type that has been searched.
+     * @param allRegisters Whether the lookup has searched through all the combined {@link Register}s.
+     * @param typeProvider The found {@link TypeProvider}, if {@code null} the type has not been found.
+     *
+     * @since 1.7.0
+     */
+    void commit(
+            @NotNull Register register,
+            @NotNull Class<?> type,
+            boolean allRegisters,
+            @Nullable TypeProvider<?, ?> typeProvider
+    ) {
+        this.type = type;
+        this.register = describe(register);
+        this.allRegisters = allRegisters;
+        this.outcome = typeProvider != null ? FOUND : NOT_FOUND;
+
+        if (typeProvider != null) {
+            this.answeringRegister = describe(findAnsweringRegister(register, type, typeProvider));
+        }
+
+        commit();
+    }
+
+    /**
+     * Find the {@link Register} that contains the found {@link TypeProvider}.
+     *
+     * @param register     The {@link Register} that has been searched.
+     * @param type         The type that has been searched.
+     * @param typeProvider The found {@link TypeProvider}.
+     *
+     * @return The {@link Register} that contains the found {@link TypeProvider}, or the searched {@link Register} if
+     * it has been removed in the meantime.
+     *
+     * @since 1.7.0
+     */
+    private static @NotNull Register findAnsweringRegister(
+            @NotNull Register register,
+            @NotNull Class<?> type,
+            @NotNull TypeProvider<?, ?> typeProvider
+    ) {
+        for (Register combined : register.getRegistries()) {
+            if (combined.getTypeProviders().get(type) == typeProvider) {
+                return combined;
+            }
+        }
+
+        return register;
+    }
+}
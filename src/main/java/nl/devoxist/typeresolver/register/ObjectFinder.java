@@ -34,9 +34,13 @@ import java.util.concurrent.ExecutionException;
  * @param <T> The type of the object which is going to be searched.
  *
  * @author Dev-Bjorn
- * @version 1.3.0
+ * @version 1.7.0
  * @since 1.3.0
+ * @deprecated Starting a {@link Thread} for every search is more expensive than the search itself, use
+ * {@link RegisterLookup}, which searches on the calling {@link Thread}.
  */
+@Deprecated(since = "1.7.0",
+            forRemoval = true)
 public final class ObjectFinder<T> extends Thread {
     /**
      * The register to search through.
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.exception.ProviderException;
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.providers.IdentifierProvider;
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link ProviderHandle} holds the resolved {@link TypeProvider} of a type in a {@link Register}, so the
+ * {@link TypeProvider} does not have to be searched on every call. The handle stores the
+ * {@link Register#getVersion() version} of the {@link Register} with the {@link TypeProvider}; when the version has
+ * changed the {@link TypeProvider} is searched again. A handle can be stored in a field at the call site:
+ * <pre>{@code
+ *  private static final ProviderHandle<Foo> FOO = TypeRegister.handle(Foo.class);
+ *
+ *  void handleRequest() {
+ *      Foo foo = FOO.get();
+ *  }
+ * }</pre>
+ * The {@link TypeProvider} is searched on the first call of {@link #get()}, so a handle can be made before the type
+ * is registered. The calls through a handle are not recorded by the
+ * {@link nl.devoxist.typeresolver.metrics.ResolutionMetrics} of the {@link Register}, except for the searches after a
+ * change of the {@link Register}.
+ *
+ * @param <T> type of the type that is resolved by the handle.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @see Register#handle(Class)
+ * @since 1.7.0
+ */
+public final class ProviderHandle<T> {
+    /**
+     * The {@link Register} where the {@link TypeProvider} is searched in.
+     *
+     * @since 1.7.0
+     */
+    private final Register register;
+    /**
+     * The type that is resolved by the handle.
+     *
+     * @since 1.7.0
+     */
+    private final Class<T> typeCls;
+    /**
+     * Whether the {@link TypeProvider} is searched through all the combined {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    private final boolean allRegisters;
+    /**
+     * The last resolved {@link TypeProvider} with the version of the {@link Register}. The {@link Resolution} only has
+     * final fields, so it can be published without locking; a thread that sees an older {@link Resolution} compares
+     * its version and searches again.
+     *
+     * @since 1.7.0
+     */
+    private Resolution<T> resolution;
+
+    /**
+     * Construct a {@link ProviderHandle} of the type in the {@link Register}.
+     *
+     * @param register     The {@link Register} where the {@link TypeProvider} is searched in.
+     * @param typeCls      The type that is resolved by the handle.
+     * @param allRegisters Whether the {@link TypeProvider} is searched through all the combined {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    ProviderHandle(@NotNull Register register, @NotNull Class<T> typeCls, boolean allRegisters) {
+        this.register = register;
+        this.typeCls = typeCls;
+        this.allRegisters = allRegisters;
+    }
+
+    /**
+     * Get the type that is resolved by the handle.
+     *
+     * @return The type that is resolved by the handle.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull Class<T> getType() {
+        return typeCls;
+    }
+
+    /**
+     * Get the {@link TypeProvider} of the type. The {@link TypeProvider} is only searched again if the version of the
+     * {@link Register} has changed since the last search.
+     *
+     * @return The {@link TypeProvider} of the type.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @since 1.7.0
+     */
+    public @NotNull TypeProvider<T, ?> getTypeProvider() {
+        Resolution<T> resolution = this.resolution;
+
+        if (resolution == null || resolution.version != register.getVersion()) {
+            resolution = resolve();
+        }
+
+        return resolution.typeProvider;
+    }
+
+    /**
+     * Get the initialized provider of the type.
+     *
+     * @return The initialized provider of the type. This will return the output of the
+     * {@link TypeProvider#getInitProvider()}.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @since 1.7.0
+     */
+    public @NotNull T get() {
+        return getTypeProvider().getInitProvider();
+    }
+
+    /**
+     * Get the initialized provider of the type, the identifiers are used to choose the implementation of an
+     * {@link IdentifierProvider}.
+     *
+     * @param identifiers The identifiers that are used to choose the implementation of an {@link IdentifierProvider}.
+     *                    These are ignored if the type is not linked to an {@link IdentifierProvider}.
+     *
+     * @return The initialized provider of the type.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull T get(@NotNull Object... identifiers) {
+        TypeProvider<T, ?> typeProvider = getTypeProvider();
+
+        if (typeProvider instanceof IdentifierProvider<?, ?> identifierProvider) {
+            return (T) identifierProvider.resolve(identifiers);
+        }
+
+        return typeProvider.getInitProvider();
+    }
+
+    /**
+     * Search the {@link TypeProvider} of the type and store it with the version of the {@link Register}. The version
+     * is read before the search, so a change during the search causes a new search on the next call.
+     *
+     * @return The new {@link Resolution}.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @since 1.7.0
+     */
+    private @NotNull Resolution<T> resolve() {
+        long version = register.getVersion();
+        TypeProvider<T, ?> typeProvider = register.getTypeProvider(typeCls, allRegisters);
+        Resolution<T> resolution = new Resolution<>(version, typeProvider);
+
+        this.resolution = resolution;
+        return resolution;
+    }
+
+    /**
+     * {@link Resolution} holds a resolved {@link TypeProvider} with the version of the {@link Register} at the time of
+     * the search.
+     *
+     * @param version      The version of the {@link Register} before the search.
+     * @param typeProvider The resolved {@link TypeProvider}.
+     * @param <T>          type of the type of the {@link TypeProvider}.
+     *
+     * @author Dev-Bjorn
+     * @version 1.7.0
+     * @since 1.7.0
+     */
+    private record Resolution<T>(long version, TypeProvider<T, ?> typeProvider) {
+    }
+}
@@ -28,21 +28,33 @@ import nl.devoxist.typeresolver.exception.ProviderException;
 import nl.devoxist.typeresolver.exception.RegisterException;
 import nl.devoxist.typeresolver.functions.SerializableConsumer;
 import nl.devoxist.typeresolver.functions.SerializableSupplier;
+import nl.devoxist.typeresolver.metrics.ResolutionMetrics;
 import nl.devoxist.typeresolver.providers.IdentifierProvider;
 import nl.devoxist.typeresolver.providers.ObjectProvider;
 import nl.devoxist.typeresolver.providers.ScopedProvider;
+import nl.devoxist.typeresolver.providers.SingletonProvider;
 import nl.devoxist.typeresolver.providers.TypeProvider;
 import nl.devoxist.typeresolver.providers.builders.TypeProviderBuilder;
 import nl.devoxist.typeresolver.settings.InitProviderSettings;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -50,7 +62,7 @@ import java.util.function.Supplier;
  * used to create custom {@link Register}s.
  *
  * @author Dev-Bjorn
- * @version 1.6.1
+ * @version 1.7.0
  * @since 1.3.0
  */
 public class Register implements Cloneable, Comparable<Register> {
@@ -59,7 +71,7 @@ public class Register implements Cloneable, Comparable<Register> {
      *
      * @since 1.3.0
      */
-    private final Map<Class<?>, TypeProvider<?, ?>> typeProviders = new HashMap<>();
+    private final Map<Class<?>, TypeProvider<?, ?>> typeProviders;
     /**
      * The priority of this register.
      *
@@ -74,6 +86,58 @@ public class Register implements Cloneable, Comparable<Register> {
      * @since 1.3.0
      */
     private final Set<Register> registers;
+    /**
+     * The flattened index of the types with the {@link TypeProvider} of the {@link Register} with the highest priority
+     * in {@link #registers} that contains the type. This index is patched when a type gets registered or unregistered
+     * in any of the {@link #registers}, so a search through all the registers is a single lookup. The index is always
+     * a {@link ConcurrentHashMap}, because a {@link ConcurrentRegister} in the {@link #registers} patches it from the
+     * writing thread, while other threads read it without a lock.
+     *
+     * @since 1.7.0
+     */
+    private final Map<Class<?>, TypeProvider<?, ?>> resolutionIndex;
+    /**
+     * The lock that is held while the {@link #resolutionIndex} is built or patched, so concurrent patches of the same
+     * type cannot overwrite each other. The lookups in the {@link #resolutionIndex} do not use this lock.
+     *
+     * @since 1.7.0
+     */
+    private final Object resolutionIndexLock = new Object();
+    /**
+     * The {@link Register}s which have combined this {@link Register}. Their {@link #resolutionIndex} need to be
+     * patched when this {@link Register} changes. The {@link Register}s are weakly referenced, so short-living
+     * combined {@link Register}s can be garbage collected.
+     *
+     * @since 1.7.0
+     */
+    private final Set<WeakReference<Register>> dependents = ConcurrentHashMap.newKeySet();
+    /**
+     * The queue of the {@link #dependents} that have been garbage collected.
+     *
+     * @since 1.7.0
+     */
+    private final ReferenceQueue<Register> collectedDependents = new ReferenceQueue<>();
+    /**
+     * The version of the {@link #resolutionIndex}. The version is incremented every time the {@link #resolutionIndex}
+     * gets patched.
+     *
+     * @since 1.7.0
+     */
+    private final AtomicLong version = new AtomicLong();
+    /**
+     * The metrics that record the lookups of this {@link Register}. If {@code null} the lookups are not recorded.
+     *
+     * @since 1.7.0
+     */
+    private volatile ResolutionMetrics metrics;
+    /**
+     * The {@link AssignableIndex} of the registered types of this {@link Register}, if {@code null} no assignable
+     * type has been searched in this {@link Register} yet. Once made, the index is patched with the changed types in
+     * {@link #patchResolutionIndex(Collection)}.
+     *
+     * @since 1.7.0
+     */
+    private volatile AssignableIndex assignableIndex;
 
     /**
      * Construct a {@link Register}. This register is prioritized as {@link RegisterPriority#NORMAL}. There are
@@ -122,12 +186,76 @@ public class Register implements Cloneable, Comparable<Register> {
      * @since 1.3.0
      */
     public Register(RegisterPriority priority, Register... registers) {
+        this(priority, HashMap::new, registers);
+    }
+
+    /**
+     * Construct a {@link Register} with a priority, the {@link Map} implementation that holds the registered
+     * {@link TypeProvider}s and optional {@link Register}s which can be optionally combined with this
+     * {@link Register}.
+     *
+     * @param priority    The priority of the constructed register.
+     * @param mapSupplier The supplier of the {@link Map}s that hold the registered {@link TypeProvider}s.
+     * @param registers   The registers combining to this register.
+     *
+     * @see RegisterPriority
+     * @since 1.7.0
+     */
+    Register(
+            RegisterPriority priority,
+            @NotNull Supplier<Map<Class<?>, TypeProvider<?, ?>>> mapSupplier,
+            Register... registers
+    ) {
         this.priority = priority;
+        this.typeProviders = mapSupplier.get();
+        this.resolutionIndex = new ConcurrentHashMap<>();
+
+        List<SortedSet<Register>> registrySets = new ArrayList<>(registers.length + 1);
+        registrySets.add(new TreeSet<>(Arrays.asList(registers)));
+
+        for (Register register : registers) {
+            registrySets.add(register.registers instanceof SortedSet<Register> sortedRegisters
+                                     ? sortedRegisters
+                                     : new TreeSet<>(register.registers));
+        }
 
-        Supplier<Set<Register>> setSupplier = TreeSet::new;
-        this.registers =
-                MergeSets.mergeSets(new TreeSet<>(Arrays.asList(registers)), Register::getRegistries, setSupplier);
+        this.registers = MergeSets.mergeSortedSets(registrySets);
         this.registers.add(this);
+
+        synchronized (resolutionIndexLock) {
+            for (Register register : this.registers) {
+                if (register != this) {
+                    register.addDependent(this);
+                }
+
+                register.typeProviders.forEach(this.resolutionIndex::putIfAbsent);
+            }
+        }
+    }
+
+    /**
+     * Construct a {@link Register} of which the fields already have been computed. The {@link Register}s are not
+     * combined, and this {@link Register} does not get patched when the given {@link Register}s change.
+     *
+     * @param priority        The priority of the constructed register.
+     * @param typeProviders   The registered types with the corresponding {@link TypeProvider}.
+     * @param resolutionIndex The flattened index of the types with the {@link TypeProvider} of the {@link Register}
+     *                        with the highest priority containing the type.
+     * @param registers       The registers which have been combined with this {@link Register}, including this
+     *                        {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    Register(
+            RegisterPriority priority,
+            Map<Class<?>, TypeProvider<?, ?>> typeProviders,
+            Map<Class<?>, TypeProvider<?, ?>> resolutionIndex,
+            Set<Register> registers
+    ) {
+        this.priority = priority;
+        this.typeProviders = typeProviders;
+        this.resolutionIndex = resolutionIndex;
+        this.registers = registers;
     }
 
     /**
@@ -157,6 +285,42 @@ public class Register implements Cloneable, Comparable<Register> {
         return priority;
     }
 
+    /**
+     * Get the version of this {@link Register}. The version changes every time a type gets registered or unregistered
+     * in this {@link Register} or in one of the {@link Register}s that have been combined with this {@link Register}.
+     * This can be used to check whether a result that has been computed from this {@link Register} is still valid.
+     *
+     * @return The version of this {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Get the metrics that record the lookups of this {@link Register}.
+     *
+     * @return The metrics that record the lookups, or {@code null} if the lookups are not recorded.
+     *
+     * @since 1.7.0
+     */
+    public @Nullable ResolutionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Set the metrics that record the lookups through {@link #getInitProvider(Class)} and its overloads. The metrics
+     * are opt-in, without metrics a lookup only reads whether metrics have been set.
+     *
+     * @param metrics The metrics that record the lookups, or {@code null} to stop recording the lookups.
+     *
+     * @since 1.7.0
+     */
+    public void setMetrics(@Nullable ResolutionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Get the {@link Map} where the {@link TypeProvider}s are saved.
      *
@@ -169,6 +333,21 @@ public class Register implements Cloneable, Comparable<Register> {
         return Collections.unmodifiableMap(clonedMap);
     }
 
+    /**
+     * Freeze this {@link Register} and all the {@link Register}s that have been combined with this {@link Register}.
+     * The returned {@link FrozenRegister} is an immutable snapshot of the current links between the types and the
+     * providers, which can be searched through without allocations. Changes in this {@link Register} after the freeze
+     * are not visible in the returned {@link FrozenRegister}.
+     *
+     * @return The immutable snapshot of this {@link Register}.
+     *
+     * @see FrozenRegister
+     * @since 1.7.0
+     */
+    public @NotNull FrozenRegister freeze() {
+        return FrozenRegister.freeze(this);
+    }
+
     /**
      * Register a type with a {@link Supplier} provider.The registering of a {@link TypeProvider} causes a link to
      * appear in this {@link Register}. The registration of an object can only be taken place in this {@link Register}.
@@ -189,15 +368,7 @@ public class Register implements Cloneable, Comparable<Register> {
     public <T, P extends T> boolean register(
             @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
     ) {
-        Class<?> typeOfSupplier = provider.getSupplierClass();
-
-        if (!typeCls.isAssignableFrom(typeOfSupplier)) {
-            throw new RegisterException("The type is not assignable from the provider.");
-        }
-
-        TypeProvider<T, ?> typeProvider = new ScopedProvider<>(typeCls, provider);
-
-        return this.register(typeProvider);
+        return this.register(scopedProvider(typeCls, provider.getSupplierClass(), provider));
     }
 
     /**
@@ -217,17 +388,80 @@ public class Register implements Cloneable, Comparable<Register> {
     public <T, P extends T> boolean registerScoped(
             @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
     ) {
-        Class<?> typeOfSupplier = provider.getSupplierClass();
+        return this.register(scopedProvider(typeCls, provider.getSupplierClass(), provider));
+    }
 
-        if (!typeCls.isAssignableFrom(typeOfSupplier)) {
-            throw new RegisterException("The type is not assignable from the provider.");
-        }
 
-        TypeProvider<T, ?> typeProvider = new ScopedProvider<>(typeCls, provider);
+    /**
+     * Register a type with a {@link Supplier} provider, which is invoked only once on the first use of the type. The
+     * registering of a {@link TypeProvider} causes a link to appear in this {@link Register}. The registration of an
+     * object can only be taken place in this {@link Register}.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The {@link Supplier} provider of the type which is going to be registered and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return if {@code true} the {@link TypeProvider} is registered.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @see SingletonProvider
+     * @since 1.7.0
+     */
+    public <T, P extends T> boolean registerLazy(
+            @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
+    ) {
+        return this.register(lazyProvider(typeCls, provider.getSupplierClass(), provider));
+    }
 
-        return this.register(typeProvider);
+    /**
+     * Register a type with a {@link Supplier} provider of which the type is given explicitly, so the
+     * {@link Supplier} does not need to be serializable and is not introspected. The registering of a
+     * {@link TypeProvider} causes a link to appear in this {@link Register}. The registration of an object can only be
+     * taken place in this {@link Register}.
+     *
+     * @param typeCls     The type which is going to be registered and linked to the provider.
+     * @param providerCls The type of the {@link Supplier} provider.
+     * @param provider    The {@link Supplier} provider of the type which is going to be registered and linked to the
+     *                    type.
+     * @param <T>         type of the type which is going to be registered.
+     * @param <P>         type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return if {@code true} the {@link TypeProvider} is registered.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @since 1.7.0
+     */
+    public <T, P extends T> boolean registerScoped(
+            @NotNull Class<T> typeCls, @NotNull Class<P> providerCls, @NotNull Supplier<P> provider
+    ) {
+        return this.register(scopedProvider(typeCls, providerCls, provider));
     }
 
+    /**
+     * Register a type with a {@link Supplier} provider of which the type is given explicitly, which is invoked only
+     * once on the first use of the type. The {@link Supplier} does not need to be serializable and is not
+     * introspected. The registering of a {@link TypeProvider} causes a link to appear in this {@link Register}. The
+     * registration of an object can only be taken place in this {@link Register}.
+     *
+     * @param typeCls     The type which is going to be registered and linked to the provider.
+     * @param providerCls The type of the {@link Supplier} provider.
+     * @param provider    The {@link Supplier} provider of the type which is going to be registered and linked to the
+     *                    type.
+     * @param <T>         type of the type which is going to be registered.
+     * @param <P>         type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return if {@code true} the {@link TypeProvider} is registered.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @see SingletonProvider
+     * @since 1.7.0
+     */
+    public <T, P extends T> boolean registerLazy(
+            @NotNull Class<T> typeCls, @NotNull Class<P> providerCls, @NotNull Supplier<P> provider
+    ) {
+        return this.register(lazyProvider(typeCls, providerCls, provider));
+    }
 
     /**
      * Register a type with a provider. The registering of a {@link TypeProvider} causes a link to appear in this
@@ -243,17 +477,8 @@ public class Register implements Cloneable, Comparable<Register> {
      * @throws RegisterException if the type is not assignable from the provider.
      * @since 1.3.0
      */
-    @SuppressWarnings("unchecked")
     public <T, P> boolean register(@NotNull Class<T> typeCls, @NotNull P provider) {
-        Class<?> typeOfProvider = provider.getClass();
-
-        if (!typeCls.isAssignableFrom(typeOfProvider)) {
-            throw new RegisterException("The type is not assignable from the provider.");
-        }
-
-        TypeProvider<T, ?> typeProvider = new ObjectProvider<>(typeCls, (T) provider);
-
-        return this.register(typeProvider);
+        return this.register(objectProvider(typeCls, provider));
     }
 
     /**
@@ -270,7 +495,61 @@ public class Register implements Cloneable, Comparable<Register> {
      * @since 1.3.0
      */
     public <T, P> boolean register(TypeProvider<T, P> typeProvider) {
-        return typeProviders.putIfAbsent(typeProvider.getType(), typeProvider) == null;
+        boolean registered = typeProviders.putIfAbsent(typeProvider.getType(), typeProvider) == null;
+
+        if (registered) {
+            this.updateResolutionIndexes(typeProvider.getType());
+        }
+
+        return registered;
+    }
+
+    /**
+     * Register multiple types with their {@link TypeProvider}s at once. The registering of a {@link TypeProvider}
+     * causes a link to appear in this {@link Register}. The types which are already registered are skipped, the same
+     * way as {@link #register(TypeProvider)} does, and if the same type occurs multiple times the first
+     * {@link TypeProvider} is registered. The flattened index of this {@link Register} and of the {@link Register}s
+     * that have combined this {@link Register} is updated once after all the {@link TypeProvider}s have been
+     * inserted, instead of once per type. The types are not published atomically: the {@link TypeProvider}s are
+     * inserted one after another, so a concurrent lookup, e.g. in a {@link ConcurrentRegister}, can observe a part of
+     * the types before this method returns.
+     *
+     * @param typeProviders The {@link TypeProvider}s which are going to be registered.
+     *
+     * @return The types which have been registered, in the iteration order of the given {@link TypeProvider}s.
+     *
+     * @see RegisterBatch
+     * @since 1.7.0
+     */
+    public @NotNull @Unmodifiable Set<Class<?>> registerAll(
+            @NotNull Collection<? extends TypeProvider<?, ?>> typeProviders
+    ) {
+        Set<Class<?>> registeredTypes = new LinkedHashSet<>();
+
+        for (TypeProvider<?, ?> typeProvider : typeProviders) {
+            if (this.typeProviders.putIfAbsent(typeProvider.getType(), typeProvider) == null) {
+                registeredTypes.add(typeProvider.getType());
+            }
+        }
+
+        if (!registeredTypes.isEmpty()) {
+            this.updateResolutionIndexes(registeredTypes);
+        }
+
+        return Collections.unmodifiableSet(registeredTypes);
+    }
+
+    /**
+     * Create a {@link RegisterBatch} to register many types in this {@link Register} at once. The
+     * {@link TypeProvider}s of the batch are only registered when {@link RegisterBatch#commit()} is called.
+     *
+     * @return The {@link RegisterBatch} that chain-edits the types that are going to be registered.
+     *
+     * @see #registerAll(Collection)
+     * @since 1.7.0
+     */
+    public @NotNull RegisterBatch batch() {
+        return new RegisterBatch(this);
     }
 
     /**
@@ -295,26 +574,162 @@ public class Register implements Cloneable, Comparable<Register> {
             @NotNull Class<T> typeCls,
             @NotNull SerializableConsumer<X> builderConsumer
     ) {
-        Class<X> consumerCls = builderConsumer.getConsumerCls();
-        
-        if ((consumerCls.getModifiers() & Modifier.ABSTRACT) != 0) {
+        Class<X> builderCls = builderConsumer.getConsumerCls();
+
+        return this.register(builtProvider(typeCls, () -> newBuilder(builderCls), builderConsumer));
+    }
+
+    /**
+     * Register or update a type with a provider, that has been build by a {@link TypeProviderBuilder}. The builder is
+     * created by the given factory, so the {@link Consumer} does not need to be serializable, it is not introspected,
+     * and the builder is not constructed reflectively.
+     *
+     * @param typeCls         The type which is going to be registered and linked to the provider.
+     * @param builderFactory  The factory of the builder, e.g. the constructor reference of the builder.
+     * @param builderConsumer The {@link Consumer} of the builder.
+     * @param <T>             type of the type which is going to be registered.
+     * @param <X>             type of the builder which is going to build the {@link TypeProvider}.
+     *
+     * @return if {@code true} the type with the build provider is registered.
+     *
+     * @see TypeProviderBuilder
+     * @since 1.7.0
+     */
+    public <T, X extends TypeProviderBuilder<T>> boolean register(
+            @NotNull Class<T> typeCls,
+            @NotNull Supplier<X> builderFactory,
+            @NotNull Consumer<X> builderConsumer
+    ) {
+        return this.register(builtProvider(typeCls, builderFactory, builderConsumer));
+    }
+
+    /**
+     * Create a {@link ScopedProvider} of the type with a {@link Supplier} provider.
+     *
+     * @param typeCls     The type which is going to be linked to the provider.
+     * @param providerCls The type of the {@link Supplier} provider.
+     * @param provider    The {@link Supplier} provider of the type which is going to be linked to the type.
+     * @param <T>         type of the type which is going to be linked to the provider.
+     * @param <P>         type of the {@link Supplier} provider.
+     *
+     * @return The {@link ScopedProvider} of the type.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @since 1.7.0
+     */
+    static <T, P extends T> @NotNull TypeProvider<T, ?> scopedProvider(
+            @NotNull Class<T> typeCls, @NotNull Class<?> providerCls, @NotNull Supplier<P> provider
+    ) {
+        checkAssignable(typeCls, providerCls);
+
+        return new ScopedProvider<>(typeCls, provider);
+    }
+
+    /**
+     * Create a {@link SingletonProvider} of the type with a {@link Supplier} provider.
+     *
+     * @param typeCls     The type which is going to be linked to the provider.
+     * @param providerCls The type of the {@link Supplier} provider.
+     * @param provider    The {@link Supplier} provider of the type which is going to be linked to the type.
+     * @param <T>         type of the type which is going to be linked to the provider.
+     * @param <P>         type of the {@link Supplier} provider.
+     *
+     * @return The {@link SingletonProvider} of the type.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @since 1.7.0
+     */
+    static <T, P extends T> @NotNull TypeProvider<T, ?> lazyProvider(
+            @NotNull Class<T> typeCls, @NotNull Class<?> providerCls, @NotNull Supplier<P> provider
+    ) {
+        checkAssignable(typeCls, providerCls);
+
+        return new SingletonProvider<>(typeCls, provider);
+    }
+
+    /**
+     * Create an {@link ObjectProvider} of the type with a provider.
+     *
+     * @param typeCls  The type which is going to be linked to the provider.
+     * @param provider The provider of the type which is going to be linked to the type.
+     * @param <T>      type of the type which is going to be linked to the provider.
+     * @param <P>      type of the provider.
+     *
+     * @return The {@link ObjectProvider} of the type.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T, P> @NotNull TypeProvider<T, ?> objectProvider(@NotNull Class<T> typeCls, @NotNull P provider) {
+        checkAssignable(typeCls, provider.getClass());
+
+        return new ObjectProvider<>(typeCls, (T) provider);
+    }
+
+    /**
+     * Create a {@link TypeProvider} of the type, that has been build by a {@link TypeProviderBuilder}.
+     *
+     * @param typeCls         The type which is going to be linked to the provider.
+     * @param builderFactory  The factory of the builder.
+     * @param builderConsumer The {@link Consumer} of the builder.
+     * @param <T>             type of the type which is going to be linked to the provider.
+     * @param <X>             type of the builder which is going to build the {@link TypeProvider}.
+     *
+     * @return The {@link TypeProvider} that has been build by the builder.
+     *
+     * @since 1.7.0
+     */
+    static <T, X extends TypeProviderBuilder<T>> @NotNull TypeProvider<T, ?> builtProvider(
+            @NotNull Class<T> typeCls,
+            @NotNull Supplier<X> builderFactory,
+            @NotNull Consumer<X> builderConsumer
+    ) {
+        X typeProviderBuilder = builderFactory.get();
+
+        builderConsumer.accept(typeProviderBuilder);
+
+        return typeProviderBuilder.buildProvider(typeCls);
+    }
+
+    /**
+     * Construct the builder of the type reflectively.
+     *
+     * @param builderCls The type of the builder.
+     * @param <X>        type of the builder.
+     *
+     * @return The constructed builder.
+     *
+     * @throws RegisterException If the builder is an abstract type, or if the builder could not be constructed.
+     * @since 1.7.0
+     */
+    static <X extends TypeProviderBuilder<?>> @NotNull X newBuilder(@NotNull Class<X> builderCls) {
+        if ((builderCls.getModifiers() & Modifier.ABSTRACT) != 0) {
             throw new RegisterException(
                     "The consumer is an abstract type, which cannot be used in any from of registration.");
         }
 
-        X typeProviderBuilder;
         try {
-            typeProviderBuilder = ConstructorResolver.initClass(consumerCls, false);
+            return ConstructorResolver.initClass(builderCls, false);
         } catch (NoSuchMethodException | InvocationTargetException | InstantiationException |
                  IllegalAccessException e) {
             throw new RegisterException(e);
         }
+    }
 
-        builderConsumer.accept(typeProviderBuilder);
-
-        TypeProvider<T, ?> provider = typeProviderBuilder.buildProvider(typeCls);
-
-        return this.register(provider);
+    /**
+     * Check if the type is assignable from the type of the provider.
+     *
+     * @param typeCls        The type which is going to be linked to the provider.
+     * @param typeOfProvider The type of the provider.
+     *
+     * @throws RegisterException if the type is not assignable from the provider.
+     * @since 1.7.0
+     */
+    private static void checkAssignable(@NotNull Class<?> typeCls, @NotNull Class<?> typeOfProvider) {
+        if (!typeCls.isAssignableFrom(typeOfProvider)) {
+            throw new RegisterException("The type is not assignable from the provider.");
+        }
     }
 
     /**
@@ -347,11 +762,11 @@ public class Register implements Cloneable, Comparable<Register> {
      * @since 1.3.0
      */
     public <T> void unregister(Class<T> typeCls) {
-        if (!this.hasProvider(typeCls)) {
+        if (typeProviders.remove(typeCls) == null) {
             throw new RegisterException("'%s' is not registered.".formatted(typeCls.getName()));
         }
 
-        typeProviders.remove(typeCls);
+        this.updateResolutionIndexes(typeCls);
     }
 
 
@@ -384,7 +799,7 @@ public class Register implements Cloneable, Comparable<Register> {
      */
     @Contract(pure = true)
     public <T> boolean hasProvider(Class<T> typeCls, boolean allRegisters) {
-        return allRegisters ? this.searchRegisters(typeCls) != null : typeProviders.containsKey(typeCls);
+        return allRegisters ? this.searchRegisters(typeCls) != null : this.findOwnTypeProvider(typeCls) != null;
     }
 
     /**
@@ -463,9 +878,7 @@ public class Register implements Cloneable, Comparable<Register> {
      * @since 1.3.0
      */
     public <T> @NotNull T getInitProvider(Class<T> typeCls, boolean allRegisters) {
-        TypeProvider<T, ?> typeProvider = this.findTypeProvider(typeCls, allRegisters);
-
-        return typeProvider.getInitProvider();
+        return this.initProvider(typeCls, allRegisters, null);
     }
 
     /**
@@ -484,7 +897,6 @@ public class Register implements Cloneable, Comparable<Register> {
      * @throws ProviderException If the identifiers is null or empty, or if the identifier is not registered.
      * @since 1.5.0
      */
-    @SuppressWarnings("unchecked")
     public <T> @NotNull T getInitProvider(
             Class<T> typeCls,
             @NotNull Consumer<InitProviderSettings> providerSettingsConsumer
@@ -492,60 +904,782 @@ public class Register implements Cloneable, Comparable<Register> {
         InitProviderSettings initProviderSettings = new InitProviderSettings();
         providerSettingsConsumer.accept(initProviderSettings);
 
-        TypeProvider<T, ?> typeProvider = this.findTypeProvider(typeCls, initProviderSettings.useAllRegisters());
+        return this.initProvider(
+                typeCls,
+                initProviderSettings.useAllRegisters(),
+                initProviderSettings.getIdentifiers()
+        );
+    }
 
-        if (typeProvider instanceof IdentifierProvider<?, ?> typeKeyProvider) {
-            Object[] identifiers = initProviderSettings.getIdentifiers();
-            typeProvider = (TypeProvider<T, ?>) typeKeyProvider.applyIdentifiers(identifiers);
-        }
+    /**
+     * Search and get the initialized provider, the identifiers are used to choose the implementation of an
+     * {@link IdentifierProvider}. The search is completed through the current {@link Register}. In contrast to
+     * {@link #getInitProvider(Class, Consumer)} this does not create any settings or copies of the
+     * {@link IdentifierProvider}.
+     *
+     * @param typeCls     The type to search the link from between the provider ({@link TypeProvider}).
+     * @param identifiers The identifiers that are used to choose the implementation of an {@link IdentifierProvider}.
+     *                    These are ignored if the type is not linked to an {@link IdentifierProvider}.
+     * @param <T>         type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type. This will return the output of the
+     * {@link IdentifierProvider#resolve(Object...)} or the {@link TypeProvider#getInitProvider()}.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    public <T> @NotNull T getInitProvider(Class<T> typeCls, @NotNull Object... identifiers) {
+        return this.initProvider(typeCls, false, identifiers);
+    }
 
-        return typeProvider.getInitProvider();
+    /**
+     * Search and get the initialized provider, without throwing an exception if the type is not registered. This can
+     * be used to probe optional types. The search is completed through the current {@link Register}.
+     *
+     * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
+     * @param <T>     type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type, or {@code null} if the type is not
+     * registered. A provider that initializes to {@code null} also returns {@code null}.
+     *
+     * @since 1.7.0
+     */
+    public <T> @Nullable T tryGetInitProvider(Class<T> typeCls) {
+        return this.tryGetInitProvider(typeCls, false);
     }
 
     /**
-     * Search and get the {@link TypeProvider} of the type. The search can be done through all
-     * provided registers ({@link #registers}).
+     * Search and get the initialized provider, without throwing an exception if the type is not registered. This can
+     * be used to probe optional types. The search can be done through all provided registers ({@link #registers}).
      *
      * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
      * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
      *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
      * @param <T>          type of the type to search the link from.
      *
-     * @return The {@link TypeProvider} of the searched type.
+     * @return The initialized provider which has been searched by its type, or {@code null} if the type is not
+     * registered. A provider that initializes to {@code null} also returns {@code null}.
      *
-     * @throws RegisterException If the provider is not registered.
-     * @since 1.3.0
+     * @since 1.7.0
      */
-    @NotNull
-    @SuppressWarnings("unchecked")
-    private <T> TypeProvider<T, ?> findTypeProvider(Class<T> typeCls, boolean allRegisters) {
-        TypeProvider<T, ?> typeProvider;
-
-        if (allRegisters) {
-            typeProvider = searchRegisters(typeCls);
-        } else {
-            typeProvider = (TypeProvider<T, ?>) typeProviders.get(typeCls);
-        }
-
-        if (typeProvider == null) {
-            throw new RegisterException("The provider of '%s' is not registered.".formatted(typeCls.getName()));
-        }
-
-        return typeProvider;
+    public <T> @Nullable T tryGetInitProvider(Class<T> typeCls, boolean allRegisters) {
+        return this.initProviderOrNull(typeCls, allRegisters, null, false);
     }
 
     /**
-     * Search and get the {@link TypeProvider} of the {@link Register} with the highest priority containing the type.
+     * Search and get the initialized provider as an {@link Optional}, without throwing an exception if the type is
+     * not registered. The search is completed through the current {@link Register}.
      *
      * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
      * @param <T>     type of the type to search the link from.
      *
-     * @return The {@link TypeProvider} of the type. If {@code null} the type is not registered or an exception was thrown.
+     * @return The initialized provider which has been searched by its type, or an empty {@link Optional} if the type
+     * is not registered or the provider initializes to {@code null}.
      *
-     * @since 1.3.0
+     * @since 1.7.0
      */
-    private <T> @Nullable TypeProvider<T, ?> searchRegisters(Class<T> typeCls) {
-        return RegisterSearch.searchRegisters(registers, typeCls);
+    public <T> @NotNull Optional<T> findInitProvider(Class<T> typeCls) {
+        return this.findInitProvider(typeCls, false);
+    }
+
+    /**
+     * Search and get the initialized provider as an {@link Optional}, without throwing an exception if the type is
+     * not registered. The search can be done through all provided registers ({@link #registers}).
+     *
+     * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param <T>          type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type, or an empty {@link Optional} if the type
+     * is not registered or the provider initializes to {@code null}.
+     *
+     * @since 1.7.0
+     */
+    public <T> @NotNull Optional<T> findInitProvider(Class<T> typeCls, boolean allRegisters) {
+        return Optional.ofNullable(this.tryGetInitProvider(typeCls, allRegisters));
+    }
+
+    /**
+     * Search and get the initialized providers of multiple types at once. The search is completed through the current
+     * {@link Register}. All the types are searched before any provider is initialized, so if one of the types is not
+     * registered none of the providers are initialized.
+     *
+     * @param types The types to search the links from between the providers ({@link TypeProvider}).
+     *
+     * @return The initialized providers, at the same index as their type.
+     *
+     * @throws RegisterException If one of the providers is not registered.
+     * @since 1.7.0
+     */
+    public Object @NotNull [] getInitProviders(Class<?> @NotNull ... types) {
+        return this.getInitProviders(false, types);
+    }
+
+    /**
+     * Search and get the initialized providers of multiple types at once. The search can be done through all provided
+     * registers ({@link #registers}). All the types are searched before any provider is initialized, so if one of the
+     * types is not registered none of the providers are initialized.
+     *
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param types        The types to search the links from between the providers ({@link TypeProvider}).
+     *
+     * @return The initialized providers, at the same index as their type.
+     *
+     * @throws RegisterException If one of the providers is not registered.
+     * @since 1.7.0
+     */
+    public Object @NotNull [] getInitProviders(boolean allRegisters, Class<?> @NotNull ... types) {
+        return this.initProviders(types, allRegisters, null, null);
+    }
+
+    /**
+     * Search and get the initialized providers of multiple types at once. The search is completed through the current
+     * {@link Register}. All the types are searched before any provider is initialized, so if one of the types is not
+     * registered none of the providers are initialized.
+     *
+     * @param types The types to search the links from between the providers ({@link TypeProvider}).
+     *
+     * @return The initialized providers by their type, in the iteration order of the given types.
+     *
+     * @throws RegisterException If one of the providers is not registered.
+     * @since 1.7.0
+     */
+    public @NotNull @Unmodifiable Map<Class<?>, Object> getInitProviders(
+            @NotNull Collection<? extends Class<?>> types
+    ) {
+        return this.getInitProviders(types, settings -> {});
+    }
+
+    /**
+     * Search and get the initialized providers of multiple types at once. All the types are searched before any
+     * provider is initialized, so if one of the types is not registered none of the providers are initialized. If
+     * {@link InitProviderSettings#getExecutor()} is set, the providers are initialized concurrently on the
+     * {@link java.util.concurrent.Executor}.
+     *
+     * @param types                    The types to search the links from between the providers
+     *                                 ({@link TypeProvider}).
+     * @param providerSettingsConsumer The settings that will manipulate the search of the {@link TypeProvider}s.
+     *
+     * @return The initialized providers by their type, in the iteration order of the given types.
+     *
+     * @throws RegisterException If one of the providers is not registered.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    public @NotNull @Unmodifiable Map<Class<?>, Object> getInitProviders(
+            @NotNull Collection<? extends Class<?>> types,
+            @NotNull Consumer<InitProviderSettings> providerSettingsConsumer
+    ) {
+        InitProviderSettings initProviderSettings = new InitProviderSettings();
+        providerSettingsConsumer.accept(initProviderSettings);
+
+        Class<?>[] typeArray = types.toArray(Class<?>[]::new);
+        Object[] initProviders = this.initProviders(
+                typeArray,
+                initProviderSettings.useAllRegisters(),
+                initProviderSettings.getIdentifiers(),
+                initProviderSettings.getExecutor()
+        );
+
+        Map<Class<?>, Object> initProviderMap = new LinkedHashMap<>((int) Math.ceil(typeArray.length / 0.75D));
+
+        for (int i = 0; i < typeArray.length; i++) {
+            initProviderMap.putIfAbsent(typeArray[i], initProviders[i]);
+        }
+
+        return Collections.unmodifiableMap(initProviderMap);
+    }
+
+    /**
+     * Search the {@link TypeProvider}s of the types and get the initialized providers. The {@link TypeProvider}s of
+     * all the types are searched first, afterwards the providers are initialized. If {@link #metrics} have been set,
+     * the lookups are recorded as a hit with the duration of the initialization, or as a miss if the type is not
+     * registered. An initialization that fails is not recorded as a hit.
+     *
+     * @param types        The types to search the links from between the providers ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param identifiers  The identifiers that are used to choose the implementation of an
+     *                     {@link IdentifierProvider}, or {@code null} if no identifiers are given.
+     * @param executor     The {@link Executor} that initializes the providers concurrently, if {@code null} the
+     *                     providers are initialized on the calling thread.
+     *
+     * @return The initialized providers, at the same index as their type.
+     *
+     * @throws RegisterException If one of the providers is not registered.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    private Object @NotNull [] initProviders(
+            Class<?> @NotNull [] types,
+            boolean allRegisters,
+            Object @Nullable [] identifiers,
+            @Nullable Executor executor
+    ) {
+        ResolutionMetrics metrics = this.metrics;
+        TypeProvider<?, ?>[] typeProviders = new TypeProvider<?, ?>[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            typeProviders[i] = this.lookupTypeProvider(types[i], allRegisters);
+
+            if (typeProviders[i] == null) {
+                if (metrics != null) {
+                    metrics.recordMiss(types[i]);
+                }
+
+                throw notRegisteredException(types[i]);
+            }
+        }
+
+        Object[] initProviders = new Object[types.length];
+        IntConsumer initializer = metrics == null
+                ? i -> initProviders[i] = initProvider(typeProviders[i], identifiers)
+                : i -> {
+                    long start = System.nanoTime();
+                    initProviders[i] = initProvider(typeProviders[i], identifiers);
+                    metrics.recordHit(types[i], System.nanoTime() - start);
+                };
+
+        if (executor == null || types.length < 2) {
+            for (int i = 0; i < types.length; i++) {
+                initializer.accept(i);
+            }
+
+            return initProviders;
+        }
+
+        int last = types.length - 1;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[last];
+
+        for (int i = 0; i < last; i++) {
+            int index = i;
+            futures[i] = CompletableFuture.runAsync(() -> initializer.accept(index), executor);
+        }
+
+        RuntimeException failure = null;
+
+        try {
+            initializer.accept(last);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : e;
+
+                if (failure == null) {
+                    failure = cause;
+                } else if (failure != cause) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return initProviders;
+    }
+
+    /**
+     * Search the {@link TypeProvider} of the type and get the initialized provider. If {@link #metrics} have been
+     * set, the lookup is recorded as a hit with its duration, or as a miss if the type is not registered.
+     *
+     * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param identifiers  The identifiers that are used to choose the implementation of an
+     *                     {@link IdentifierProvider}, or {@code null} if no identifiers are given.
+     * @param <T>          type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    private <T> @NotNull T initProvider(Class<T> typeCls, boolean allRegisters, Object @Nullable [] identifiers) {
+        return this.initProviderOrNull(typeCls, allRegisters, identifiers, true);
+    }
+
+    /**
+     * Search the {@link TypeProvider} of the type and get the initialized provider. If {@link #metrics} have been
+     * set, the lookup is recorded as a hit with its duration, or as a miss if the type is not registered.
+     *
+     * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param identifiers  The identifiers that are used to choose the implementation of an
+     *                     {@link IdentifierProvider}, or {@code null} if no identifiers are given.
+     * @param required     If {@code true} a {@link RegisterException} is thrown if the type is not registered,
+     *                     otherwise {@code null} is returned.
+     * @param <T>          type of the type to search the link from.
+     *
+     * @return The initialized provider which has been searched by its type, or {@code null} if the type is not
+     * registered and not required.
+     *
+     * @throws RegisterException If the provider is not registered and required.
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    private <T> @Nullable T initProviderOrNull(
+            Class<T> typeCls,
+            boolean allRegisters,
+            Object @Nullable [] identifiers,
+            boolean required
+    ) {
+        ResolutionMetrics metrics = this.metrics;
+        long start = metrics != null ? System.nanoTime() : 0L;
+        TypeProvider<T, ?> typeProvider = this.lookupTypeProvider(typeCls, allRegisters);
+
+        if (typeProvider == null) {
+            if (metrics != null) {
+                metrics.recordMiss(typeCls);
+            }
+
+            if (required) {
+                throw notRegisteredException(typeCls);
+            }
+
+            return null;
+        }
+
+        if (metrics == null) {
+            return initProvider(typeProvider, identifiers);
+        }
+
+        T initProvider = initProvider(typeProvider, identifiers);
+        metrics.recordHit(typeCls, System.nanoTime() - start);
+
+        return initProvider;
+    }
+
+    /**
+     * Get the initialized provider of the {@link TypeProvider}. The identifiers are applied to an
+     * {@link IdentifierProvider}.
+     *
+     * @param typeProvider The {@link TypeProvider} of the type.
+     * @param identifiers  The identifiers that are used to choose the implementation of an
+     *                     {@link IdentifierProvider}, or {@code null} if no identifiers are given.
+     * @param <T>          type of the type of the {@link TypeProvider}.
+     *
+     * @return The initialized provider of the {@link TypeProvider}.
+     *
+     * @throws ProviderException If the identifier is not registered.
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> @NotNull T initProvider(
+            @NotNull TypeProvider<T, ?> typeProvider,
+            Object @Nullable [] identifiers
+    ) {
+        if (identifiers != null && typeProvider instanceof IdentifierProvider<?, ?> identifierProvider) {
+            return (T) identifierProvider.resolve(identifiers);
+        }
+
+        return typeProvider.getInitProvider();
+    }
+
+    /**
+     * Get a {@link ProviderHandle} of the type, which keeps the {@link TypeProvider} of the type until this
+     * {@link Register} changes. The search is completed through the current {@link Register}.
+     *
+     * @param typeCls The type that is resolved by the handle.
+     * @param <T>     type of the type that is resolved by the handle.
+     *
+     * @return The {@link ProviderHandle} of the type.
+     *
+     * @since 1.7.0
+     */
+    public <T> @NotNull ProviderHandle<T> handle(@NotNull Class<T> typeCls) {
+        return this.handle(typeCls, false);
+    }
+
+    /**
+     * Get a {@link ProviderHandle} of the type, which keeps the {@link TypeProvider} of the type until this
+     * {@link Register} or one of the combined {@link Register}s changes.
+     *
+     * @param typeCls      The type that is resolved by the handle.
+     * @param allRegisters If {@code true} the handle searches through all the provided registers from the construction
+     *                     of the class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param <T>          type of the type that is resolved by the handle.
+     *
+     * @return The {@link ProviderHandle} of the type.
+     *
+     * @since 1.7.0
+     */
+    public <T> @NotNull ProviderHandle<T> handle(@NotNull Class<T> typeCls, boolean allRegisters) {
+        return new ProviderHandle<>(this, typeCls, allRegisters);
+    }
+
+    /**
+     * Search and get the {@link TypeProvider} of the type. The search can be done through all provided registers
+     * ({@link #registers}). The returned {@link TypeProvider} can be kept to initialize the provider without searching
+     * again, as long as the {@link #getVersion() version} of this {@link Register} did not change.
+     *
+     * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param <T>          type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the searched type.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @since 1.7.0
+     */
+    public <T> @NotNull TypeProvider<T, ?> getTypeProvider(Class<T> typeCls, boolean allRegisters) {
+        return this.findTypeProvider(typeCls, allRegisters);
+    }
+
+    /**
+     * Check if the type, or a type that is assignable to the type, is registered. The superclasses and interfaces of
+     * the registered types are indexed once and patched per changed type, so the check is a single lookup.
+     * The check can be done over all the provided registers.
+     *
+     * @param typeCls      The type to check, if there is a link with any registered provider ({@link TypeProvider})
+     *                     of which the type is assignable to this type.
+     * @param allRegisters If {@code true} it type is checked through all the provided registers from the construction
+     *                     of the class ({@link #registers}). Otherwise, it only checks this {@link Register}.
+     * @param <T>          type of the type to check.
+     *
+     * @return If {@code true} the type, or a single type that is assignable to the type, is registered.
+     *
+     * @see #getAssignableTypeProvider(Class, boolean)
+     * @since 1.7.0
+     */
+    public <T> boolean hasAssignableProvider(Class<T> typeCls, boolean allRegisters) {
+        return this.hasProvider(typeCls, allRegisters) || this.findAssignableTypeProvider(typeCls, allRegisters) != null;
+    }
+
+    /**
+     * Search and get the {@link TypeProvider} of the type, or of a type that is assignable to the type. The type
+     * itself is always preferred. Otherwise, the {@link TypeProvider} of which the type is a subclass or an
+     * implementation of the type is used. If multiple registered types are assignable, the {@link Register} with the
+     * highest {@link RegisterPriority} decides. The search can be done through all provided registers
+     * ({@link #registers}).
+     *
+     * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param <T>          type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the searched type, or of a type that is assignable to the searched type.
+     *
+     * @throws RegisterException If the provider is not registered, or if multiple types that are assignable to the
+     *                           searched type are registered in the {@link Register} with the highest priority.
+     * @since 1.7.0
+     */
+    public <T> @NotNull TypeProvider<? extends T, ?> getAssignableTypeProvider(Class<T> typeCls, boolean allRegisters) {
+        TypeProvider<? extends T, ?> typeProvider = this.lookupTypeProvider(typeCls, allRegisters);
+
+        if (typeProvider != null) {
+            return typeProvider;
+        }
+
+        typeProvider = this.findAssignableTypeProvider(typeCls, allRegisters);
+
+        if (typeProvider != null) {
+            return typeProvider;
+        }
+
+        AssignableIndex index = this.getAssignableIndex();
+
+        if (allRegisters ? index.isResolutionAmbiguous(typeCls) : index.isCandidateAmbiguous(typeCls)) {
+            throw new RegisterException("The provider of '%s' is ambiguous, multiple assignable types are registered."
+                                                .formatted(typeCls.getName()));
+        }
+
+        throw notRegisteredException(typeCls);
+    }
+
+    /**
+     * Get the {@link TypeProvider} of which the type is assignable to the type, from the {@link AssignableIndex}. The
+     * type itself is not searched.
+     *
+     * @param typeCls      The type to search the assignable {@link TypeProvider} from.
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param <T>          type of the type to search the assignable {@link TypeProvider} from.
+     *
+     * @return The assignable {@link TypeProvider}. If {@code null} there is no assignable {@link TypeProvider}, or
+     * the type is ambiguous.
+     *
+     * @since 1.7.0
+     */
+    private <T> @Nullable TypeProvider<? extends T, ?> findAssignableTypeProvider(
+            Class<T> typeCls,
+            boolean allRegisters
+    ) {
+        AssignableIndex index = this.getAssignableIndex();
+
+        if (!allRegisters) {
+            return index.getCandidate(typeCls);
+        }
+
+        if (!index.isResolved()) {
+            synchronized (resolutionIndexLock) {
+                if (!index.isResolved()) {
+                    index.resolve(this.getAssignableIndexes());
+                }
+            }
+        }
+
+        return index.getResolution(typeCls);
+    }
+
+    /**
+     * Get the {@link AssignableIndex} of the registered types of this {@link Register}. The index is made on the first
+     * call, afterwards it is patched with the changed types.
+     *
+     * @return The {@link AssignableIndex} of this {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull AssignableIndex getAssignableIndex() {
+        AssignableIndex index = this.assignableIndex;
+
+        if (index != null) {
+            return index;
+        }
+
+        synchronized (resolutionIndexLock) {
+            if (this.assignableIndex == null) {
+                this.assignableIndex = new AssignableIndex(typeProviders);
+            }
+
+            return this.assignableIndex;
+        }
+    }
+
+    /**
+     * Get the {@link AssignableIndex}es of the {@link #registers}, ordered from the highest to the lowest priority.
+     *
+     * @return The {@link AssignableIndex}es of the {@link #registers}.
+     *
+     * @since 1.7.0
+     */
+    private @NotNull List<AssignableIndex> getAssignableIndexes() {
+        List<AssignableIndex> indexes = new ArrayList<>(registers.size());
+
+        for (Register register : registers) {
+            indexes.add(register.getAssignableIndex());
+        }
+
+        return indexes;
+    }
+
+    /**
+     * Search and get the {@link TypeProvider} of the type. The search can be done through all
+     * provided registers ({@link #registers}).
+     *
+     * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param <T>          type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the searched type.
+     *
+     * @throws RegisterException If the provider is not registered.
+     * @since 1.3.0
+     */
+    @NotNull
+    private <T> TypeProvider<T, ?> findTypeProvider(Class<T> typeCls, boolean allRegisters) {
+        TypeProvider<T, ?> typeProvider = this.lookupTypeProvider(typeCls, allRegisters);
+
+        if (typeProvider == null) {
+            throw notRegisteredException(typeCls);
+        }
+
+        return typeProvider;
+    }
+
+    /**
+     * Search the {@link TypeProvider} of the type, without throwing an exception if the type is not registered. The
+     * search can be done through all provided registers ({@link #registers}).
+     *
+     * @param typeCls      The type to search the link from between the provider ({@link TypeProvider}).
+     * @param allRegisters If {@code true} it search through all the provided registers from the construction of the
+     *                     class ({@link #registers}). Otherwise, it only searches through this {@link Register}.
+     * @param <T>          type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the searched type, or {@code null} if the type is not registered.
+     *
+     * @since 1.7.0
+     */
+    private <T> @Nullable TypeProvider<T, ?> lookupTypeProvider(Class<T> typeCls, boolean allRegisters) {
+        if (!LookupEvent.isRecorded()) {
+            return allRegisters ? searchRegisters(typeCls) : findOwnTypeProvider(typeCls);
+        }
+
+        LookupEvent event = new LookupEvent();
+        event.begin();
+
+        TypeProvider<T, ?> typeProvider;
+
+        if (allRegisters) {
+            typeProvider = searchRegisters(typeCls);
+        } else {
+            typeProvider = findOwnTypeProvider(typeCls);
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.commit(this, typeCls, allRegisters, typeProvider);
+        }
+
+        return typeProvider;
+    }
+
+    /**
+     * Create the exception that is thrown if the provider of the type is not registered.
+     *
+     * @param typeCls The type that is not registered.
+     *
+     * @return The exception that is thrown if the provider of the type is not registered.
+     *
+     * @since 1.7.0
+     */
+    @Contract("_ -> new")
+    private static @NotNull RegisterException notRegisteredException(@NotNull Class<?> typeCls) {
+        return new RegisterException("The provider of '%s' is not registered.".formatted(typeCls.getName()));
+    }
+
+    /**
+     * Search and get the {@link TypeProvider} of the {@link Register} with the highest priority containing the type.
+     *
+     * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
+     * @param <T>     type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the type. If {@code null} the type is not registered in any of the
+     * {@link #registers}.
+     *
+     * @since 1.3.0
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable TypeProvider<T, ?> searchRegisters(Class<T> typeCls) {
+        return (TypeProvider<T, ?>) resolutionIndex.get(typeCls);
+    }
+
+    /**
+     * Add a {@link Register} that has combined this {@link Register}. The {@link #resolutionIndex} of the
+     * {@link Register} will be patched when this {@link Register} changes.
+     *
+     * @param dependent The {@link Register} that has combined this {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    private void addDependent(Register dependent) {
+        this.removeCollectedDependents();
+        this.dependents.add(new WeakReference<>(dependent, collectedDependents));
+    }
+
+    /**
+     * Remove the {@link #dependents} that have been garbage collected.
+     *
+     * @since 1.7.0
+     */
+    private void removeCollectedDependents() {
+        Reference<? extends Register> reference;
+
+        while ((reference = collectedDependents.poll()) != null) {
+            this.dependents.remove(reference);
+        }
+    }
+
+    /**
+     * Patch the {@link #resolutionIndex} of this {@link Register} and of the {@link Register}s that have combined
+     * this {@link Register}, after the type has been registered or unregistered.
+     *
+     * @param typeCls The type that has been registered or unregistered.
+     *
+     * @since 1.7.0
+     */
+    private void updateResolutionIndexes(Class<?> typeCls) {
+        this.updateResolutionIndexes(List.of(typeCls));
+    }
+
+    /**
+     * Patch the {@link #resolutionIndex} of this {@link Register} and of the {@link Register}s that have combined
+     * this {@link Register}, after the types have been registered or unregistered. Every {@link #resolutionIndex} is
+     * patched once for all the types.
+     *
+     * @param types The types that have been registered or unregistered.
+     *
+     * @since 1.7.0
+     */
+    private void updateResolutionIndexes(Collection<Class<?>> types) {
+        this.patchResolutionIndex(types);
+        this.removeCollectedDependents();
+
+        for (WeakReference<Register> reference : dependents) {
+            Register dependent = reference.get();
+
+            if (dependent != null) {
+                dependent.patchResolutionIndex(types);
+            }
+        }
+    }
+
+    /**
+     * Patch the {@link #resolutionIndex} of the types, by searching the {@link TypeProvider} of the {@link Register}
+     * with the highest priority containing the type. The {@link #assignableIndex} is patched with the supertypes of
+     * the types, if it has been made. The {@link #version} is incremented once afterwards.
+     *
+     * @param types The types to patch in the {@link #resolutionIndex}.
+     *
+     * @since 1.7.0
+     */
+    private void patchResolutionIndex(Collection<Class<?>> types) {
+        synchronized (resolutionIndexLock) {
+            for (Class<?> typeCls : types) {
+                TypeProvider<?, ?> typeProvider = RegisterLookup.findTypeProvider(registers, typeCls);
+
+                if (typeProvider == null) {
+                    this.resolutionIndex.remove(typeCls);
+                } else {
+                    this.resolutionIndex.put(typeCls, typeProvider);
+                }
+            }
+
+            AssignableIndex index = this.assignableIndex;
+
+            if (index != null) {
+                index.patchCandidates(types, typeProviders);
+
+                if (index.isResolved()) {
+                    index.patchResolutionsOfTypes(types, this.getAssignableIndexes());
+                }
+            }
+
+            this.version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get the {@link TypeProvider} of the type that has been registered in this {@link Register}. The combined
+     * {@link Register}s are not searched through.
+     *
+     * @param typeCls The type to search the link from between the provider ({@link TypeProvider}).
+     * @param <T>     type of the type to search the link from.
+     *
+     * @return The {@link TypeProvider} of the type. If {@code null} the type is not registered in this
+     * {@link Register}.
+     *
+     * @since 1.7.0
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable TypeProvider<T, ?> findOwnTypeProvider(Class<T> typeCls) {
+        return (TypeProvider<T, ?>) typeProviders.get(typeCls);
     }
 
     /**
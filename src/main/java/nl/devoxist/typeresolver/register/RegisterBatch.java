@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.functions.SerializableConsumer;
+import nl.devoxist.typeresolver.functions.SerializableSupplier;
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import nl.devoxist.typeresolver.providers.builders.TypeProviderBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * {@link RegisterBatch} is an object that chain-edits the types that are going to be registered in a
+ * {@link Register}, when all the types are added call the {@link RegisterBatch#commit()} to register them at once.
+ * <p>
+ * The {@link TypeProvider}s are created on the commit of the batch, by the calling thread. Creating a
+ * {@link TypeProvider} from a {@link SerializableSupplier} or a {@link SerializableConsumer} requires to resolve the
+ * metadata of the lambda, which is done on the {@link Executor} of {@link #setExecutor(Executor)} if one has been set
+ * and the batch contains at least {@link #PARALLEL_THRESHOLD} types. All the {@link TypeProvider}s are validated
+ * before any of them is registered, so if one of them is invalid nothing gets registered. Afterwards, the
+ * {@link TypeProvider}s are registered through {@link Register#registerAll(java.util.Collection)}, so the flattened
+ * indexes of the {@link Register}s are only updated once.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public class RegisterBatch {
+    /**
+     * The minimal amount of types in a batch, to create the {@link TypeProvider}s on the {@link Executor} of the
+     * batch.
+     *
+     * @since 1.7.0
+     */
+    public static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * The {@link Register} in which the types are going to be registered.
+     *
+     * @since 1.7.0
+     */
+    private final Register register;
+    /**
+     * The factories of the {@link TypeProvider}s which are going to be registered, in the order they were added.
+     *
+     * @since 1.7.0
+     */
+    private final List<Supplier<TypeProvider<?, ?>>> typeProviderFactories = new ArrayList<>();
+    /**
+     * The {@link Executor} that creates the {@link TypeProvider}s, if {@code null} the {@link TypeProvider}s are
+     * created by the thread that commits the batch.
+     *
+     * @since 1.7.0
+     */
+    private Executor executor;
+
+    /**
+     * Construct a {@link RegisterBatch} that will chain-edit the types that are going to be registered in the
+     * {@link Register}.
+     *
+     * @param register The {@link Register} in which the types are going to be registered.
+     *
+     * @since 1.7.0
+     */
+    RegisterBatch(Register register) {
+        this.register = register;
+    }
+
+    /**
+     * Add a type with a {@link Supplier} provider to the batch.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The {@link Supplier} provider of the type which is going to be registered and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return The {@link RegisterBatch} to chain-edit the types, when all the types are added call the
+     * {@link RegisterBatch#commit()} to register them.
+     *
+     * @see Register#registerScoped(Class, SerializableSupplier)
+     * @since 1.7.0
+     */
+    public <T, P extends T> RegisterBatch registerScoped(
+            @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
+    ) {
+        this.typeProviderFactories.add(() -> Register.scopedProvider(typeCls, provider.getSupplierClass(), provider));
+        return this;
+    }
+
+    /**
+     * Add a type with a {@link Supplier} provider, which is invoked only once on the first use of the type, to the
+     * batch.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The {@link Supplier} provider of the type which is going to be registered and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the {@link Supplier} provider which is going to be registered.
+     *
+     * @return The {@link RegisterBatch} to chain-edit the types, when all the types are added call the
+     * {@link RegisterBatch#commit()} to register them.
+     *
+     * @see Register#registerLazy(Class, SerializableSupplier)
+     * @since 1.7.0
+     */
+    public <T, P extends T> RegisterBatch registerLazy(
+            @NotNull Class<T> typeCls, @NotNull SerializableSupplier<P> provider
+    ) {
+        this.typeProviderFactories.add(() -> Register.lazyProvider(typeCls, provider.getSupplierClass(), provider));
+        return this;
+    }
+
+    /**
+     * Add a type with a provider to the batch.
+     *
+     * @param typeCls  The type which is going to be registered and linked to the provider.
+     * @param provider The provider of the type which is going to be registered and linked to the type.
+     * @param <T>      type of the type which is going to be registered.
+     * @param <P>      type of the provider which is going to be registered.
+     *
+     * @return The {@link RegisterBatch} to chain-edit the types, when all the types are added call the
+     * {@link RegisterBatch#commit()} to register them.
+     *
+     * @see Register#register(Class, Object)
+     * @since 1.7.0
+     */
+    public <T, P> RegisterBatch register(@NotNull Class<T> typeCls, @NotNull P provider) {
+        this.typeProviderFactories.add(() -> Register.objectProvider(typeCls, provider));
+        return this;
+    }
+
+    /**
+     * Add a type with a {@link TypeProvider} to the batch.
+     *
+     * @param typeProvider The {@link TypeProvider} which is going to be registered.
+     * @param <T>          type of the type of the {@link TypeProvider}.
+     * @param <P>          type of the provider of the {@link TypeProvider#getProvider()}.
+     *
+     * @return The {@link RegisterBatch} to chain-edit the types, when all the types are added call the
+     * {@link RegisterBatch#commit()} to register them.
+     *
+     * @see Register#register(TypeProvider)
+     * @since 1.7.0
+     */
+    public <T, P> RegisterBatch register(@NotNull TypeProvider<T, P> typeProvider) {
+        this.typeProviderFactories.add(() -> typeProvider);
+        return this;
+    }
+
+    /**
+     * Add a type with a provider, that is going to be build by a {@link TypeProviderBuilder}, to the batch. The
+     * builder consumer is invoked on the commit of the batch, which can be on another {@link Thread} if an
+     * {@link Executor} has been set.
+     *
+     * @param typeCls         The type which is going to be registered and linked to the provider.
+     * @param builderConsumer The {@link java.util.function.Consumer} of the builder.
+     * @param <T>             type of the type which is going to be registered.
+     * @param <X>             type of the builder which is going to build the {@link TypeProvider}.
+     *
+     * @return The {@link RegisterBatch} to chain-edit the types, when all the types are added call the
+     * {@link RegisterBatch#commit()} to register them.
+     *
+     * @see Register#register(Class, SerializableConsumer)
+     * @since 1.7.0
+     */
+    public <T, X extends TypeProviderBuilder<T>> RegisterBatch register(
+            @NotNull Class<T> typeCls,
+            @NotNull SerializableConsumer<X> builderConsumer
+    ) {
+        this.typeProviderFactories.add(() -> {
+            Class<X> builderCls = builderConsumer.getConsumerCls();
+
+            return Register.builtProvider(typeCls, () -> Register.newBuilder(builderCls), builderConsumer);
+        });
+        return this;
+    }
+
+    /**
+     * Set the {@link Executor} that creates the {@link TypeProvider}s of the batch concurrently, if the batch contains
+     * at least {@link #PARALLEL_THRESHOLD} types. The builder consumers of the batch are then invoked concurrently too,
+     * so they need to be independent of each other.
+     *
+     * @param executor The {@link Executor} that creates the {@link TypeProvider}s, if {@code null} the
+     *                 {@link TypeProvider}s are created by the thread that commits the batch.
+     *
+     * @return The {@link RegisterBatch} to chain-edit the types, when all the types are added call the
+     * {@link RegisterBatch#commit()} to register them.
+     *
+     * @since 1.7.0
+     */
+    public RegisterBatch setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Get the amount of types that have been added to this batch.
+     *
+     * @return The amount of types that have been added to this batch.
+     *
+     * @since 1.7.0
+     */
+    public int size() {
+        return typeProviderFactories.size();
+    }
+
+    /**
+     * Create the {@link TypeProvider}s of this batch and register them in the {@link Register}. The types which are
+     * already registered are skipped. If the creation of one of the {@link TypeProvider}s fails, none of the types
+     * are registered. If the {@link TypeProvider}s are created on the {@link Executor}, all the creations are awaited
+     * and the first failure, in the order the types were added, is thrown.
+     *
+     * @return The types which have been registered, in the order they were added to this batch.
+     *
+     * @throws RegisterException If one of the {@link TypeProvider}s is invalid, or if the {@link Register} cannot be
+     *                           changed.
+     * @since 1.7.0
+     */
+    public @NotNull @Unmodifiable Set<Class<?>> commit() {
+        List<TypeProvider<?, ?>> typeProviders = new ArrayList<>(typeProviderFactories.size());
+
+        if (executor == null || typeProviderFactories.size() < PARALLEL_THRESHOLD) {
+            for (Supplier<TypeProvider<?, ?>> factory : typeProviderFactories) {
+                typeProviders.add(factory.get());
+            }
+
+            return register.registerAll(typeProviders);
+        }
+
+        List<CompletableFuture<TypeProvider<?, ?>>> futures = new ArrayList<>(typeProviderFactories.size());
+
+        for (Supplier<TypeProvider<?, ?>> factory : typeProviderFactories) {
+            futures.add(CompletableFuture.supplyAsync(factory, executor));
+        }
+
+        RuntimeException failure = null;
+
+        for (CompletableFuture<TypeProvider<?, ?>> future : futures) {
+            try {
+                typeProviders.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return register.registerAll(typeProviders);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.providers.TypeProvider;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link RegisterLookup} searches a {@link TypeProvider} through multiple {@link Register}s. The search is completed
+ * on the calling {@link Thread}, the {@link Register}s are probed one by one in the iteration order of the given
+ * {@link Register}s, without copying the registered {@link TypeProvider}s of a {@link Register}.
+ *
+ * @author Dev-Bjorn
+ * @version 1.7.0
+ * @since 1.7.0
+ */
+public final class RegisterLookup {
+
+    /**
+     * Construct a new {@link RegisterLookup} object. This always fails, because the class is a static class. So it
+     * only contains static objects. Thus, it throws an {@link IllegalAccessException}.
+     *
+     * @throws IllegalAccessException If the {@link RegisterLookup} was try to construct the class. The
+     *                                construction of this class is not possible, because this is a static class.
+     * @since 1.7.0
+     */
+    @Contract(value = " -> fail",
+              pure = true)
+    @ApiStatus.Internal
+    private RegisterLookup() throws IllegalAccessException {
+        throw new IllegalAccessException("This class is an static class, so this class cannot be initialized.");
+    }
+
+    /**
+     * Search the {@link TypeProvider} of the type through the given {@link Register}s. The first {@link Register}
+     * that contains the type is used, so the {@link Register}s need to be ordered on their priority. The
+     * {@link Register#getRegistries()} are already ordered on their {@link RegisterPriority}.
+     *
+     * @param registers    The {@link Register}s to search the type through, ordered from the highest to the lowest
+     *                     priority.
+     * @param typeToSearch The type to search the {@link TypeProvider} from.
+     * @param <T>          The type of the {@link TypeProvider} which has been searched.
+     *
+     * @return The {@link TypeProvider} of the type. If {@code null} the type is not registered in any of the given
+     * {@link Register}s.
+     *
+     * @since 1.7.0
+     */
+    public static <T> @Nullable TypeProvider<T, ?> findTypeProvider(
+            @NotNull Iterable<Register> registers,
+            Class<T> typeToSearch
+    ) {
+        for (Register register : registers) {
+            TypeProvider<T, ?> typeProvider = register.findOwnTypeProvider(typeToSearch);
+
+            if (typeProvider != null) {
+                return typeProvider;
+            }
+        }
+
+        return null;
+    }
+}
@@ -35,9 +35,13 @@ import java.util.concurrent.ExecutionException;
  * @param <T> The type of the object.
  *
  * @author Dev-Bjorn
- * @version 1.3.0
+ * @version 1.7.0
  * @since 1.3.0
+ * @deprecated Starting a {@link Thread} for every search is more expensive than the search itself, use
+ * {@link RegisterLookup}, which searches on the calling {@link Thread}.
  */
+@Deprecated(since = "1.7.0",
+            forRemoval = true)
 public final class RegisterSearch<T> extends Thread {
     /**
      * The {@link Register}s to do the search through.
@@ -102,7 +106,7 @@ public final class RegisterSearch<T> extends Thread {
     @Override
     public void run() {
         for (Register register : registers) {
-            TypeProvider<T, ?> typeProvider = ObjectFinder.findTypeProvider(register, typeToSearch);
+            TypeProvider<T, ?> typeProvider = register.findOwnTypeProvider(typeToSearch);
 
             if (typeProvider == null) {
                 continue;
@@ -24,16 +24,21 @@ package nl.devoxist.typeresolver.settings;
 
 import nl.devoxist.typeresolver.TypeRegister;
 import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import nl.devoxist.typeresolver.constructor.ExecutionPolicy;
+import nl.devoxist.typeresolver.constructor.InstantiationStrategy;
 import nl.devoxist.typeresolver.providers.IdentifierProvider;
 import nl.devoxist.typeresolver.register.Register;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
 
 /**
  * {@link ConstructionSettings} is an object that is holds the settings for the auto construction of a {@link Class}.
  *
  * @author Dev-Bjorn
- * @version 1.6.1
+ * @version 1.7.0
  * @since 1.5.0
  */
 public final class ConstructionSettings {
@@ -58,6 +63,65 @@ public final class ConstructionSettings {
      * @since 1.5.0
      */
     private boolean needAnnotation = true;
+    /**
+     * The strategy that is used to invoke the chosen constructor.
+     *
+     * @since 1.7.0
+     */
+    private InstantiationStrategy instantiationStrategy = InstantiationStrategy.REFLECTION;
+    /**
+     * Whether the parameter types that are not registered, but can be constructed, are constructed too.
+     *
+     * @since 1.7.0
+     */
+    private boolean constructDependencies = false;
+    /**
+     * Whether the parameter types are resolved by the registered types that are assignable to them, if the parameter
+     * types themselves are not registered.
+     *
+     * @since 1.7.0
+     */
+    private boolean resolveAssignableTypes = false;
+    /**
+     * The {@link Executor} that resolves the parameters of a constructor concurrently, if {@code null} the parameters
+     * are resolved one after another.
+     *
+     * @since 1.7.0
+     */
+    private Executor parameterExecutor = null;
+    /**
+     * The policy that determines how the constructors are checked, when a new construction plan is made.
+     *
+     * @since 1.7.0
+     */
+    private ExecutionPolicy executionPolicy = ExecutionPolicy.sequential();
+
+    /**
+     * Construct the {@link ConstructionSettings} with the default settings.
+     *
+     * @since 1.5.0
+     */
+    public ConstructionSettings() {
+    }
+
+    /**
+     * Construct the {@link ConstructionSettings} as a copy of other settings. A change of the copy does not change the
+     * other settings, and the other way around.
+     *
+     * @param constructionSettings The settings that are copied.
+     *
+     * @since 1.7.0
+     */
+    public ConstructionSettings(@NotNull ConstructionSettings constructionSettings) {
+        this.registers = constructionSettings.getRegisters();
+        this.identifiers = constructionSettings.getIdentifiers();
+        this.needAnnotation = constructionSettings.needAnnotation;
+        this.instantiationStrategy = constructionSettings.instantiationStrategy;
+        this.constructDependencies = constructionSettings.constructDependencies;
+        this.resolveAssignableTypes = constructionSettings.resolveAssignableTypes;
+        this.parameterExecutor = constructionSettings.parameterExecutor;
+        this.executionPolicy = constructionSettings.executionPolicy;
+    }
 
     /**
      * Get the registers that are going to be used to resolve the parameter types of the constructor.
@@ -135,4 +199,144 @@ public final class ConstructionSettings {
     public void setNeedAnnotation(boolean needAnnotation) {
         this.needAnnotation = needAnnotation;
     }
+
+    /**
+     * Get the strategy that is used to invoke the chosen constructor.
+     *
+     * @return The strategy that is used to invoke the chosen constructor.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull InstantiationStrategy getInstantiationStrategy() {
+        return instantiationStrategy;
+    }
+
+    /**
+     * Set the strategy that is used to invoke the chosen constructor. The default strategy is
+     * {@link InstantiationStrategy#REFLECTION}.
+     *
+     * @param instantiationStrategy The strategy that is used to invoke the chosen constructor.
+     *
+     * @since 1.7.0
+     */
+    public void setInstantiationStrategy(@NotNull InstantiationStrategy instantiationStrategy) {
+        this.instantiationStrategy = instantiationStrategy;
+    }
+
+    /**
+     * Check whether the parameter types that are not registered, but can be constructed, are constructed too.
+     *
+     * @return If {@code true} the parameter types that are not registered are constructed transitively.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public boolean constructDependencies() {
+        return constructDependencies;
+    }
+
+    /**
+     * Set whether the parameter types that are not registered, but can be constructed, are constructed too. A
+     * parameter type can be constructed if it is a concrete class, that is not part of the JDK, with a valid
+     * constructor of which the parameter types are registered or can be constructed as well. The dependencies are
+     * constructed with a new instance for every parameter, and with the identifiers. A cycle in the dependencies causes
+     * a {@link nl.devoxist.typeresolver.exception.ConstructorException}.
+     *
+     * @param constructDependencies If {@code true} the parameter types that are not registered are constructed
+     *                              transitively.
+     *
+     * @since 1.7.0
+     */
+    public void setConstructDependencies(boolean constructDependencies) {
+        this.constructDependencies = constructDependencies;
+    }
+
+    /**
+     * Check whether the parameter types are resolved by the registered types that are assignable to them.
+     *
+     * @return If {@code true} a parameter type that is not registered is resolved by a registered subclass or
+     * implementation of the parameter type.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public boolean resolveAssignableTypes() {
+        return resolveAssignableTypes;
+    }
+
+    /**
+     * Set whether the parameter types are resolved by the registered types that are assignable to them. A parameter
+     * type that is registered itself is always resolved by its own provider. Otherwise, a registered subclass or
+     * implementation of the parameter type is used. If multiple registered types are assignable, the
+     * {@link nl.devoxist.typeresolver.register.RegisterPriority} of their {@link Register}s decides. A parameter type
+     * that has multiple assignable types in the {@link Register} with the highest priority is not resolvable.
+     *
+     * @param resolveAssignableTypes If {@code true} a parameter type that is not registered is resolved by a
+     *                               registered subclass or implementation of the parameter type.
+     *
+     * @see Register#getAssignableTypeProvider(Class, boolean)
+     * @since 1.7.0
+     */
+    public void setResolveAssignableTypes(boolean resolveAssignableTypes) {
+        this.resolveAssignableTypes = resolveAssignableTypes;
+    }
+
+    /**
+     * Get the {@link Executor} that resolves the parameters of a constructor concurrently.
+     *
+     * @return The {@link Executor} that resolves the parameters, if {@code null} the parameters are resolved one after
+     * another.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @Nullable Executor getParameterExecutor() {
+        return parameterExecutor;
+    }
+
+    /**
+     * Set the {@link Executor} that resolves the parameters of a constructor concurrently, for example a
+     * {@link java.util.concurrent.ForkJoinPool}. The parameters of the constructed dependencies are resolved on the
+     * {@link Executor} as well, so the construction takes as long as the slowest dependency. The parameters are still
+     * passed in the order of the parameters, and the failure of the first parameter is thrown.
+     * <p>
+     * The {@link Executor} is part of the cached construction plan, so use a long-lived {@link Executor}. The
+     * dependencies wait on the {@link Executor} for their own parameters, so an {@link Executor} with a bounded amount
+     * of threads can starve on a deep graph of dependencies, a {@link java.util.concurrent.ForkJoinPool} compensates
+     * for those waiting threads.
+     *
+     * @param parameterExecutor The {@link Executor} that resolves the parameters, if {@code null} the parameters are
+     *                          resolved one after another.
+     *
+     * @since 1.7.0
+     */
+    public void setParameterExecutor(@Nullable Executor parameterExecutor) {
+        this.parameterExecutor = parameterExecutor;
+    }
+
+    /**
+     * Get the policy that determines how the constructors are checked, when a new construction plan is made.
+     *
+     * @return The policy that determines how the constructors are checked.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @NotNull ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Set the policy that determines how the constructors are checked, when a new construction plan is made. The
+     * default is {@link ExecutionPolicy#sequential()}, a parallel policy checks the constructors on its own
+     * {@link Executor} instead of the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param executionPolicy The policy that determines how the constructors are checked.
+     *
+     * @since 1.7.0
+     */
+    public void setExecutionPolicy(@NotNull ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
 }
@@ -24,11 +24,16 @@ package nl.devoxist.typeresolver.settings;
 
 import nl.devoxist.typeresolver.constructor.ConstructorResolver;
 import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import nl.devoxist.typeresolver.constructor.ExecutionPolicy;
+import nl.devoxist.typeresolver.constructor.InstantiationStrategy;
 import nl.devoxist.typeresolver.exception.ConstructorException;
 import nl.devoxist.typeresolver.providers.IdentifierProvider;
 import nl.devoxist.typeresolver.register.Register;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
 
 /**
  * {@link ConstructionSettingsBuilder} is an object that chain-edits the {@link ConstructionSettings}, when the
@@ -37,7 +42,7 @@ import java.lang.reflect.InvocationTargetException;
  * @param <T> The type that represents the constructed class.
  *
  * @author Dev-Bjorn
- * @version 1.6.1
+ * @version 1.7.0
  * @since 1.5.0
  */
 public class ConstructionSettingsBuilder<T> {
@@ -116,6 +121,88 @@ public class ConstructionSettingsBuilder<T> {
         return this;
     }
 
+    /**
+     * Set the strategy that is used to invoke the chosen constructor.
+     *
+     * @param instantiationStrategy The strategy that is used to invoke the chosen constructor.
+     *
+     * @return The builder of the {@link ConstructionSettings} to chain-edit the {@link ConstructionSettings}, when the
+     * options are set call the {@link ConstructionSettingsBuilder#initClass()} to initialize the class.
+     *
+     * @since 1.7.0
+     */
+    public ConstructionSettingsBuilder<T> setInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
+        this.constructionSettings.setInstantiationStrategy(instantiationStrategy);
+        return this;
+    }
+
+    /**
+     * Set whether the parameter types that are not registered, but can be constructed, are constructed too.
+     *
+     * @param constructDependencies If {@code true} the parameter types that are not registered are constructed
+     *                              transitively.
+     *
+     * @return The builder of the {@link ConstructionSettings} to chain-edit the {@link ConstructionSettings}, when the
+     * options are set call the {@link ConstructionSettingsBuilder#initClass()} to initialize the class.
+     *
+     * @see ConstructionSettings#setConstructDependencies(boolean)
+     * @since 1.7.0
+     */
+    public ConstructionSettingsBuilder<T> setConstructDependencies(boolean constructDependencies) {
+        this.constructionSettings.setConstructDependencies(constructDependencies);
+        return this;
+    }
+
+    /**
+     * Set whether the parameter types are resolved by the registered types that are assignable to them.
+     *
+     * @param resolveAssignableTypes If {@code true} a parameter type that is not registered is resolved by a
+     *                               registered subclass or implementation of the parameter type.
+     *
+     * @return The builder of the {@link ConstructionSettings} to chain-edit the {@link ConstructionSettings}, when the
+     * options are set call the {@link ConstructionSettingsBuilder#initClass()} to initialize the class.
+     *
+     * @see ConstructionSettings#setResolveAssignableTypes(boolean)
+     * @since 1.7.0
+     */
+    public ConstructionSettingsBuilder<T> setResolveAssignableTypes(boolean resolveAssignableTypes) {
+        this.constructionSettings.setResolveAssignableTypes(resolveAssignableTypes);
+        return this;
+    }
+
+    /**
+     * Set the {@link Executor} that resolves the parameters of a constructor concurrently.
+     *
+     * @param parameterExecutor The {@link Executor} that resolves the parameters, if {@code null} the parameters are
+     *                          resolved one after another.
+     *
+     * @return The builder of the {@link ConstructionSettings} to chain-edit the {@link ConstructionSettings}, when the
+     * options are set call the {@link ConstructionSettingsBuilder#initClass()} to initialize the class.
+     *
+     * @see ConstructionSettings#setParameterExecutor(Executor)
+     * @since 1.7.0
+     */
+    public ConstructionSettingsBuilder<T> setParameterExecutor(@Nullable Executor parameterExecutor) {
+        this.constructionSettings.setParameterExecutor(parameterExecutor);
+        return this;
+    }
+
+    /**
+     * Set the policy that determines how the constructors are checked, when a new construction plan is made.
+     *
+     * @param executionPolicy The policy that determines how the constructors are checked.
+     *
+     * @return The builder of the {@link ConstructionSettings} to chain-edit the {@link ConstructionSettings}, when the
+     * options are set call the {@link ConstructionSettingsBuilder#initClass()} to initialize the class.
+     *
+     * @see ConstructionSettings#setExecutionPolicy(ExecutionPolicy)
+     * @since 1.7.0
+     */
+    public ConstructionSettingsBuilder<T> setExecutionPolicy(@NotNull ExecutionPolicy executionPolicy) {
+        this.constructionSettings.setExecutionPolicy(executionPolicy);
+        return this;
+    }
+
     /**
      * Constructing the specified class, where the parameters have been resolved by a {@link Register}. This uses the
      * settings specified in this chain-edited object.
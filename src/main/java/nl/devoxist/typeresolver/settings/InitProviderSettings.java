@@ -27,13 +27,16 @@ import nl.devoxist.typeresolver.providers.TypeProvider;
 import nl.devoxist.typeresolver.register.Register;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
 
 /**
  * {@link InitProviderSettings} is an object that is holds the settings for the initiation of a provider
  * ({@link TypeProvider#getInitProvider()}).
  *
  * @author Dev-Bjorn
- * @version 1.6.1
+ * @version 1.7.0
  * @since 1.5.0
  */
 public final class InitProviderSettings {
@@ -51,6 +54,13 @@ public final class InitProviderSettings {
      * @since 1.5.0
      */
     private Object[] identifiers = {};
+    /**
+     * The {@link Executor} that initializes the providers of multiple types concurrently. This is only used when
+     * multiple types are initialized at once. If {@code null} the providers are initialized on the calling thread.
+     *
+     * @since 1.7.0
+     */
+    private Executor executor = null;
 
     /**
      * Check whether the search need to go through all the provided registers from the construction of the
@@ -105,4 +115,34 @@ public final class InitProviderSettings {
     public void setIdentifiers(@NotNull Object... identifier) {
         this.identifiers = identifier;
     }
+
+    /**
+     * Get the {@link Executor} that initializes the providers of multiple types concurrently. This is only used when
+     * multiple types are initialized at once, e.g. by
+     * {@link Register#getInitProviders(java.util.Collection, java.util.function.Consumer)}.
+     *
+     * @return The {@link Executor} that initializes the providers, if {@code null} the providers are initialized on
+     * the calling thread. If the value has not been set they are initialized on the calling thread.
+     *
+     * @since 1.7.0
+     */
+    @Contract(pure = true)
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Set the {@link Executor} that initializes the providers of multiple types concurrently. This is only used when
+     * multiple types are initialized at once. The providers need to be independent of each other, because the order
+     * in which they are initialized is not defined. The last provider is initialized on the calling thread, and all
+     * the initializations are awaited before the first failure is thrown.
+     *
+     * @param executor The {@link Executor} that initializes the providers, if {@code null} the providers are
+     *                 initialized on the calling thread.
+     *
+     * @since 1.7.0
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+    }
 }
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class MergeSetsTests {
 
@@ -186,4 +187,60 @@ public class MergeSetsTests {
         Assertions.assertTrue(mergedSets.contains(register4));
         Assertions.assertEquals(checkableSet, mergedSets);
     }
+
+    @Test
+    public void checkIfMergedSetsMatchInParallel() {
+        Collection<Set<Integer>> sets = new ArrayList<>();
+        Set<Integer> set = new HashSet<>();
+
+        for (int i = 0; i < 16; i++) {
+            Set<Integer> integerSet = new HashSet<>();
+
+            for (int j = 0; j < MergeSets.PARALLEL_THRESHOLD / 8; j++) {
+                integerSet.add(i * 256 + j);
+                set.add(i * 256 + j);
+            }
+
+            sets.add(integerSet);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            Set<Integer> mergedSets = MergeSets.mergeSetsParallel(sets, HashSet::new, pool);
+            Assertions.assertEquals(set, mergedSets);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void checkIfMergedSortedSetsMatch() {
+        SortedSet<Integer> integerSet = new TreeSet<>(Comparator.reverseOrder());
+        integerSet.add(5);
+        integerSet.add(3);
+        integerSet.add(1);
+        SortedSet<Integer> integerSet1 = new TreeSet<>(Comparator.reverseOrder());
+        integerSet1.add(4);
+        integerSet1.add(3);
+        integerSet1.add(2);
+
+        TreeSet<Integer> mergedSets = MergeSets.mergeSortedSets(List.of(integerSet, integerSet1));
+        Assertions.assertEquals(List.of(5, 4, 3, 2, 1), new ArrayList<>(mergedSets));
+        Assertions.assertEquals(Comparator.reverseOrder(), mergedSets.comparator());
+        mergedSets.add(6);
+        Assertions.assertEquals(6, mergedSets.first());
+    }
+
+    @Test
+    public void checkIfMergedSortedSetsNeedTheSameComparator() {
+        SortedSet<Integer> integerSet = new TreeSet<>(Set.of(1, 2));
+        SortedSet<Integer> integerSet1 = new TreeSet<>(Comparator.reverseOrder());
+        integerSet1.add(3);
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> MergeSets.mergeSortedSets(List.of(integerSet, integerSet1))
+        );
+    }
 }
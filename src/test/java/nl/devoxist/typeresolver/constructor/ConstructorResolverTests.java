@@ -23,6 +23,8 @@
 package nl.devoxist.typeresolver.constructor;
 
 import nl.devoxist.typeresolver.TypeRegister;
+import nl.devoxist.typeresolver.exception.ConstructorException;
+import nl.devoxist.typeresolver.exception.ProviderException;
 import nl.devoxist.typeresolver.functions.SerializableConsumer;
 import nl.devoxist.typeresolver.providers.TypeProvider;
 import nl.devoxist.typeresolver.providers.builders.IdentifiersBuilder;
@@ -33,8 +35,15 @@ import org.jetbrains.annotations.Contract;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ConstructorResolverTests {
 
@@ -316,6 +325,393 @@ public class ConstructorResolverTests {
         Assertions.assertEquals(carTwoExporter, carExporter2.exporter);
     }
 
+    @Test
+    public void checkIfConstructionPlanIsReused()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass(1));
+        Register[] registers = {register};
+        ConstructionPlanCache planCache = ConstructionPlanCache.of(TestCls.class);
+
+        ConstructorResolver.initClass(TestCls.class, register);
+        ConstructionPlan constructionPlan =
+                planCache.find(registers, true, InstantiationStrategy.REFLECTION, false, false, null);
+        Assertions.assertNotNull(constructionPlan);
+
+        ConstructorResolver.initClass(TestCls.class, register);
+        Assertions.assertSame(
+                constructionPlan,
+                planCache.find(registers, true, InstantiationStrategy.REFLECTION, false, false, null)
+        );
+        Assertions.assertNull(planCache.find(registers, false, InstantiationStrategy.REFLECTION, false, false, null));
+        Assertions.assertNull(planCache.find(registers, true, InstantiationStrategy.METHOD_HANDLE, false, false, null));
+    }
+
+    @Test
+    public void checkIfConstructionPlanIsInvalidatedAfterCombinedRegisterChanged()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register1 = new Register(RegisterPriority.HIGHEST);
+        Register register = new Register(register1);
+        TestClass provider = new TestClass(1);
+        register.register(TestClass.class, provider);
+
+        TestCls testCls = ConstructorResolver.initClass(TestCls.class, register);
+        Assertions.assertEquals(provider, testCls.testClass);
+        Assertions.assertNull(testCls.constructionClass);
+
+        ConstructionClass constructionClass = new ConstructionClass(provider);
+        register1.register(ConstructionClass.class, constructionClass);
+        Assertions.assertNull(
+                ConstructionPlanCache.of(TestCls.class)
+                        .find(new Register[]{register}, true, InstantiationStrategy.REFLECTION, false, false, null)
+        );
+
+        testCls = ConstructorResolver.initClass(TestCls.class, register);
+        Assertions.assertEquals(constructionClass, testCls.constructionClass);
+
+        register1.unregister(ConstructionClass.class);
+
+        testCls = ConstructorResolver.initClass(TestCls.class, register);
+        Assertions.assertNull(testCls.constructionClass);
+    }
+
+    @Test
+    public void checkIfConstructionIsInitializedWithMethodHandle()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        TestClass provider = new TestClass(1);
+        ConstructionClass constructionClass = new ConstructionClass(provider);
+        register.register(TestClass.class, provider);
+        register.register(ConstructionClass.class, constructionClass);
+
+        TestCls testCls = ConstructorResolver.constructClass(TestCls.class)
+                .setRegisters(register)
+                .setInstantiationStrategy(InstantiationStrategy.METHOD_HANDLE)
+                .initClass();
+
+        Assertions.assertEquals(provider, testCls.testClass);
+        Assertions.assertEquals(constructionClass, testCls.constructionClass);
+    }
+
+    @Test
+    public void checkIfMethodHandleWrapsConstructorException() {
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass(-1));
+
+        InvocationTargetException exception = Assertions.assertThrowsExactly(
+                InvocationTargetException.class,
+                () -> ConstructorResolver.constructClass(FailingCls.class)
+                        .setRegisters(register)
+                        .setInstantiationStrategy(InstantiationStrategy.METHOD_HANDLE)
+                        .initClass()
+        );
+        Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    public void checkIfConstructionIsInitializedWithHiddenClass()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        TestClass provider = new TestClass(1);
+        register.registerScoped(TestClass.class, () -> provider);
+        register.register(
+                Exporter.class,
+                (IdentifiersBuilder<Exporter, Class<? extends Exporter>> settings) -> settings
+                        .addIdentifier(CarOneExporter.class, new CarOneExporter())
+                        .addIdentifier(CarTwoExporter.class, new CarTwoExporter())
+        );
+
+        Constructor<?> constructor = PrivateCls.class.getDeclaredConstructor(TestClass.class, Exporter.class);
+        constructor.setAccessible(true);
+        Instantiator instantiator = HiddenClassInstantiator.create(
+                constructor,
+                new TypeProvider<?, ?>[]{
+                        register.getTypeProvider(TestClass.class, false),
+                        register.getTypeProvider(Exporter.class, false)
+                }
+        );
+        Assertions.assertInstanceOf(HiddenClassInstantiator.class, instantiator);
+        Assertions.assertInstanceOf(PrivateCls.class, instantiator.newInstance(new Object[]{CarTwoExporter.class}));
+
+        PrivateCls privateCls = ConstructorResolver.constructClass(PrivateCls.class)
+                .setRegisters(register)
+                .setIdentifiers(CarOneExporter.class)
+                .setInstantiationStrategy(InstantiationStrategy.HIDDEN_CLASS)
+                .initClass();
+
+        Assertions.assertEquals(provider, privateCls.testClass);
+        Assertions.assertInstanceOf(CarOneExporter.class, privateCls.exporter);
+    }
+
+    @Test
+    public void checkIfHiddenClassWrapsConstructorException() {
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass(-1));
+
+        InvocationTargetException exception = Assertions.assertThrowsExactly(
+                InvocationTargetException.class,
+                () -> ConstructorResolver.constructClass(FailingCls.class)
+                        .setRegisters(register)
+                        .setInstantiationStrategy(InstantiationStrategy.HIDDEN_CLASS)
+                        .initClass()
+        );
+        Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    public void checkIfHiddenClassDoesNotWrapProviderException() {
+        Register register = new Register();
+        register.register(
+                Exporter.class,
+                (IdentifiersBuilder<Exporter, Class<? extends Exporter>> settings) -> settings
+                        .addIdentifier(CarOneExporter.class, new CarOneExporter())
+        );
+
+        Assertions.assertThrowsExactly(
+                ProviderException.class,
+                () -> ConstructorResolver.constructClass(CarExporter.class)
+                        .setRegisters(register)
+                        .setNeedAnnotation(false)
+                        .setIdentifiers(CarTwoExporter.class)
+                        .setInstantiationStrategy(InstantiationStrategy.HIDDEN_CLASS)
+                        .initClass()
+        );
+    }
+
+    @Test
+    public void checkIfDependenciesAreConstructed()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        TestClass provider = new TestClass(1);
+        register.register(TestClass.class, provider);
+        Register[] registers = {register};
+
+        Car car = ConstructorResolver.constructClass(Car.class)
+                .setRegisters(register)
+                .setConstructDependencies(true)
+                .initClass();
+
+        Assertions.assertEquals(provider, car.engine.testClass);
+        Assertions.assertNotNull(car.wheel);
+
+        ConstructionPlan constructionPlan = ConstructionPlanCache.of(Car.class)
+                .find(registers, true, InstantiationStrategy.REFLECTION, true, false, null);
+        Assertions.assertNotNull(constructionPlan);
+
+        Car car2 = ConstructorResolver.constructClass(Car.class)
+                .setRegisters(register)
+                .setConstructDependencies(true)
+                .initClass();
+
+        Assertions.assertNotSame(car.engine, car2.engine);
+        Assertions.assertSame(
+                constructionPlan,
+                ConstructionPlanCache.of(Car.class)
+                        .find(registers, true, InstantiationStrategy.REFLECTION, true, false, null)
+        );
+        Assertions.assertEquals(0, ConstructorResolver.getCachedPlanCount(Engine.class));
+    }
+
+    @Test
+    public void checkIfDependenciesAreNotConstructedByDefault() {
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass(1));
+
+        Assertions.assertThrowsExactly(
+                ConstructorException.class,
+                () -> ConstructorResolver.initClass(Car.class, register)
+        );
+    }
+
+    @Test
+    public void checkIfIdentifiersArePassedToDependencies()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        register.register(
+                Fuel.class,
+                (IdentifiersBuilder<Fuel, String> settings) -> settings
+                        .addIdentifier("diesel", new Diesel())
+                        .addIdentifier("petrol", new Petrol())
+        );
+
+        for (InstantiationStrategy instantiationStrategy : InstantiationStrategy.values()) {
+            Garage dieselGarage = ConstructorResolver.constructClass(Garage.class)
+                    .setRegisters(register)
+                    .setConstructDependencies(true)
+                    .setInstantiationStrategy(instantiationStrategy)
+                    .setIdentifiers("diesel")
+                    .initClass();
+            Garage petrolGarage = ConstructorResolver.constructClass(Garage.class)
+                    .setRegisters(register)
+                    .setConstructDependencies(true)
+                    .setInstantiationStrategy(instantiationStrategy)
+                    .setIdentifiers("petrol")
+                    .initClass();
+
+            Assertions.assertInstanceOf(Diesel.class, dieselGarage.lorry.motor.fuel);
+            Assertions.assertInstanceOf(Petrol.class, petrolGarage.lorry.motor.fuel);
+        }
+    }
+
+    @Test
+    public void checkIfPlatformTypesAreNotConstructed() {
+        Assertions.assertThrowsExactly(
+                ConstructorException.class,
+                () -> ConstructorResolver.constructClass(SqlFailureHandler.class)
+                        .setRegisters(new Register())
+                        .setConstructDependencies(true)
+                        .initClass()
+        );
+    }
+
+    @Test
+    public void checkIfAssignableTypesAreResolved()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        register.register(Diesel.class, new Diesel());
+
+        Assertions.assertThrowsExactly(
+                ConstructorException.class,
+                () -> ConstructorResolver.initClass(Truck.class, register)
+        );
+
+        Truck truck = ConstructorResolver.constructClass(Truck.class)
+                .setRegisters(register)
+                .setResolveAssignableTypes(true)
+                .initClass();
+        Assertions.assertInstanceOf(Diesel.class, truck.fuel);
+
+        register.register(Petrol.class, new Petrol());
+        Assertions.assertThrowsExactly(
+                ConstructorException.class,
+                () -> ConstructorResolver.constructClass(Truck.class)
+                        .setRegisters(register)
+                        .setResolveAssignableTypes(true)
+                        .initClass()
+        );
+    }
+
+    @Test
+    public void checkIfDependencyCycleIsDetected() {
+        ConstructorException exception = Assertions.assertThrowsExactly(
+                ConstructorException.class,
+                () -> ConstructorResolver.constructClass(CycleA.class)
+                        .setRegisters(new Register())
+                        .setConstructDependencies(true)
+                        .initClass()
+        );
+
+        Assertions.assertTrue(exception.getMessage().contains("CycleA -> CycleB -> CycleA"));
+    }
+
+    @Test
+    public void checkIfParametersAreResolvedConcurrently()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+        Register register = new Register();
+        register.registerScoped(TestClass.class, () -> new TestClass(awaitOthers(latch) ? 1 : -1));
+        register.registerScoped(Wheel.class, () -> awaitOthers(latch) ? new Wheel() : null);
+
+        try {
+            Car car = ConstructorResolver.constructClass(Car.class)
+                    .setRegisters(register)
+                    .setConstructDependencies(true)
+                    .setParameterExecutor(executor)
+                    .initClass();
+
+            Assertions.assertEquals(1, car.engine.testClass.i);
+            Assertions.assertNotNull(car.wheel);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void checkIfFirstParameterFailureIsThrown() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Register register = new Register();
+        register.registerScoped(Engine.class, () -> {
+            throw new IllegalStateException("engine");
+        });
+        register.registerScoped(Wheel.class, () -> {
+            throw new IllegalArgumentException("wheel");
+        });
+
+        try {
+            IllegalStateException exception = Assertions.assertThrowsExactly(
+                    IllegalStateException.class,
+                    () -> ConstructorResolver.constructClass(Car.class)
+                            .setRegisters(register)
+                            .setParameterExecutor(executor)
+                            .initClass()
+            );
+            Assertions.assertEquals("engine", exception.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void checkIfConstructorsAreCheckedWithExecutionPolicy()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        AtomicInteger submittedTasks = new AtomicInteger();
+        Executor executor = command -> {
+            submittedTasks.incrementAndGet();
+            executorService.execute(command);
+        };
+        Register register = new Register();
+        TestClass provider = new TestClass(1);
+        register.register(TestClass.class, provider);
+        register.register(ConstructionClass.class, new ConstructionClass(provider));
+
+        try {
+            TestCls testCls = ConstructorResolver.constructClass(TestCls.class)
+                    .setRegisters(register)
+                    .setExecutionPolicy(ExecutionPolicy.parallel(executor, 2))
+                    .initClass();
+
+            Assertions.assertNotNull(testCls.constructionClass);
+            Assertions.assertEquals(1, submittedTasks.get());
+        } finally {
+            executorService.shutdown();
+        }
+
+        Assertions.assertThrowsExactly(IllegalArgumentException.class, () -> ExecutionPolicy.parallel(executor, 1));
+    }
+
+    @Test
+    public void checkIfFailureOfCallingThreadIsKeptByExecutionPolicy() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Thread caller = Thread.currentThread();
+
+        try {
+            IllegalStateException exception = Assertions.assertThrowsExactly(
+                    IllegalStateException.class,
+                    () -> ExecutionPolicy.parallel(executor, 2).test(new String[]{"forked", "caller"}, element -> {
+                        throw new IllegalStateException(Thread.currentThread() == caller ? "caller" : "forked");
+                    })
+            );
+
+            Assertions.assertEquals("caller", exception.getMessage());
+            Assertions.assertEquals(1, exception.getSuppressed().length);
+            Assertions.assertEquals("forked", exception.getSuppressed()[0].getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static boolean awaitOthers(CountDownLatch latch) {
+        latch.countDown();
+
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
     public static class TestClass {
         public int i;
@@ -389,6 +785,113 @@ public class ConstructorResolverTests {
 
     }
 
+    public static final class PrivateCls {
+        private final TestClass testClass;
+        private final Exporter exporter;
+
+        @ConstructorResolving
+        private PrivateCls(TestClass testClass, Exporter exporter) {
+            this.testClass = testClass;
+            this.exporter = exporter;
+        }
+    }
+
+    public static final class FailingCls {
+        @ConstructorResolving
+        public FailingCls(TestClass testClass) {
+            throw new IllegalArgumentException("%d is not a valid value.".formatted(testClass.i));
+        }
+    }
+
+    public static final class Engine {
+        private final TestClass testClass;
+
+        @ConstructorResolving
+        public Engine(TestClass testClass) {
+            this.testClass = testClass;
+        }
+    }
+
+    public static final class Wheel {
+    }
+
+    public static final class Car {
+        private final Engine engine;
+        private final Wheel wheel;
+
+        @ConstructorResolving
+        public Car(Engine engine, Wheel wheel) {
+            this.engine = engine;
+            this.wheel = wheel;
+        }
+    }
+
+    public interface Fuel {
+
+    }
+
+    public static final class Diesel implements Fuel {
+
+    }
+
+    public static final class Petrol implements Fuel {
+
+    }
+
+    public static final class Truck {
+        private final Fuel fuel;
+
+        @ConstructorResolving
+        public Truck(Fuel fuel) {
+            this.fuel = fuel;
+        }
+    }
+
+    public static final class Motor {
+        private final Fuel fuel;
+
+        @ConstructorResolving
+        public Motor(Fuel fuel) {
+            this.fuel = fuel;
+        }
+    }
+
+    public static final class Lorry {
+        private final Motor motor;
+
+        @ConstructorResolving
+        public Lorry(Motor motor) {
+            this.motor = motor;
+        }
+    }
+
+    public static final class Garage {
+        private final Lorry lorry;
+
+        @ConstructorResolving
+        public Garage(Lorry lorry) {
+            this.lorry = lorry;
+        }
+    }
+
+    public static final class SqlFailureHandler {
+        @ConstructorResolving
+        public SqlFailureHandler(java.sql.SQLException exception) {
+        }
+    }
+
+    public static final class CycleA {
+        @ConstructorResolving
+        public CycleA(CycleB cycleB) {
+        }
+    }
+
+    public static final class CycleB {
+        @ConstructorResolving
+        public CycleB(CycleA cycleA) {
+        }
+    }
+
     public static class CustomTypeProvider<T, P extends T> extends TypeProvider<T, CustomType<P>> {
 
         public CustomTypeProvider(Class<T> typeCls, CustomType<P> provider) {
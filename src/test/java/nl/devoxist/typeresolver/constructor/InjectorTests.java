@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.constructor;
+
+import nl.devoxist.typeresolver.providers.builders.IdentifiersBuilder;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.settings.ConstructionSettings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class InjectorTests {
+
+    @Test
+    public void checkIfInjectorConstructsClass()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        ConstructorResolverTests.TestClass provider = new ConstructorResolverTests.TestClass(1);
+        register.register(ConstructorResolverTests.TestClass.class, provider);
+
+        Injector injector = Injector.of(register);
+        ConstructorResolverTests.TestCls testCls = injector.create(ConstructorResolverTests.TestCls.class);
+
+        Assertions.assertEquals(provider, testCls.testClass);
+        Assertions.assertNull(testCls.constructionClass);
+
+        ConstructionPlan constructionPlan = injector.getPlan(ConstructorResolverTests.TestCls.class);
+        Assertions.assertNotNull(constructionPlan);
+
+        injector.create(ConstructorResolverTests.TestCls.class);
+        Assertions.assertSame(constructionPlan, injector.getPlan(ConstructorResolverTests.TestCls.class));
+    }
+
+    @Test
+    public void checkIfInjectorFollowsChangedRegisters()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register1 = new Register();
+        Register register2 = new Register();
+        ConstructorResolverTests.TestClass provider = new ConstructorResolverTests.TestClass(1);
+        register1.register(ConstructorResolverTests.TestClass.class, provider);
+
+        Injector injector = Injector.of(register1, register2);
+        Assertions.assertNull(injector.create(ConstructorResolverTests.TestCls.class).constructionClass);
+
+        ConstructorResolverTests.ConstructionClass constructionClass =
+                new ConstructorResolverTests.ConstructionClass(provider);
+        register2.register(ConstructorResolverTests.ConstructionClass.class, constructionClass);
+
+        Assertions.assertEquals(
+                constructionClass,
+                injector.create(ConstructorResolverTests.TestCls.class).constructionClass
+        );
+    }
+
+    @Test
+    public void checkIfInjectorSettingsAreCopied()
+            throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        Register register = new Register();
+        register.register(
+                ConstructorResolverTests.Exporter.class,
+                (IdentifiersBuilder<ConstructorResolverTests.Exporter, Class<?>> settings) -> settings
+                        .addIdentifier(ConstructorResolverTests.CarOneExporter.class,
+                                       new ConstructorResolverTests.CarOneExporter())
+                        .addIdentifier(ConstructorResolverTests.CarTwoExporter.class,
+                                       new ConstructorResolverTests.CarTwoExporter())
+        );
+
+        ConstructionSettings constructionSettings = new ConstructionSettings();
+        constructionSettings.setRegisters(register);
+        constructionSettings.setNeedAnnotation(false);
+        constructionSettings.setIdentifiers(ConstructorResolverTests.CarOneExporter.class);
+
+        Injector injector = new Injector(constructionSettings);
+        constructionSettings.setIdentifiers(ConstructorResolverTests.CarTwoExporter.class);
+
+        Assertions.assertInstanceOf(
+                ConstructorResolverTests.CarOneExporter.class,
+                injector.create(ConstructorResolverTests.CarExporter.class).exporter()
+        );
+        Assertions.assertInstanceOf(
+                ConstructorResolverTests.CarTwoExporter.class,
+                injector.create(
+                        ConstructorResolverTests.CarExporter.class,
+                        ConstructorResolverTests.CarTwoExporter.class
+                ).exporter()
+        );
+        Assertions.assertArrayEquals(
+                new Object[]{ConstructorResolverTests.CarOneExporter.class},
+                injector.getConstructionSettings().getIdentifiers()
+        );
+    }
+
+    @Test
+    public void checkIfInjectorIsThreadSafe() throws Exception {
+        Register register = new Register();
+        register.registerScoped(
+                ConstructorResolverTests.TestClass.class,
+                () -> new ConstructorResolverTests.TestClass(1)
+        );
+
+        Injector injector = Injector.of(register);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<ConstructorResolverTests.TestCls>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> injector.create(ConstructorResolverTests.TestCls.class)));
+            }
+
+            for (Future<ConstructorResolverTests.TestCls> future : futures) {
+                Assertions.assertEquals(1, future.get().testClass.i);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
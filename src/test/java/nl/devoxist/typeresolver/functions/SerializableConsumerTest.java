@@ -43,4 +43,14 @@ public class SerializableConsumerTest {
 
         Assertions.assertEquals(Map.class, consumer.getConsumerCls());
     }
+
+    @Test
+    public void getSameClassForEachInstanceOfLambda() {
+        for (int i = 0; i < 3; i++) {
+            Class<?> typeCls = i == 0 ? Class.class : Register.class;
+            SerializableConsumer<Register> consumer = register -> register.unregister(typeCls);
+
+            Assertions.assertEquals(Register.class, consumer.getConsumerCls());
+        }
+    }
 }
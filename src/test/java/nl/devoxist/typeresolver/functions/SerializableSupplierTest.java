@@ -52,4 +52,25 @@ public class SerializableSupplierTest {
 
         Assertions.assertEquals(Map.class, supplier.getSupplierClass());
     }
+
+    @Test
+    public void getSameClassForEachInstanceOfLambda() {
+        for (RegisterPriority priority : RegisterPriority.values()) {
+            SerializableSupplier<Register> supplier = () -> new Register(priority);
+
+            Assertions.assertEquals(Register.class, supplier.getSupplierClass());
+        }
+    }
+
+    @Test
+    public void getClassFailsWithoutLambda() {
+        SerializableSupplier<Register> supplier = new SerializableSupplier<>() {
+            @Override
+            public Register get() {
+                return new Register();
+            }
+        };
+
+        Assertions.assertThrows(RuntimeException.class, supplier::getSupplierClass);
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.management;
+
+import nl.devoxist.typeresolver.metrics.ResolutionMetrics;
+import nl.devoxist.typeresolver.register.Register;
+import nl.devoxist.typeresolver.register.RegisterPriority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.util.List;
+
+public class RegisterManagementTests {
+
+    @Test
+    public void checkIfMBeanExposesRegister() throws Exception {
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        Register combined = new Register(RegisterPriority.HIGH);
+        combined.register(TestClass.class, new TestClass());
+
+        Register register = new Register(RegisterPriority.LOW, combined);
+        register.register(OtherClass.class, new OtherClass());
+
+        ObjectName objectName = RegisterManagement.registerMBean(register, "test", mBeanServer);
+
+        Assertions.assertEquals(RegisterManagement.getObjectName("test"), objectName);
+        Assertions.assertNotNull(register.getMetrics());
+
+        register.getInitProvider(TestClass.class, true);
+        register.getInitProvider(TestClass.class, true);
+        register.getInitProvider(OtherClass.class);
+
+        Assertions.assertEquals(1, mBeanServer.getAttribute(objectName, "RegisteredTypeCount"));
+        Assertions.assertEquals("LOW", mBeanServer.getAttribute(objectName, "Priority"));
+        Assertions.assertEquals(
+                List.of("HIGH", "LOW"),
+                List.of((String[]) mBeanServer.getAttribute(objectName, "MergedRegisterPriorities"))
+        );
+
+        TabularData lookupCounts = (TabularData) mBeanServer.getAttribute(objectName, "LookupCounts");
+        CompositeData testClassCount = lookupCounts.get(new Object[]{TestClass.class.getName()});
+
+        Assertions.assertEquals(2, lookupCounts.size());
+        Assertions.assertEquals(2L, testClassCount.get("value"));
+
+        CompositeData[] slowestLookups = (CompositeData[]) mBeanServer.getAttribute(objectName, "SlowestLookups");
+
+        Assertions.assertEquals(2, slowestLookups.length);
+
+        mBeanServer.invoke(objectName, "resetStatistics", null, null);
+
+        TabularData resetLookupCounts = (TabularData) mBeanServer.getAttribute(objectName, "LookupCounts");
+
+        Assertions.assertTrue(resetLookupCounts.isEmpty());
+
+        mBeanServer.unregisterMBean(objectName);
+
+        Assertions.assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @Test
+    public void checkIfStatisticsAreReusedWithinRefreshInterval() {
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass());
+        register.setMetrics(new ResolutionMetrics());
+
+        RegisterStatistics statistics = new RegisterStatistics(register, register.getMetrics(), Long.MAX_VALUE);
+
+        register.getInitProvider(TestClass.class);
+
+        Assertions.assertEquals(1L, statistics.getLookupCounts().get(TestClass.class.getName()));
+
+        register.getInitProvider(TestClass.class);
+
+        Assertions.assertEquals(1L, statistics.getLookupCounts().get(TestClass.class.getName()));
+
+        statistics.resetStatistics();
+
+        Assertions.assertFalse(statistics.getLookupCounts().containsKey(TestClass.class.getName()));
+    }
+
+    public static class TestClass {
+    }
+
+    public static class OtherClass {
+    }
+}
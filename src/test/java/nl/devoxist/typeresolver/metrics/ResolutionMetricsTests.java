@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.metrics;
+
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.register.Register;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+public class ResolutionMetricsTests {
+
+    @Test
+    public void checkIfHistogramHasBucketsOfPowersOfTwo() {
+        Assertions.assertEquals(0, LatencyHistogram.getBucketIndex(0));
+        Assertions.assertEquals(1, LatencyHistogram.getBucketIndex(1));
+        Assertions.assertEquals(2, LatencyHistogram.getBucketIndex(2));
+        Assertions.assertEquals(2, LatencyHistogram.getBucketIndex(3));
+        Assertions.assertEquals(11, LatencyHistogram.getBucketIndex(1024));
+        Assertions.assertEquals(63, LatencyHistogram.getBucketIndex(Long.MAX_VALUE));
+
+        Assertions.assertEquals(3, HistogramSnapshot.getBucketUpperBound(2));
+        Assertions.assertEquals(Long.MAX_VALUE, HistogramSnapshot.getBucketUpperBound(63));
+    }
+
+    @Test
+    public void checkIfHistogramSnapshotIsCorrect() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(10_000);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        Assertions.assertEquals(100, snapshot.getCount());
+        Assertions.assertEquals(19_900, snapshot.getTotalNanos());
+        Assertions.assertEquals(10_000, snapshot.getMaxNanos());
+        Assertions.assertEquals(199, snapshot.getMeanNanos());
+        Assertions.assertEquals(127, snapshot.getPercentileNanos(50));
+        Assertions.assertEquals(127, snapshot.getPercentileNanos(99));
+        Assertions.assertEquals(10_000, snapshot.getPercentileNanos(100));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentileNanos(101));
+
+        histogram.reset();
+
+        Assertions.assertEquals(0, histogram.snapshot().getCount());
+        Assertions.assertEquals(0, histogram.snapshot().getPercentileNanos(50));
+    }
+
+    @Test
+    public void checkIfLookupsAreRecorded() {
+        ResolutionMetrics metrics = new ResolutionMetrics();
+        Register combined = new Register();
+        combined.register(TestClass.class, new TestClass());
+
+        Register register = new Register(combined);
+        register.setMetrics(metrics);
+
+        register.getInitProvider(TestClass.class, true);
+        register.getInitProvider(TestClass.class, true);
+        Assertions.assertThrows(RegisterException.class, () -> register.getInitProvider(TestClass.class));
+
+        LookupSnapshot lookup = metrics.snapshot().getLookup(TestClass.class);
+
+        Assertions.assertNotNull(lookup);
+        Assertions.assertEquals(TestClass.class, lookup.getType());
+        Assertions.assertEquals(3, lookup.getLookups());
+        Assertions.assertEquals(2, lookup.getHits());
+        Assertions.assertEquals(1, lookup.getMisses());
+        Assertions.assertEquals(2, lookup.getLatency().getCount());
+
+        metrics.reset();
+
+        Assertions.assertNull(metrics.snapshot().getLookup(TestClass.class));
+    }
+
+    @Test
+    public void checkIfFailedInitializationIsNotRecordedAsHit() {
+        ResolutionMetrics metrics = new ResolutionMetrics();
+        Register register = new Register();
+        register.registerScoped(TestClass.class, () -> {
+            throw new IllegalStateException();
+        });
+        register.setMetrics(metrics);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> register.getInitProvider(TestClass.class));
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> register.getInitProviders(List.of(TestClass.class))
+        );
+
+        LookupSnapshot lookup = metrics.snapshot().getLookup(TestClass.class);
+
+        Assertions.assertTrue(lookup == null || lookup.getHits() == 0);
+    }
+
+    @Test
+    public void checkIfLookupsAreNotRecordedWithoutMetrics() {
+        ResolutionMetrics metrics = new ResolutionMetrics();
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass());
+        register.setMetrics(metrics);
+        register.setMetrics(null);
+
+        register.getInitProvider(TestClass.class);
+
+        Assertions.assertNull(register.getMetrics());
+        Assertions.assertTrue(metrics.snapshot().getLookups().isEmpty());
+    }
+
+    @Test
+    public void checkIfConstructionsAreRecorded() throws Exception {
+        ResolutionMetrics metrics = new ResolutionMetrics();
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass());
+
+        ConstructorResolver.setMetrics(metrics);
+        try {
+            ConstructorResolver.initClass(ConstructedCls.class, register);
+            ConstructorResolver.initClass(ConstructedCls.class, register);
+            Assertions.assertThrows(
+                    InvocationTargetException.class,
+                    () -> ConstructorResolver.initClass(FailingCls.class, register)
+            );
+        } finally {
+            ConstructorResolver.setMetrics(null);
+        }
+
+        ConstructionSnapshot construction = metrics.snapshot().getConstruction(ConstructedCls.class);
+        ConstructionSnapshot failedConstruction = metrics.snapshot().getConstruction(FailingCls.class);
+
+        Assertions.assertNotNull(construction);
+        Assertions.assertEquals(2, construction.getConstructions());
+        Assertions.assertEquals(0, construction.getFailures());
+        Assertions.assertEquals(1, construction.getPlansCreated());
+        Assertions.assertNotNull(failedConstruction);
+        Assertions.assertEquals(1, failedConstruction.getConstructions());
+        Assertions.assertEquals(1, failedConstruction.getFailures());
+    }
+
+    public static class TestClass {
+    }
+
+    public static class ConstructedCls {
+        @ConstructorResolving
+        public ConstructedCls(TestClass testClass) {
+        }
+    }
+
+    public static class FailingCls {
+        @ConstructorResolving
+        public FailingCls(TestClass testClass) {
+            throw new IllegalStateException();
+        }
+    }
+}
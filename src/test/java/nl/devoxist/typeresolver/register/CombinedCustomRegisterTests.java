@@ -212,6 +212,198 @@ public class CombinedCustomRegisterTests {
         Assertions.assertTrue(register.hasProvider(TestClass.class, true));
     }
 
+    @Test
+    public void checkIfRegisteredAfterCombining() {
+        Register register2 = new Register(RegisterPriority.LOW);
+        Register register1 = new Register(RegisterPriority.HIGHEST, register2);
+        Register register = new Register(register1);
+        TestCls provider2 = new TestCls(2);
+        TestCls provider1 = new TestCls(1);
+
+        register2.register(TestCls.class, provider2);
+
+        Assertions.assertEquals(provider2, register.getInitProvider(TestCls.class, true));
+        Assertions.assertEquals(provider2, register1.getInitProvider(TestCls.class, true));
+
+        register1.register(TestCls.class, provider1);
+
+        Assertions.assertEquals(provider1, register.getInitProvider(TestCls.class, true));
+        Assertions.assertEquals(provider1, register1.getInitProvider(TestCls.class, true));
+        Assertions.assertEquals(provider2, register2.getInitProvider(TestCls.class, true));
+    }
+
+    @Test
+    public void checkIfUnregisteredAfterCombining() {
+        Register register2 = new Register(RegisterPriority.LOW);
+        TestCls provider2 = new TestCls(2);
+        register2.register(TestCls.class, provider2);
+        Register register1 = new Register(RegisterPriority.HIGHEST);
+        TestCls provider1 = new TestCls(1);
+        register1.register(TestCls.class, provider1);
+        Register register = new Register(register1, register2);
+
+        Assertions.assertEquals(provider1, register.getInitProvider(TestCls.class, true));
+
+        register1.unregister(TestCls.class);
+
+        Assertions.assertEquals(provider2, register.getInitProvider(TestCls.class, true));
+
+        register2.unregister(TestCls.class);
+
+        Assertions.assertFalse(register.hasProvider(TestCls.class, true));
+        Assertions.assertThrowsExactly(RegisterException.class, () -> register.getInitProvider(TestCls.class, true));
+    }
+
+    @Test
+    public void checkIfVersionChangesAfterCombinedRegisterChanged() {
+        Register register1 = new Register(RegisterPriority.HIGHEST);
+        Register register = new Register(register1);
+        long version = register.getVersion();
+        long version1 = register1.getVersion();
+
+        register1.register(TestCls.class, new TestCls(1));
+
+        Assertions.assertNotEquals(version, register.getVersion());
+        Assertions.assertNotEquals(version1, register1.getVersion());
+
+        version = register.getVersion();
+        version1 = register1.getVersion();
+        register.register(TestCls.class, new TestCls(2));
+
+        Assertions.assertNotEquals(version, register.getVersion());
+        Assertions.assertEquals(version1, register1.getVersion());
+    }
+
+    @Test
+    public void checkIfAssignableTypeIsResolved() {
+        Register register1 = new Register(RegisterPriority.LOW);
+        register1.register(JdbcRepository.class, new JdbcRepository(1));
+        Register register = new Register(register1);
+
+        Assertions.assertFalse(register.hasProvider(Repository.class, true));
+        Assertions.assertTrue(register.hasAssignableProvider(Repository.class, true));
+        Assertions.assertTrue(register.hasAssignableProvider(AbstractRepository.class, true));
+        Assertions.assertFalse(register.hasAssignableProvider(Repository.class, false));
+        Assertions.assertFalse(register.hasAssignableProvider(Object.class, true));
+        Assertions.assertEquals(1, register.getAssignableTypeProvider(Repository.class, true).getInitProvider().id());
+        Assertions.assertThrows(
+                RegisterException.class,
+                () -> register.getAssignableTypeProvider(Repository.class, false)
+        );
+
+        register.register(Repository.class, new JdbcRepository(2));
+        Assertions.assertEquals(2, register.getAssignableTypeProvider(Repository.class, true).getInitProvider().id());
+    }
+
+    @Test
+    public void checkIfAssignableTypeIsResolvedByPriority() {
+        Register register1 = new Register(RegisterPriority.HIGHEST);
+        Register register2 = new Register(RegisterPriority.LOWEST);
+        register2.register(JdbcRepository.class, new JdbcRepository(2));
+        Register register = new Register(register1, register2);
+
+        Assertions.assertEquals(2, register.getAssignableTypeProvider(Repository.class, true).getInitProvider().id());
+
+        register1.register(MemoryRepository.class, new MemoryRepository());
+        Assertions.assertInstanceOf(
+                MemoryRepository.class,
+                register.getAssignableTypeProvider(Repository.class, true).getInitProvider()
+        );
+        Assertions.assertInstanceOf(
+                JdbcRepository.class,
+                register.getAssignableTypeProvider(AbstractRepository.class, true).getInitProvider()
+        );
+    }
+
+    @Test
+    public void checkIfAmbiguousAssignableTypeIsNotResolved() {
+        Register register1 = new Register(RegisterPriority.LOWEST);
+        register1.register(JdbcRepository.class, new JdbcRepository(1));
+        Register register = new Register(register1);
+        register.register(JdbcRepository.class, new JdbcRepository(2));
+        register.register(MemoryRepository.class, new MemoryRepository());
+
+        Assertions.assertFalse(register.hasAssignableProvider(Repository.class, true));
+        Assertions.assertThrows(
+                RegisterException.class,
+                () -> register.getAssignableTypeProvider(Repository.class, true)
+        );
+        Assertions.assertTrue(register.hasAssignableProvider(AbstractRepository.class, true));
+    }
+
+    @Test
+    public void checkIfAssignableTypeIsPatchedAfterChanges() {
+        Register register1 = new Register(RegisterPriority.HIGHEST);
+        Register register2 = new Register(RegisterPriority.LOWEST);
+        register2.register(JdbcRepository.class, new JdbcRepository(2));
+        Register register = new Register(register1, register2);
+
+        Assertions.assertEquals(2, register.getAssignableTypeProvider(Repository.class, true).getInitProvider().id());
+
+        register1.register(JdbcRepository.class, new JdbcRepository(1));
+        Assertions.assertEquals(1, register.getAssignableTypeProvider(Repository.class, true).getInitProvider().id());
+        Assertions.assertEquals(1, register1.getAssignableTypeProvider(Repository.class, false).getInitProvider().id());
+
+        register1.register(MemoryRepository.class, new MemoryRepository());
+        Assertions.assertFalse(register.hasAssignableProvider(Repository.class, true));
+        Assertions.assertFalse(register1.hasAssignableProvider(Repository.class, false));
+
+        register1.unregister(JdbcRepository.class);
+        Assertions.assertInstanceOf(
+                MemoryRepository.class,
+                register.getAssignableTypeProvider(Repository.class, true).getInitProvider()
+        );
+        Assertions.assertEquals(
+                2,
+                register.getAssignableTypeProvider(AbstractRepository.class, true).getInitProvider().id()
+        );
+
+        register1.unregister(MemoryRepository.class);
+        register2.unregister(JdbcRepository.class);
+        Assertions.assertFalse(register.hasAssignableProvider(Repository.class, true));
+        Assertions.assertFalse(register.hasAssignableProvider(AbstractRepository.class, true));
+    }
+
+    @Test
+    public void checkIfAssignableTypeIsResolvedInFrozenRegister() {
+        Register register = new Register();
+        register.register(JdbcRepository.class, new JdbcRepository(1));
+        FrozenRegister frozenRegister = register.freeze();
+
+        Assertions.assertTrue(frozenRegister.hasAssignableProvider(Repository.class, false));
+        Assertions.assertEquals(
+                1,
+                frozenRegister.getAssignableTypeProvider(Repository.class, true).getInitProvider().id()
+        );
+    }
+
+    public interface Repository {
+        int id();
+    }
+
+    public static abstract class AbstractRepository implements Repository {
+
+    }
+
+    public static class JdbcRepository extends AbstractRepository {
+        private final int id;
+
+        public JdbcRepository(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int id() {
+            return id;
+        }
+    }
+
+    public static class MemoryRepository implements Repository {
+        @Override
+        public int id() {
+            return 0;
+        }
+    }
 
     public static class TestClass {
 
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.exception.RegisterException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentRegisterTests {
+
+    @Test
+    public void checkIfTypeIsRegistered() {
+        Register register = new ConcurrentRegister();
+        register.register(TestClass.class, new TestClass());
+
+        Assertions.assertTrue(register.hasProvider(TestClass.class));
+        Assertions.assertTrue(register.hasProvider(TestClass.class, true));
+    }
+
+    @Test
+    public void checkIfRegisterIsPutIfAbsent() {
+        Register register = new ConcurrentRegister();
+        TestClass provider = new TestClass();
+
+        Assertions.assertTrue(register.register(TestClass.class, provider));
+        Assertions.assertFalse(register.register(TestClass.class, new TestClass()));
+        Assertions.assertEquals(provider, register.getInitProvider(TestClass.class));
+    }
+
+    @Test
+    public void checkIfUnregisterFail() {
+        Register register = new ConcurrentRegister();
+
+        Assertions.assertThrows(RegisterException.class, () -> register.unregister(TestClass.class));
+    }
+
+    @Test
+    public void checkIfCombinedWithPriority() {
+        Register register1 = new ConcurrentRegister(RegisterPriority.HIGHEST);
+        TestClass provider1 = new TestClass();
+        register1.register(TestClass.class, provider1);
+        Register register = new ConcurrentRegister(register1);
+        TestClass provider = new TestClass();
+        register.register(TestClass.class, provider);
+
+        Assertions.assertEquals(provider, register.getInitProvider(TestClass.class));
+        Assertions.assertEquals(provider1, register.getInitProvider(TestClass.class, true));
+    }
+
+    @Test
+    public void checkIfOnlyOneRegisterWins() throws InterruptedException, ExecutionException {
+        Register register = new ConcurrentRegister();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger registered = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (register.register(TestClass.class, new TestClass())) {
+                        registered.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, registered.get());
+        Assertions.assertTrue(register.hasProvider(TestClass.class, true));
+    }
+
+    @Test
+    public void checkIfCombinedRegisterIsReadDuringWrites() throws InterruptedException, ExecutionException {
+        Register source = new ConcurrentRegister();
+        TestClass provider = new TestClass();
+        source.register(TestClass.class, provider);
+        Register register = new Register(source);
+        List<Object> arrays = new ArrayList<>();
+
+        for (int i = 1; i <= 64; i++) {
+            arrays.add(Array.newInstance(Object.class, new int[i]));
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        try {
+            Future<?> writer = executor.submit(() -> {
+                try {
+                    for (int round = 0; round < 200; round++) {
+                        for (Object array : arrays) {
+                            source.register(array.getClass(), array);
+                        }
+
+                        for (Object array : arrays) {
+                            source.unregister(array.getClass());
+                        }
+                    }
+                } finally {
+                    writing.set(false);
+                }
+            });
+
+            while (writing.get()) {
+                Assertions.assertSame(provider, register.tryGetInitProvider(TestClass.class, true));
+            }
+
+            writer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Object array : arrays) {
+            Assertions.assertFalse(register.hasProvider(array.getClass(), true));
+        }
+    }
+
+    public static class TestClass {
+
+    }
+}
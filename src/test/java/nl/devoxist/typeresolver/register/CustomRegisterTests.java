@@ -22,6 +22,7 @@
 
 package nl.devoxist.typeresolver.register;
 
+import nl.devoxist.typeresolver.exception.ProviderException;
 import nl.devoxist.typeresolver.exception.RegisterException;
 import nl.devoxist.typeresolver.providers.ObjectProvider;
 import nl.devoxist.typeresolver.providers.ScopedProvider;
@@ -31,7 +32,13 @@ import nl.devoxist.typeresolver.providers.builders.TypeProviderBuilder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 public class CustomRegisterTests {
@@ -266,6 +273,45 @@ public class CustomRegisterTests {
 
     }
 
+    @Test
+    public void checkIfOptionalTypeIsFound() {
+        Register combined = new Register();
+        Register register = new Register(combined);
+        TestClass testClass = new TestClass();
+        combined.register(TestClass.class, testClass);
+
+        Assertions.assertNull(register.tryGetInitProvider(TestClass.class));
+        Assertions.assertEquals(testClass, register.tryGetInitProvider(TestClass.class, true));
+        Assertions.assertTrue(register.findInitProvider(TestClass.class).isEmpty());
+        Assertions.assertEquals(Optional.of(testClass), register.findInitProvider(TestClass.class, true));
+
+        combined.unregister(TestClass.class);
+
+        Assertions.assertNull(register.tryGetInitProvider(TestClass.class, true));
+        Assertions.assertTrue(register.findInitProvider(TestClass.class, true).isEmpty());
+    }
+
+    @Test
+    public void checkIfGottenTypeSameTypeWithIdentifiers() {
+        Register register = new Register();
+        CarOneExporter carOneExporter = new CarOneExporter();
+        CarTwoExporter carTwoExporter = new CarTwoExporter();
+        TestClass testClass = new TestClass();
+
+        register.register(
+                Exporter.class,
+                (IdentifiersBuilder<Exporter, Class<? extends Exporter>> settings) -> settings
+                        .addIdentifier(CarOneExporter.class, carOneExporter)
+                        .addIdentifier(CarTwoExporter.class, carTwoExporter)
+        );
+        register.register(TestClass.class, testClass);
+
+        Assertions.assertEquals(carOneExporter, register.getInitProvider(Exporter.class, CarOneExporter.class));
+        Assertions.assertEquals(carTwoExporter, register.getInitProvider(Exporter.class, CarTwoExporter.class));
+        Assertions.assertEquals(testClass, register.getInitProvider(TestClass.class, CarOneExporter.class));
+        Assertions.assertThrows(ProviderException.class, () -> register.getInitProvider(Exporter.class, String.class));
+    }
+
     @Test
     public void getTypeProviderTestFail() {
         Register register = new Register();
@@ -347,6 +393,85 @@ public class CustomRegisterTests {
         Assertions.assertFalse(register.hasProvider(TestClass.class));
     }
 
+    @Test
+    public void checkIfGottenTypesInSameOrder() {
+        Register combined = new Register();
+        Register register = new Register(combined);
+        TestClass testClass = new TestClass();
+        TestClass2 testClass2 = new TestClass2();
+        register.register(TestClass.class, testClass);
+        combined.register(TestClass2.class, testClass2);
+
+        Assertions.assertArrayEquals(
+                new Object[]{testClass2, testClass},
+                register.getInitProviders(true, TestClass2.class, TestClass.class)
+        );
+        Assertions.assertThrows(
+                RegisterException.class,
+                () -> register.getInitProviders(TestClass2.class, TestClass.class)
+        );
+    }
+
+    @Test
+    public void checkIfGottenTypesNotInitializedIfOneIsMissing() {
+        Register register = new Register();
+        AtomicInteger initializations = new AtomicInteger();
+        register.registerScoped(TestClass.class, () -> {
+            initializations.incrementAndGet();
+            return new TestClass();
+        });
+
+        Assertions.assertThrows(
+                RegisterException.class,
+                () -> register.getInitProviders(TestClass.class, TestClass2.class)
+        );
+        Assertions.assertEquals(0, initializations.get());
+    }
+
+    @Test
+    public void checkIfGottenTypesInParallel() {
+        Register register = new Register();
+        TestClass2 testClass2 = new TestClass2();
+        register.registerScoped(TestClass.class, TestClass::new);
+        register.register(TestClass2.class, testClass2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Map<Class<?>, Object> initProviders = register.getInitProviders(
+                    List.of(TestClass.class, TestClass2.class),
+                    settings -> settings.setExecutor(executor)
+            );
+
+            Assertions.assertEquals(List.of(TestClass.class, TestClass2.class), List.copyOf(initProviders.keySet()));
+            Assertions.assertInstanceOf(TestClass.class, initProviders.get(TestClass.class));
+            Assertions.assertSame(testClass2, initProviders.get(TestClass2.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void checkIfExplicitTypeIsRegistered() {
+        Register register = new Register();
+        Supplier<TestClass> supplier = TestClass::new;
+
+        Assertions.assertTrue(register.registerScoped(TestClass.class, TestClass.class, supplier));
+        Assertions.assertTrue(register.registerLazy(TestClass2.class, TestClass2.class, TestClass2::new));
+        Assertions.assertTrue(register.register(
+                Exporter.class,
+                IdentifiersBuilder::new,
+                (IdentifiersBuilder<Exporter, String> settings) -> settings
+                        .addScopedIdentifier("one", CarOneExporter.class, CarOneExporter::new)
+        ));
+
+        Assertions.assertInstanceOf(TestClass.class, register.getInitProvider(TestClass.class));
+        Assertions.assertSame(
+                register.getInitProvider(TestClass2.class),
+                register.getInitProvider(TestClass2.class)
+        );
+        Assertions.assertInstanceOf(CarOneExporter.class, register.getInitProvider(Exporter.class, "one"));
+    }
+
     @Test
     public void checkIfUnregisterFail() {
         Register register = new Register();
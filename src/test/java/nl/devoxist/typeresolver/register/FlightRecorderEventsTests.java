@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nl.devoxist.typeresolver.constructor.ConstructorResolver;
+import nl.devoxist.typeresolver.constructor.ConstructorResolving;
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.providers.builders.IdentifiersBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class FlightRecorderEventsTests {
+
+    @Test
+    public void checkIfEventsAreRecorded() throws Exception {
+        Register combined = new Register(RegisterPriority.HIGH);
+        combined.register(TestClass.class, new TestClass());
+        combined.registerScoped(ScopedClass.class, ScopedClass::new);
+        combined.register(
+                Exporter.class,
+                (IdentifiersBuilder<Exporter, String> settings) -> settings.addIdentifier("one", new Exporter())
+        );
+
+        Register register = new Register(combined);
+        Path file = Files.createTempFile("type-register", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("nl.devoxist.typeresolver.Lookup").withThreshold(Duration.ZERO);
+            recording.enable("nl.devoxist.typeresolver.IdentifierResolution").withThreshold(Duration.ZERO);
+            recording.enable("nl.devoxist.typeresolver.ScopedProvider").withThreshold(Duration.ZERO);
+            recording.enable("nl.devoxist.typeresolver.Construction").withThreshold(Duration.ZERO);
+            recording.start();
+
+            register.getInitProvider(TestClass.class, true);
+            register.getInitProvider(ScopedClass.class, true);
+            register.getInitProvider(Exporter.class, settings -> {
+                settings.useAllRegisters(true);
+                settings.setIdentifiers("one");
+            });
+            Assertions.assertThrows(RegisterException.class, () -> register.getInitProvider(TestClass.class));
+            ConstructorResolver.initClass(ConstructedCls.class, register);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        RecordedEvent lookup = findEvent(events, "nl.devoxist.typeresolver.Lookup", TestClass.class, "FOUND");
+
+        Assertions.assertTrue(lookup.getBoolean("allRegisters"));
+        Assertions.assertTrue(lookup.getString("answeringRegister").startsWith("Register[HIGH]"));
+        Assertions.assertNotNull(findEvent(events, "nl.devoxist.typeresolver.Lookup", TestClass.class, "NOT_FOUND"));
+
+        RecordedEvent identifierResolution =
+                findEvent(events, "nl.devoxist.typeresolver.IdentifierResolution", Exporter.class, "RESOLVED");
+
+        Assertions.assertEquals("[one]", identifierResolution.getString("identifiers"));
+        Assertions.assertNotNull(
+                findEvent(events, "nl.devoxist.typeresolver.ScopedProvider", ScopedClass.class, "SUPPLIED"));
+        Assertions.assertNotNull(
+                findEvent(events, "nl.devoxist.typeresolver.Construction", ConstructedCls.class, "CONSTRUCTED"));
+    }
+
+    private static RecordedEvent findEvent(
+            List<RecordedEvent> events,
+            String name,
+            Class<?> type,
+            String outcome
+    ) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .filter(event -> event.getClass("type").getName().equals(type.getName()))
+                .filter(event -> event.getString("outcome").equals(outcome))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No %s event of %s with %s".formatted(name, type, outcome)));
+    }
+
+    public static class TestClass {
+    }
+
+    public static class ScopedClass {
+    }
+
+    public static class Exporter {
+    }
+
+    public static class ConstructedCls {
+        @ConstructorResolving
+        public ConstructedCls(TestClass testClass) {
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.providers.ObjectProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FrozenRegisterTests {
+
+    @Test
+    public void checkIfTypeIsRegistered() {
+        Register register = new Register();
+        TestClass provider = new TestClass();
+        register.register(TestClass.class, provider);
+
+        FrozenRegister frozenRegister = register.freeze();
+
+        Assertions.assertTrue(frozenRegister.hasProvider(TestClass.class));
+        Assertions.assertFalse(frozenRegister.hasProvider(TestClass2.class));
+        Assertions.assertEquals(provider, frozenRegister.getInitProvider(TestClass.class));
+        Assertions.assertEquals(1, frozenRegister.getTypeProviders().size());
+    }
+
+    @Test
+    public void checkIfEqualPrioritiesResolveTheSameProvider() {
+        for (int i = 0; i < 64; i++) {
+            Register register1 = new Register(RegisterPriority.NORMAL);
+            register1.register(TestClass.class, new TestClass());
+            Register register2 = new Register(RegisterPriority.NORMAL);
+            register2.register(TestClass.class, new TestClass());
+            Register register = new Register(register1, register2);
+
+            FrozenRegister frozenRegister = register.freeze();
+
+            Assertions.assertSame(
+                    register.getInitProvider(TestClass.class, true),
+                    frozenRegister.getInitProvider(TestClass.class, true)
+            );
+        }
+    }
+
+    @Test
+    public void checkIfCombinedWithPriority() {
+        Register register2 = new Register(RegisterPriority.LOW);
+        TestClass2 provider2 = new TestClass2();
+        register2.register(TestClass2.class, provider2);
+        Register register1 = new Register(RegisterPriority.HIGHEST, register2);
+        TestClass provider1 = new TestClass();
+        register1.register(TestClass.class, provider1);
+        Register register = new Register(register1);
+        TestClass provider = new TestClass();
+        register.register(TestClass.class, provider);
+
+        FrozenRegister frozenRegister = register.freeze();
+
+        Assertions.assertEquals(3, frozenRegister.getRegistries().size());
+        Assertions.assertEquals(provider, frozenRegister.getInitProvider(TestClass.class));
+        Assertions.assertEquals(provider1, frozenRegister.getInitProvider(TestClass.class, true));
+        Assertions.assertEquals(provider2, frozenRegister.getInitProvider(TestClass2.class, true));
+        Assertions.assertThrowsExactly(RegisterException.class, () -> frozenRegister.getInitProvider(TestClass2.class));
+        Assertions.assertTrue(
+                frozenRegister.getRegistries().stream().allMatch(FrozenRegister.class::isInstance)
+        );
+    }
+
+    @Test
+    public void checkIfSnapshot() {
+        Register register1 = new Register(RegisterPriority.HIGHEST);
+        Register register = new Register(register1);
+        register.register(TestClass.class, new TestClass());
+
+        FrozenRegister frozenRegister = register.freeze();
+
+        register1.register(TestClass2.class, new TestClass2());
+        register.unregister(TestClass.class);
+
+        Assertions.assertTrue(frozenRegister.hasProvider(TestClass.class));
+        Assertions.assertFalse(frozenRegister.hasProvider(TestClass2.class, true));
+    }
+
+    @Test
+    public void checkIfMutationFails() {
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass());
+        FrozenRegister frozenRegister = register.freeze();
+
+        Assertions.assertThrows(
+                RegisterException.class,
+                () -> frozenRegister.register(TestClass2.class, new TestClass2())
+        );
+        Assertions.assertThrows(RegisterException.class, () -> frozenRegister.registerScoped(
+                TestClass2.class,
+                TestClass2::new
+        ));
+        Assertions.assertThrows(
+                RegisterException.class,
+                () -> frozenRegister.register(new ObjectProvider<>(TestClass2.class, new TestClass2()))
+        );
+        Assertions.assertThrows(RegisterException.class, () -> frozenRegister.unregister(TestClass.class));
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> frozenRegister.getTypeProviders().clear()
+        );
+        Assertions.assertSame(frozenRegister, frozenRegister.freeze());
+    }
+
+    @Test
+    public void checkIfCombinedIntoRegister() {
+        Register register = new Register();
+        TestClass provider = new TestClass();
+        register.register(TestClass.class, provider);
+
+        Register combined = new Register(RegisterPriority.HIGH, register.freeze());
+
+        Assertions.assertEquals(provider, combined.getInitProvider(TestClass.class, true));
+    }
+
+    public static class TestClass {
+
+    }
+
+    public static class TestClass2 {
+
+    }
+}
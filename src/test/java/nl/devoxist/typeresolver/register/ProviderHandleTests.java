@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.providers.builders.IdentifiersBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ProviderHandleTests {
+
+    @Test
+    public void checkIfHandleKeepsTypeProvider() {
+        Register register = new Register();
+        TestClass testClass = new TestClass();
+        register.register(TestClass.class, testClass);
+
+        ProviderHandle<TestClass> handle = register.handle(TestClass.class);
+
+        Assertions.assertEquals(TestClass.class, handle.getType());
+        Assertions.assertSame(testClass, handle.get());
+        Assertions.assertSame(handle.getTypeProvider(), handle.getTypeProvider());
+    }
+
+    @Test
+    public void checkIfHandleCanBeMadeBeforeRegistering() {
+        Register register = new Register();
+        ProviderHandle<TestClass> handle = register.handle(TestClass.class);
+
+        Assertions.assertThrows(RegisterException.class, handle::get);
+
+        TestClass testClass = new TestClass();
+        register.register(TestClass.class, testClass);
+
+        Assertions.assertSame(testClass, handle.get());
+    }
+
+    @Test
+    public void checkIfHandleFollowsChangesOfRegister() {
+        Register register = new Register();
+        register.register(TestClass.class, new TestClass());
+
+        ProviderHandle<TestClass> handle = register.handle(TestClass.class);
+        handle.get();
+
+        register.unregister(TestClass.class);
+
+        Assertions.assertThrows(RegisterException.class, handle::get);
+
+        TestClass testClass = new TestClass();
+        register.register(TestClass.class, testClass);
+
+        Assertions.assertSame(testClass, handle.get());
+    }
+
+    @Test
+    public void checkIfHandleFollowsChangesOfCombinedRegister() {
+        Register combined = new Register(RegisterPriority.HIGH);
+        Register register = new Register(combined);
+        TestClass testClass = new TestClass();
+        register.register(TestClass.class, testClass);
+
+        ProviderHandle<TestClass> handle = register.handle(TestClass.class, true);
+
+        Assertions.assertSame(testClass, handle.get());
+
+        TestClass combinedTestClass = new TestClass();
+        combined.register(TestClass.class, combinedTestClass);
+
+        Assertions.assertSame(combinedTestClass, handle.get());
+    }
+
+    @Test
+    public void checkIfHandleResolvesIdentifiers() {
+        Register register = new Register();
+        TestClass one = new TestClass();
+        TestClass two = new TestClass();
+
+        register.register(
+                TestClass.class,
+                (IdentifiersBuilder<TestClass, String> settings) -> settings
+                        .addIdentifier("one", one)
+                        .addIdentifier("two", two)
+        );
+
+        ProviderHandle<TestClass> handle = register.handle(TestClass.class);
+
+        Assertions.assertSame(one, handle.get("one"));
+        Assertions.assertSame(two, handle.get("two"));
+    }
+
+    public static class TestClass {
+    }
+}
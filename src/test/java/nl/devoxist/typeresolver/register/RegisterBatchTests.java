@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.register;
+
+import nl.devoxist.typeresolver.exception.RegisterException;
+import nl.devoxist.typeresolver.providers.ObjectProvider;
+import nl.devoxist.typeresolver.providers.builders.IdentifiersBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class RegisterBatchTests {
+
+    @Test
+    public void checkIfBatchRegistersAllTypes() {
+        Register register = new Register();
+        TestClass testClass = new TestClass();
+        TestInterface testInterface = new TestImplementation();
+
+        Set<Class<?>> registered = register.batch()
+                .register(TestClass.class, testClass)
+                .registerScoped(TestImplementation.class, TestImplementation::new)
+                .registerLazy(TestRecord.class, () -> new TestRecord(1))
+                .register(
+                        TestInterface.class,
+                        (IdentifiersBuilder<TestInterface, String> settings) -> settings
+                                .addIdentifier("one", testInterface)
+                )
+                .commit();
+
+        Assertions.assertEquals(
+                List.of(TestClass.class, TestImplementation.class, TestRecord.class, TestInterface.class),
+                List.copyOf(registered)
+        );
+        Assertions.assertSame(testClass, register.getInitProvider(TestClass.class));
+        Assertions.assertNotNull(register.getInitProvider(TestImplementation.class));
+        Assertions.assertSame(
+                register.getInitProvider(TestRecord.class),
+                register.getInitProvider(TestRecord.class)
+        );
+        Assertions.assertSame(testInterface, register.getInitProvider(TestInterface.class, "one"));
+    }
+
+    @Test
+    public void checkIfBatchUpdatesIndexesOnce() {
+        Register combined = new Register();
+        Register register = new Register(combined);
+        long version = combined.getVersion();
+        long dependentVersion = register.getVersion();
+
+        combined.registerAll(List.of(
+                new ObjectProvider<>(TestClass.class, new TestClass()),
+                new ObjectProvider<>(TestRecord.class, new TestRecord(1))
+        ));
+
+        Assertions.assertEquals(version + 1, combined.getVersion());
+        Assertions.assertEquals(dependentVersion + 1, register.getVersion());
+        Assertions.assertTrue(register.hasProvider(TestClass.class, true));
+        Assertions.assertTrue(register.hasProvider(TestRecord.class, true));
+    }
+
+    @Test
+    public void checkIfBatchSkipsRegisteredTypes() {
+        Register register = new Register();
+        TestClass testClass = new TestClass();
+        register.register(TestClass.class, testClass);
+
+        TestRecord first = new TestRecord(1);
+        Set<Class<?>> registered = register.batch()
+                .register(TestClass.class, new TestClass())
+                .register(TestRecord.class, first)
+                .register(TestRecord.class, new TestRecord(2))
+                .commit();
+
+        Assertions.assertEquals(Set.of(TestRecord.class), registered);
+        Assertions.assertSame(testClass, register.getInitProvider(TestClass.class));
+        Assertions.assertSame(first, register.getInitProvider(TestRecord.class));
+    }
+
+    @Test
+    public void checkIfInvalidBatchRegistersNothing() {
+        Register register = new Register();
+        long version = register.getVersion();
+
+        RegisterBatch batch = register.batch()
+                .register(TestClass.class, new TestClass())
+                .registerScoped(TestInterface.class, TestImplementation::new)
+                .register(TestClass.class, new TestImplementation());
+
+        Assertions.assertThrows(RegisterException.class, batch::commit);
+        Assertions.assertTrue(register.getTypeProviders().isEmpty());
+        Assertions.assertEquals(version, register.getVersion());
+    }
+
+    @Test
+    public void checkIfParallelBatchKeepsOrder() {
+        Register register = new Register();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        RegisterBatch batch = register.batch().setExecutor(executor);
+
+        for (int i = 0; i < RegisterBatch.PARALLEL_THRESHOLD * 2; i++) {
+            int value = i;
+            batch.registerScoped(TestClass.class, TestClass::new)
+                    .registerLazy(TestRecord.class, () -> new TestRecord(value));
+        }
+
+        try {
+            Assertions.assertEquals(RegisterBatch.PARALLEL_THRESHOLD * 4, batch.size());
+            Assertions.assertEquals(Set.of(TestClass.class, TestRecord.class), batch.commit());
+            Assertions.assertEquals(new TestRecord(0), register.getInitProvider(TestRecord.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void checkIfBatchIsCreatedByCallingThread() {
+        Register register = new Register();
+        RegisterBatch batch = register.batch();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < RegisterBatch.PARALLEL_THRESHOLD * 2; i++) {
+            batch.register(
+                    TestInterface.class,
+                    (IdentifiersBuilder<TestInterface, String> settings) -> {
+                        threads.add(Thread.currentThread());
+                        settings.addIdentifier("one", new TestImplementation());
+                    }
+            );
+        }
+
+        batch.commit();
+
+        Assertions.assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void checkIfFirstFailureOfParallelBatchIsThrown() {
+        Register register = new Register();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        RegisterBatch batch = register.batch().setExecutor(executor);
+
+        for (int i = 0; i < RegisterBatch.PARALLEL_THRESHOLD; i++) {
+            batch.register(TestClass.class, new TestClass());
+        }
+
+        batch.register(TestClass.class, new TestImplementation());
+
+        try {
+            Assertions.assertThrows(RegisterException.class, batch::commit);
+            Assertions.assertTrue(register.getTypeProviders().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void checkIfFrozenRegisterCannotBatch() {
+        FrozenRegister register = new Register().freeze();
+
+        Assertions.assertThrows(RegisterException.class, register::batch);
+        Assertions.assertThrows(RegisterException.class, () -> register.registerAll(List.of()));
+    }
+
+    public interface TestInterface {
+    }
+
+    public static class TestClass {
+    }
+
+    public static class TestImplementation implements TestInterface {
+    }
+
+    public record TestRecord(int value) {
+    }
+}
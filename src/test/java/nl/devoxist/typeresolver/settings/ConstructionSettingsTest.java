@@ -23,6 +23,8 @@
 package nl.devoxist.typeresolver.settings;
 
 import nl.devoxist.typeresolver.TypeRegister;
+import nl.devoxist.typeresolver.constructor.ExecutionPolicy;
+import nl.devoxist.typeresolver.constructor.InstantiationStrategy;
 import nl.devoxist.typeresolver.register.Register;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,11 @@ public class ConstructionSettingsTest {
         Assertions.assertEquals(0, constructionSettings.getIdentifiers().length);
         Assertions.assertEquals(1, constructionSettings.getRegisters().length);
         Assertions.assertEquals(TypeRegister.getRegister(), constructionSettings.getRegisters()[0]);
+        Assertions.assertEquals(InstantiationStrategy.REFLECTION, constructionSettings.getInstantiationStrategy());
+        Assertions.assertFalse(constructionSettings.constructDependencies());
+        Assertions.assertFalse(constructionSettings.resolveAssignableTypes());
+        Assertions.assertNull(constructionSettings.getParameterExecutor());
+        Assertions.assertSame(ExecutionPolicy.sequential(), constructionSettings.getExecutionPolicy());
     }
 
     @Test
@@ -80,4 +87,12 @@ public class ConstructionSettingsTest {
         Assertions.assertEquals(constructionSettings, constructionSettings.getIdentifiers()[0]);
         Assertions.assertNotEquals(object, constructionSettings.getIdentifiers()[0]);
     }
+
+    @Test
+    public void setInstantiationStrategyTest() {
+        ConstructionSettings constructionSettings = new ConstructionSettings();
+        constructionSettings.setInstantiationStrategy(InstantiationStrategy.METHOD_HANDLE);
+
+        Assertions.assertEquals(InstantiationStrategy.METHOD_HANDLE, constructionSettings.getInstantiationStrategy());
+    }
 }
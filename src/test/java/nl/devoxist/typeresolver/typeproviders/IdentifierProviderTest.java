@@ -140,6 +140,23 @@ public class IdentifierProviderTest {
         Assertions.assertThrows(ProviderException.class, typeKeyProvider::getInitProvider);
     }
 
+    @Test
+    public void resolveTest() {
+        IdentifiersBuilder<Exporter, Exporters> identifiersBuilder = new IdentifiersBuilder<>();
+        CarOneExporter carOneExporter = new CarOneExporter();
+        CarTwoExporter carTwoExporter = new CarTwoExporter();
+        identifiersBuilder.addIdentifier(Exporters.CAR_ONE, carOneExporter);
+        identifiersBuilder.addIdentifier(Exporters.CAR_TWO, carTwoExporter);
+
+        IdentifierProvider<Exporter, Exporters> typeKeyProvider = identifiersBuilder.buildProvider(Exporter.class);
+
+        Assertions.assertEquals(carOneExporter, typeKeyProvider.resolve(Exporters.CAR_ONE));
+        Assertions.assertEquals(carTwoExporter, typeKeyProvider.resolve(Exporters.CAR_TWO));
+        Assertions.assertEquals(carTwoExporter, typeKeyProvider.resolve("unknown", Exporters.CAR_TWO));
+        Assertions.assertThrows(ProviderException.class, () -> typeKeyProvider.resolve("unknown"));
+        Assertions.assertThrows(ProviderException.class, typeKeyProvider::getInitProvider);
+    }
+
 
     public enum Exporters {
         CAR_ONE,
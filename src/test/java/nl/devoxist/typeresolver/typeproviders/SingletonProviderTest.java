@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 Devoxist, Dev-Bjorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package nl.devoxist.typeresolver.typeproviders;
+
+import nl.devoxist.typeresolver.providers.SingletonProvider;
+import nl.devoxist.typeresolver.register.Register;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingletonProviderTest {
+
+    @Test
+    public void constructionTest() {
+        AtomicInteger invocations = new AtomicInteger();
+        SingletonProvider<TestClass, TestClass> provider = new SingletonProvider<>(TestClass.class, () -> {
+            invocations.incrementAndGet();
+            return new TestClass();
+        });
+
+        Assertions.assertFalse(provider.isInitialized());
+        Assertions.assertEquals(0, invocations.get());
+
+        TestClass testClass = provider.getInitProvider();
+
+        Assertions.assertTrue(provider.isInitialized());
+        Assertions.assertSame(testClass, provider.getInitProvider());
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void nullInstanceTest() {
+        AtomicInteger invocations = new AtomicInteger();
+        SingletonProvider<TestClass, TestClass> provider = new SingletonProvider<>(TestClass.class, () -> {
+            invocations.incrementAndGet();
+            return null;
+        });
+
+        Assertions.assertNull(provider.getInitProvider());
+        Assertions.assertNull(provider.getInitProvider());
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void failedInitializationTest() {
+        AtomicInteger invocations = new AtomicInteger();
+        SingletonProvider<TestClass, TestClass> provider = new SingletonProvider<>(TestClass.class, () -> {
+            if (invocations.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return new TestClass();
+        });
+
+        Assertions.assertThrowsExactly(IllegalStateException.class, provider::getInitProvider);
+        Assertions.assertFalse(provider.isInitialized());
+        Assertions.assertNotNull(provider.getInitProvider());
+        Assertions.assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void concurrentInitializationTest() throws InterruptedException, ExecutionException {
+        int threads = 8;
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        SingletonProvider<TestClass, TestClass> provider = new SingletonProvider<>(TestClass.class, () -> {
+            invocations.incrementAndGet();
+            return new TestClass();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<TestClass>> futures = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return provider.getInitProvider();
+                }));
+            }
+
+            start.countDown();
+
+            TestClass testClass = futures.get(0).get();
+            for (Future<TestClass> future : futures) {
+                Assertions.assertSame(testClass, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void registerLazyTest() {
+        AtomicInteger invocations = new AtomicInteger();
+        Register register = new Register();
+        register.registerLazy(TestClass.class, () -> {
+            invocations.incrementAndGet();
+            return new TestClass();
+        });
+
+        Assertions.assertEquals(0, invocations.get());
+
+        TestClass testClass = register.getInitProvider(TestClass.class);
+
+        Assertions.assertSame(testClass, register.getInitProvider(TestClass.class));
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    public static class TestClass {
+
+    }
+}